@@ -2,8 +2,10 @@
 
 --tables
 
+CREATE SEQUENCE appointment_id_seq INCREMENT BY 50;
+
 CREATE TABLE appointments (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY DEFAULT nextval('appointment_id_seq'),
     appointment_number VARCHAR(50) NOT NULL UNIQUE,
     patient_id BIGINT NOT NULL,
     patient_name VARCHAR(255) NOT NULL,
@@ -28,11 +30,37 @@ CREATE TABLE appointments (
     is_deleted BOOLEAN NOT NULL DEFAULT FALSE
 );
 
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    event_key VARCHAR(100) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP
+);
+
 --INDEXES
-CREATE INDEX idx_patient_id ON appointments (patient_id);
-CREATE INDEX idx_doctor_id ON appointments (doctor_id);
-CREATE INDEX idx_appointment_time ON appointments (appointment_time);
-CREATE INDEX idx_status ON appointments (status);
+CREATE INDEX idx_appointments_doctor_time_id ON appointments (doctor_id, appointment_time, id) WHERE is_deleted = FALSE;
+CREATE INDEX idx_appointments_patient_time_id ON appointments (patient_id, appointment_time, id) WHERE is_deleted = FALSE;
+CREATE INDEX idx_appointments_department_time_id ON appointments (department, appointment_time, id) WHERE is_deleted = FALSE;
+CREATE INDEX idx_appointments_status_time_id ON appointments (status, appointment_time, id) WHERE is_deleted = FALSE;
+CREATE INDEX idx_appointments_time_id ON appointments (appointment_time, id) WHERE is_deleted = FALSE;
+CREATE INDEX idx_outbox_pending ON outbox_events (next_attempt_at, id) WHERE status = 'PENDING';
+
+--CONSTRAINTS
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE appointments ADD CONSTRAINT excl_appointments_doctor_overlap
+    EXCLUDE USING gist (
+        doctor_id WITH =,
+        tsrange(appointment_time, appointment_time + make_interval(mins => duration_minutes)) WITH &&
+    )
+    WHERE (status <> 'CANCELLED' AND is_deleted = FALSE);
 
 
 --enums
@@ -3,8 +3,10 @@
 -- ============================================================================
 
 -- Create appointments table
+CREATE SEQUENCE IF NOT EXISTS appointment_id_seq INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS appointments (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY DEFAULT nextval('appointment_id_seq'),
     appointment_number VARCHAR(50) UNIQUE NOT NULL,
     patient_id BIGINT NOT NULL,
     patient_name VARCHAR(100) NOT NULL,
@@ -30,15 +32,43 @@ CREATE TABLE IF NOT EXISTS appointments (
 );
 
 -- Create indexes for performance
-CREATE INDEX IF NOT EXISTS idx_patient_id ON appointments(patient_id);
-CREATE INDEX IF NOT EXISTS idx_doctor_id ON appointments(doctor_id);
-CREATE INDEX IF NOT EXISTS idx_appointment_time ON appointments(appointment_time);
-CREATE INDEX IF NOT EXISTS idx_status ON appointments(status);
 CREATE INDEX IF NOT EXISTS idx_appointment_number ON appointments(appointment_number);
 CREATE INDEX IF NOT EXISTS idx_deleted ON appointments(is_deleted);
 
--- Create composite index for overlapping check
-CREATE INDEX IF NOT EXISTS idx_doctor_time ON appointments(doctor_id, appointment_time);
+-- Keyset listings seek on (filter column, appointment_time, id); the doctor index also serves the overlap check
+CREATE INDEX IF NOT EXISTS idx_appointments_doctor_time_id ON appointments (doctor_id, appointment_time, id) WHERE is_deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_appointments_patient_time_id ON appointments (patient_id, appointment_time, id) WHERE is_deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_appointments_department_time_id ON appointments (department, appointment_time, id) WHERE is_deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_appointments_status_time_id ON appointments (status, appointment_time, id) WHERE is_deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_appointments_time_id ON appointments (appointment_time, id) WHERE is_deleted = FALSE;
+
+-- Reject overlapping active bookings for the same doctor, even across service instances
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE appointments DROP CONSTRAINT IF EXISTS excl_appointments_doctor_overlap;
+ALTER TABLE appointments ADD CONSTRAINT excl_appointments_doctor_overlap
+    EXCLUDE USING gist (
+        doctor_id WITH =,
+        tsrange(appointment_time, appointment_time + make_interval(mins => duration_minutes)) WITH &&
+    )
+    WHERE (status <> 'CANCELLED' AND is_deleted = FALSE);
+
+-- Transactional outbox drained by the appointment service relay
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    event_key VARCHAR(100) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_pending ON outbox_events(next_attempt_at, id) WHERE status = 'PENDING';
 
 -- Function to automatically update updated_at timestamp
 CREATE OR REPLACE FUNCTION update_updated_at_column()
@@ -57,7 +87,7 @@ CREATE TRIGGER update_appointments_updated_at
 
 -- Add table comments
 COMMENT ON TABLE appointments IS 'Stores all patient appointment information';
-COMMENT ON COLUMN appointments.appointment_number IS 'Unique appointment identifier in format APT-YEAR-XXXXXXXX';
+COMMENT ON COLUMN appointments.appointment_number IS 'Unique appointment identifier in format APT-YEAR-XXXXXXXXXXXXX (time-ordered id, Crockford base32)';
 COMMENT ON COLUMN appointments.status IS 'Appointment status: BOOKED, CHECKED_IN, CANCELLED, COMPLETED';
 COMMENT ON COLUMN appointments.is_deleted IS 'Soft delete flag - true means logically deleted';
 
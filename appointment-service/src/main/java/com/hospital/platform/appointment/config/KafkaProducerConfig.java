@@ -1,36 +1,48 @@
 package com.hospital.platform.appointment.config;
 
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.retry.backoff.FixedBackOffPolicy;
-import org.springframework.retry.policy.SimpleRetryPolicy;
-import org.springframework.retry.support.RetryTemplate;
 
-import com.hospital.platform.appointment.dto.AppointmentBookedEvent;
+import com.hospital.platform.events.EventContracts;
+import com.hospital.platform.events.codec.FileSchemaRegistry;
+import com.hospital.platform.kafka.KafkaProducerProperties;
+import com.hospital.platform.kafka.ProfiledKafkaTemplates;
 
 @Configuration
 @EnableKafka
 public class KafkaProducerConfig {
 
 	@Bean
-	KafkaTemplate<String, AppointmentBookedEvent> kafkaTemplate(
-			ProducerFactory<String, AppointmentBookedEvent> producerFactory) {
-		return new KafkaTemplate<>(producerFactory);
+	EventContracts eventContracts(
+			@Value("${appointment.kafka.schemas.location:" + EventContracts.DEFAULT_SCHEMA_LOCATION + "}") String location) {
+		return new EventContracts(new FileSchemaRegistry(location));
 	}
 
 	@Bean
-	RetryTemplate kafkaRetryTemplate() {
-		RetryTemplate retryTemplate = new RetryTemplate();
-
-		SimpleRetryPolicy retryPolicy = new SimpleRetryPolicy(3);
-		FixedBackOffPolicy backOffPolicy = new FixedBackOffPolicy();
-		backOffPolicy.setBackOffPeriod(5000); // seconds
+	@ConfigurationProperties(prefix = "appointment.kafka.producer")
+	KafkaProducerProperties kafkaProducerProperties() {
+		return new KafkaProducerProperties();
+	}
 
-		retryTemplate.setRetryPolicy(retryPolicy);
-		retryTemplate.setBackOffPolicy(backOffPolicy);
-		return retryTemplate;
+	/**
+	 * Connection settings come from {@code spring.kafka.producer}; batching,
+	 * compression and in-flight limits from the profile selected for each topic
+	 * family. Values are written with the schema-prefixed binary codec.
+	 */
+	@Bean
+	ProfiledKafkaTemplates profiledKafkaTemplates(KafkaProperties kafkaProperties,
+			KafkaProducerProperties producerProperties, EventContracts eventContracts) {
+		Map<String, Object> config = kafkaProperties.buildProducerProperties(null);
+		config.put(ProducerConfig.ACKS_CONFIG, "all");
+		config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+		config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, (int) producerProperties.getMaxBlock().toMillis());
+		return new ProfiledKafkaTemplates(config, eventContracts.serializer(), producerProperties);
 	}
 }
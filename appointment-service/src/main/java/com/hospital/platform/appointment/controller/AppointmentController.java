@@ -5,15 +5,21 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.hospital.platform.appointment.dto.AppointmentPageResponse;
 import com.hospital.platform.appointment.dto.AppointmentResponse;
+import com.hospital.platform.appointment.dto.AppointmentSearchRequest;
 import com.hospital.platform.appointment.dto.CreateAppointmentRequest;
+import com.hospital.platform.appointment.dto.UpdateAppointmentStatusRequest;
 import com.hospital.platform.appointment.service.AppointmentService;
+import com.hospital.platform.appointment.service.admission.BookingAdmissionController;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +32,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AppointmentController {
 
 	private final AppointmentService appointmentService;
+	private final BookingAdmissionController admissionController;
 
 	@PostMapping
 	@PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'DOCTOR')")
@@ -34,11 +41,23 @@ public class AppointmentController {
 		log.info("Received request to create appointment for patient: {}", request.getPatientId());
 
 		String username = authentication.getName();
-		AppointmentResponse response = this.appointmentService.createAppointment(request, username);
+		// Admitted before the transaction opens, so shed requests never take a connection
+		AppointmentResponse response = this.admissionController.admit(request.getDoctorId(),
+				() -> this.appointmentService.createAppointment(request, username));
 
 		return ResponseEntity.status(HttpStatus.CREATED).body(response);
 	}
 
+	@GetMapping
+	@PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'DOCTOR')")
+	public ResponseEntity<AppointmentPageResponse> listAppointments(@Valid @ModelAttribute AppointmentSearchRequest request) {
+
+		log.info("Received request to list appointments: doctor={} patient={} department={} status={}",
+				request.getDoctorId(), request.getPatientId(), request.getDepartment(), request.getStatus());
+
+		return ResponseEntity.ok(this.appointmentService.listAppointments(request));
+	}
+
 	@GetMapping("/{appointmentId}")
 	@PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'DOCTOR')")
 	public ResponseEntity<AppointmentResponse> getAppointment(
@@ -49,4 +68,15 @@ public class AppointmentController {
 		AppointmentResponse response = this.appointmentService.getAppointment(appointmentId);
 		return ResponseEntity.ok(response);
 	}
-}
\ No newline at end of file
+
+	@PatchMapping("/{appointmentId}/status")
+	@PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'DOCTOR')")
+	public ResponseEntity<AppointmentResponse> updateAppointmentStatus(@PathVariable Long appointmentId,
+			@Valid @RequestBody UpdateAppointmentStatusRequest request, Authentication authentication) {
+
+		log.info("Received request to update status of appointment: {} to {}", appointmentId, request.getStatus());
+
+		AppointmentResponse response = this.appointmentService.updateAppointmentStatus(appointmentId, request, authentication.getName());
+		return ResponseEntity.ok(response);
+	}
+}
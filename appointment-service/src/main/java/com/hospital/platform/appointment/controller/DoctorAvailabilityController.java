@@ -0,0 +1,50 @@
+package com.hospital.platform.appointment.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hospital.platform.appointment.dto.DoctorAvailabilityResponse;
+import com.hospital.platform.appointment.service.DoctorAvailabilityService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/v1/doctors")
+@RequiredArgsConstructor
+@Slf4j
+public class DoctorAvailabilityController {
+
+	private final DoctorAvailabilityService availabilityService;
+
+	@GetMapping("/{doctorId}/availability")
+	@PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'DOCTOR')")
+	public ResponseEntity<DoctorAvailabilityResponse> getAvailability(@PathVariable Long doctorId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+		log.info("Received request for availability of doctor: {} from {} to {}", doctorId, from, to);
+
+		return ResponseEntity.ok(this.availabilityService.getAvailability(doctorId, from, to));
+	}
+
+	@GetMapping("/availability")
+	@PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'DOCTOR')")
+	public ResponseEntity<List<DoctorAvailabilityResponse>> getAvailability(@RequestParam List<Long> doctorIds,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+		log.info("Received request for availability of {} doctors from {} to {}", doctorIds.size(), from, to);
+
+		return ResponseEntity.ok(this.availabilityService.getAvailability(doctorIds, from, to));
+	}
+}
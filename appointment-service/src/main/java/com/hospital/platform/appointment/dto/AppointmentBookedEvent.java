@@ -1,38 +0,0 @@
-package com.hospital.platform.appointment.dto;
-
-import com.fasterxml.jackson.annotation.JsonFormat;
-import jakarta.validation.constraints.*;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
-
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class AppointmentBookedEvent {
-    
-    private String eventId;
-    private String appointmentNumber;
-    private Long appointmentId;
-    private Long patientId;
-    private String patientName;
-    private Long doctorId;
-    private String doctorName;
-    private String department;
-    
-    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
-    private LocalDateTime appointmentTime;
-    
-    private BigDecimal consultationFee;
-    private String reasonForVisit;
-    
-    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
-    private LocalDateTime eventTimestamp;
-    
-    private String createdBy;
-}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.hospital.platform.appointment.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentPageResponse {
+
+	private List<AppointmentSummary> items;
+
+	/** Pass back as {@code cursor} for the next page; null on the last page. */
+	private String nextCursor;
+}
@@ -0,0 +1,47 @@
+package com.hospital.platform.appointment.dto;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class AppointmentSearchRequest {
+
+	private Long doctorId;
+
+	private Long patientId;
+
+	@Size(max = 100, message = "Department must not exceed 100 characters")
+	private String department;
+
+	@Pattern(regexp = "BOOKED|CHECKED_IN|CANCELLED|COMPLETED", message = "Status must be one of: BOOKED, CHECKED_IN, CANCELLED, COMPLETED")
+	private String status;
+
+	/** Inclusive lower bound on the appointment time. */
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	private LocalDateTime from;
+
+	/** Exclusive upper bound on the appointment time. */
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	private LocalDateTime to;
+
+	private String cursor;
+
+	@NotNull(message = "Limit must not be empty")
+	@Min(value = 1, message = "Limit must be at least 1")
+	@Max(value = 200, message = "Limit must not exceed 200")
+	private Integer limit = 50;
+
+	@NotNull(message = "Order must not be empty")
+	@Pattern(regexp = "asc|desc", message = "Order must be asc or desc")
+	private String order = "asc";
+}
@@ -0,0 +1,35 @@
+package com.hospital.platform.appointment.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * List item for appointment listings; the free-text columns stay behind
+ * {@code GET /api/v1/appointments/{appointmentId}}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentSummary {
+
+	private Long id;
+	private String appointmentNumber;
+	private Long patientId;
+	private String patientName;
+	private Long doctorId;
+	private String doctorName;
+	private String department;
+
+	@JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+	private LocalDateTime appointmentTime;
+
+	private Integer durationMinutes;
+	private String status;
+}
@@ -0,0 +1,35 @@
+package com.hospital.platform.appointment.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorAvailabilityResponse {
+
+	private Long doctorId;
+	private Integer slotDurationMinutes;
+	private List<DayAvailability> days;
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class DayAvailability {
+
+		@JsonFormat(pattern = "yyyy-MM-dd")
+		private LocalDate date;
+
+		@JsonFormat(pattern = "HH:mm")
+		private List<LocalTime> freeSlots;
+	}
+}
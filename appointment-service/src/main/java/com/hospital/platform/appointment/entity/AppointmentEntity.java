@@ -14,6 +14,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import lombok.Data;
@@ -24,7 +25,8 @@ import lombok.Data;
 public class AppointmentEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointment_id_seq")
+	@SequenceGenerator(name = "appointment_id_seq", sequenceName = "appointment_id_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(name = "appointment_number", unique = true, nullable = false, length = 50)
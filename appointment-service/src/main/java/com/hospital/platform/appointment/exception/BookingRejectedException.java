@@ -0,0 +1,21 @@
+package com.hospital.platform.appointment.exception;
+
+import java.time.Duration;
+
+/**
+ * A booking shed by admission control before it started; the client should
+ * retry after {@link #getRetryAfter()}.
+ */
+public class BookingRejectedException extends ApplicationException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Duration retryAfter;
+
+	public BookingRejectedException(String scope, Duration retryAfter) {
+		super(ErrorCode.BOOKING_OVERLOADED, "Too many bookings in progress (" + scope + " limit), please retry");
+		this.retryAfter = retryAfter;
+	}
+
+	public Duration getRetryAfter() { return this.retryAfter; }
+}
@@ -8,6 +8,8 @@ public enum ErrorCode {
 	APPOINTMENT_CONFLICT(HttpStatus.CONFLICT, "Appointment time conflict"),
 	INVALID_STATUS_TRANSITION(HttpStatus.BAD_REQUEST, "Invalid status transition"),
 	VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "Validation error"),
+	BOOKING_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "Too many bookings in progress, please retry"),
+	AVAILABILITY_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "Doctor availability is still loading, retry shortly"),
 	UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "Unauthorized"),
 	KAFKA_PUBLISH_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "Failed to publish event to Kafka"),
 	KAFKA_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "Kafka publish timeout"),
@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.kafka.common.KafkaException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
@@ -40,6 +41,28 @@ public class GlobalExceptionHandler {
 				.body(error);
 	}
 
+	@ExceptionHandler(BookingRejectedException.class)
+	public ResponseEntity<ErrorResponse> handleBookingRejected(
+			BookingRejectedException ex) {
+
+		ErrorCode code = ex.getErrorCode();
+
+		ErrorResponse error = ErrorResponse.builder()
+				.timestamp(LocalDateTime.now())
+				.status(code.getHttpStatus().value())
+				.error(code.name())
+				.message(ex.getMessage())
+				.build();
+
+		// Shedding is expected under load; the metric counts it, the log would only add to the load
+		log.debug("Booking shed: {}", ex.getMessage());
+
+		return ResponseEntity
+				.status(code.getHttpStatus())
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+				.body(error);
+	}
+
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<ErrorResponse> handleValidationExceptions(
 			MethodArgumentNotValidException ex) {
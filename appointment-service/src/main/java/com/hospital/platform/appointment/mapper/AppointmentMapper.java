@@ -5,15 +5,21 @@ import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 
-import com.hospital.platform.appointment.dto.AppointmentBookedEvent;
 import com.hospital.platform.appointment.dto.AppointmentResponse;
 import com.hospital.platform.appointment.dto.CreateAppointmentRequest;
-import com.hospital.platform.appointment.entity.AppointmentEntity;
 import com.hospital.platform.appointment.entity.AppointmentEntity.AppointmentStatus;
+import com.hospital.platform.appointment.entity.AppointmentEntity;
+import com.hospital.platform.events.AppointmentBookedEvent;
+import com.hospital.platform.ids.TimeOrderedIdGenerator;
+
+import lombok.RequiredArgsConstructor;
 
 @Component
+@RequiredArgsConstructor
 public class AppointmentMapper {
 
+	private final TimeOrderedIdGenerator idGenerator;
+
 	public AppointmentEntity fromRequest(CreateAppointmentRequest request, String username) {
 
 		AppointmentEntity appointment = new AppointmentEntity();
@@ -78,8 +84,7 @@ public class AppointmentMapper {
 	}
 
 	private String generateAppointmentNumber() {
-		return "APT-" + LocalDateTime.now().getYear() + "-" +
-				UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+		return this.idGenerator.nextReference("APT");
 	}
 
 }
@@ -0,0 +1,82 @@
+package com.hospital.platform.appointment.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * All meters published by the appointment service, resolved once so hot paths
+ * only increment or record. Department-tagged counters are cached up to
+ * {@code appointment.metrics.max-departments}; further departments are counted
+ * under {@code department=other} to keep tag cardinality bounded.
+ */
+@Component
+public class AppointmentMetrics {
+
+	private static final String OTHER_DEPARTMENT = "other";
+
+	private final MeterRegistry meterRegistry;
+	private final int maxDepartments;
+	private final ConcurrentHashMap<String, Counter> bookedByDepartment = new ConcurrentHashMap<>();
+	private final Counter bookedOtherDepartment;
+
+	private final Timer bookingTimer;
+	private final Counter bookingsShedGlobal;
+	private final Counter bookingsShedDoctor;
+
+	public AppointmentMetrics(MeterRegistry meterRegistry,
+			@Value("${appointment.metrics.max-departments:100}") int maxDepartments) {
+		this.meterRegistry = meterRegistry;
+		this.maxDepartments = maxDepartments;
+		this.bookedOtherDepartment = bookedCounter(OTHER_DEPARTMENT);
+
+		this.bookingTimer = Timer.builder("appointment_booking_duration")
+				.description("Time to validate and persist a booking")
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+
+		this.bookingsShedGlobal = bookingsShedCounter("global");
+		this.bookingsShedDoctor = bookingsShedCounter("doctor");
+	}
+
+	public void appointmentBooked(String department) {
+		if (department == null) {
+			this.bookedOtherDepartment.increment();
+			return;
+		}
+
+		Counter counter = this.bookedByDepartment.get(department);
+		if (counter == null) {
+			counter = this.bookedByDepartment.size() < this.maxDepartments
+					? this.bookedByDepartment.computeIfAbsent(department, this::bookedCounter)
+					: this.bookedOtherDepartment;
+		}
+		counter.increment();
+	}
+
+	public Timer bookingTimer() {
+		return this.bookingTimer;
+	}
+
+	public void bookingShed(String scope) {
+		("doctor".equals(scope) ? this.bookingsShedDoctor : this.bookingsShedGlobal).increment();
+	}
+
+	private Counter bookingsShedCounter(String scope) {
+		return Counter.builder("appointment_bookings_shed_total")
+				.description("Bookings rejected by admission control before they started")
+				.tag("scope", scope)
+				.register(this.meterRegistry);
+	}
+
+	private Counter bookedCounter(String department) {
+		return Counter.builder("appointments_booked_total")
+				.tag("department", department)
+				.register(this.meterRegistry);
+	}
+}
@@ -1,15 +1,22 @@
 package com.hospital.platform.appointment.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
+import com.hospital.platform.appointment.dto.AppointmentResponse;
+import com.hospital.platform.appointment.dto.AppointmentSummary;
 import com.hospital.platform.appointment.entity.AppointmentEntity;
+import com.hospital.platform.appointment.service.schedule.ScheduledAppointment;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
 
 @Repository
 public class AppointmentDao {
@@ -18,8 +25,10 @@ public class AppointmentDao {
 	@PersistenceContext
 	private EntityManager em;
 
+	/** Flushes so a doctor overlap rejected by the exclusion constraint surfaces here, not at commit. */
 	public AppointmentEntity save(AppointmentEntity entity) {
 		this.em.persist(entity);
+		this.em.flush();
 		return entity;
 	}
 
@@ -27,9 +36,98 @@ public class AppointmentDao {
 		return this.em.createQuery(
 				"from AppointmentEntity where id = :id and isDeleted = false", AppointmentEntity.class)
 				.setParameter("id", id)
+				.setMaxResults(1)
 				.getResultList().stream().findFirst();
 	}
 
+	/** Read path for lookups: selects the response columns only, with no managed entity. */
+	public Optional<AppointmentResponse> findResponseByAppointmentId(Long id) {
+		String jpql = """
+				SELECT new com.hospital.platform.appointment.dto.AppointmentResponse(
+				    a.id, a.appointmentNumber, a.patientId, a.patientName, a.doctorId, a.doctorName, a.department,
+				    a.appointmentTime, a.durationMinutes, cast(a.status as String), a.consultationFee,
+				    a.reasonForVisit, a.notes, a.cancellationReason, a.cancelledAt, a.checkedInAt, a.completedAt,
+				    a.createdAt, a.updatedAt)
+				FROM AppointmentEntity a
+				WHERE a.id = :id AND a.isDeleted = false
+				""";
+
+		return this.em.createQuery(jpql, AppointmentResponse.class)
+				.setParameter("id", id)
+				.setMaxResults(1)
+				.getResultList().stream().findFirst();
+	}
+
+	/**
+	 * One page of a listing in {@code (appointmentTime, id)} order, starting
+	 * after the given position (or at the start when {@code afterTime} is null).
+	 * The row-value comparison lets PostgreSQL seek straight to the position on
+	 * the matching {@code (filter column, appointment_time, id)} index, so deep
+	 * pages cost the same as the first.
+	 */
+	public List<AppointmentSummary> findPage(AppointmentFilter filter, LocalDateTime afterTime, Long afterId, int limit) {
+		StringBuilder jpql = new StringBuilder("""
+				SELECT new com.hospital.platform.appointment.dto.AppointmentSummary(
+				    a.id, a.appointmentNumber, a.patientId, a.patientName, a.doctorId, a.doctorName, a.department,
+				    a.appointmentTime, a.durationMinutes, cast(a.status as String))
+				FROM AppointmentEntity a
+				WHERE a.isDeleted = false
+				""");
+
+		if (filter.doctorId() != null) {
+			jpql.append("  AND a.doctorId = :doctorId\n");
+		}
+		if (filter.patientId() != null) {
+			jpql.append("  AND a.patientId = :patientId\n");
+		}
+		if (filter.department() != null) {
+			jpql.append("  AND a.department = :department\n");
+		}
+		if (filter.status() != null) {
+			jpql.append("  AND a.status = :status\n");
+		}
+		if (filter.from() != null) {
+			jpql.append("  AND a.appointmentTime >= :from\n");
+		}
+		if (filter.to() != null) {
+			jpql.append("  AND a.appointmentTime < :to\n");
+		}
+		if (afterTime != null) {
+			jpql.append(filter.descending()
+					? "  AND (a.appointmentTime, a.id) < (:afterTime, :afterId)\n"
+					: "  AND (a.appointmentTime, a.id) > (:afterTime, :afterId)\n");
+		}
+		jpql.append(filter.descending()
+				? "ORDER BY a.appointmentTime DESC, a.id DESC"
+				: "ORDER BY a.appointmentTime, a.id");
+
+		TypedQuery<AppointmentSummary> query = this.em.createQuery(jpql.toString(), AppointmentSummary.class);
+		if (filter.doctorId() != null) {
+			query.setParameter("doctorId", filter.doctorId());
+		}
+		if (filter.patientId() != null) {
+			query.setParameter("patientId", filter.patientId());
+		}
+		if (filter.department() != null) {
+			query.setParameter("department", filter.department());
+		}
+		if (filter.status() != null) {
+			query.setParameter("status", filter.status());
+		}
+		if (filter.from() != null) {
+			query.setParameter("from", filter.from());
+		}
+		if (filter.to() != null) {
+			query.setParameter("to", filter.to());
+		}
+		if (afterTime != null) {
+			query.setParameter("afterTime", afterTime);
+			query.setParameter("afterId", afterId);
+		}
+
+		return query.setMaxResults(limit).getResultList();
+	}
+
 	public List<AppointmentEntity> findOverlappingAppointments(
 			Long doctorId,
 			LocalDateTime startTime,
@@ -51,6 +149,7 @@ public class AppointmentDao {
 				.setParameter("doctorId", doctorId)
 				.setParameter("endTime", endTime)
 				.setParameter("earliestPossibleStart", earliestPossibleStart)
+				.setHint(HibernateHints.HINT_READ_ONLY, true)
 				.getResultList();
 
 		return potentialOverlaps.stream()
@@ -62,4 +161,44 @@ public class AppointmentDao {
 				.toList();
 	}
 
+	public List<ScheduledAppointment> findActiveAppointments(Collection<Long> doctorIds, LocalDateTime from,
+			LocalDateTime to) {
+
+		String jpql = """
+				SELECT new com.hospital.platform.appointment.service.schedule.ScheduledAppointment(
+				    a.doctorId, a.id, a.appointmentTime, a.durationMinutes)
+				FROM AppointmentEntity a
+				WHERE a.doctorId IN :doctorIds
+				  AND a.isDeleted = false
+				  AND a.status <> 'CANCELLED'
+				  AND a.appointmentTime >= :from
+				  AND a.appointmentTime < :to
+				""";
+
+		return this.em
+				.createQuery(jpql, ScheduledAppointment.class)
+				.setParameter("doctorIds", doctorIds)
+				.setParameter("from", from)
+				.setParameter("to", to)
+				.getResultList();
+	}
+
+	public Stream<ScheduledAppointment> streamActiveAppointmentsFrom(LocalDateTime from) {
+
+		String jpql = """
+				SELECT new com.hospital.platform.appointment.service.schedule.ScheduledAppointment(
+				    a.doctorId, a.id, a.appointmentTime, a.durationMinutes)
+				FROM AppointmentEntity a
+				WHERE a.isDeleted = false
+				  AND a.status <> 'CANCELLED'
+				  AND a.appointmentTime >= :earliestPossibleStart
+				""";
+
+		return this.em
+				.createQuery(jpql, ScheduledAppointment.class)
+				.setParameter("earliestPossibleStart", from.minusHours(MAX_APPOINTMENT_DURATION_HOURS))
+				.setHint(HibernateHints.HINT_FETCH_SIZE, 1000)
+				.getResultStream();
+	}
+
 }
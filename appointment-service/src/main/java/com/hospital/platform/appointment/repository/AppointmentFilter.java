@@ -0,0 +1,13 @@
+package com.hospital.platform.appointment.repository;
+
+import java.time.LocalDateTime;
+
+import com.hospital.platform.appointment.entity.AppointmentEntity.AppointmentStatus;
+
+/**
+ * Optional filters for appointment listings; null fields are not applied.
+ * {@code from} is inclusive and {@code to} exclusive.
+ */
+public record AppointmentFilter(Long doctorId, Long patientId, String department, AppointmentStatus status,
+		LocalDateTime from, LocalDateTime to, boolean descending) {
+}
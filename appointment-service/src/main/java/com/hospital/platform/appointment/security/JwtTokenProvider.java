@@ -1,63 +0,0 @@
-package com.hospital.platform.appointment.security;
-
-import java.nio.charset.StandardCharsets;
-import java.util.List;
-
-import javax.crypto.SecretKey;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
-
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import lombok.extern.slf4j.Slf4j;
-
-@Component
-@Slf4j
-public class JwtTokenProvider {
-
-	@Value("${jwt.secret}")
-	private String jwtSecret;
-
-	public boolean validateToken(String token) {
-		log.info("validating token");
-		try {
-			Jwts.parser()
-					.verifyWith(getSigningKey())
-					.build()
-					.parseSignedClaims(token);
-			return true;
-		} catch (Exception ex) {
-			log.error("JWT validation error: {}", ex.getMessage());
-		}
-		return false;
-	}
-
-	public String getUsernameFromToken(String token) {
-		Claims claims = Jwts.parser()
-				.verifyWith(getSigningKey())
-				.build()
-				.parseSignedClaims(token)
-				.getPayload();
-
-		return claims.getSubject();
-	}
-
-	@SuppressWarnings("unchecked")
-	public List<String> getRolesFromToken(String token) {
-		Claims claims = Jwts.parser()
-				.verifyWith(getSigningKey())
-				.build()
-				.parseSignedClaims(token)
-				.getPayload();
-
-		return claims.get("roles", List.class);
-	}
-
-	private SecretKey getSigningKey() {
-		log.info("JWT SECRET USED: {}", this.jwtSecret);
-		byte[] keyBytes = this.jwtSecret.getBytes(StandardCharsets.UTF_8);
-		return Keys.hmacShaKeyFor(keyBytes);
-	}
-}
\ No newline at end of file
@@ -1,23 +1,39 @@
 package com.hospital.platform.appointment.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import com.hospital.platform.appointment.dto.AppointmentBookedEvent;
+import com.hospital.platform.appointment.dto.AppointmentPageResponse;
 import com.hospital.platform.appointment.dto.AppointmentResponse;
+import com.hospital.platform.appointment.dto.AppointmentSearchRequest;
+import com.hospital.platform.appointment.dto.AppointmentSummary;
 import com.hospital.platform.appointment.dto.CreateAppointmentRequest;
+import com.hospital.platform.appointment.dto.UpdateAppointmentStatusRequest;
+import com.hospital.platform.appointment.entity.AppointmentEntity.AppointmentStatus;
 import com.hospital.platform.appointment.entity.AppointmentEntity;
 import com.hospital.platform.appointment.exception.ApplicationException;
 import com.hospital.platform.appointment.exception.ErrorCode;
-import com.hospital.platform.appointment.kafka.KafkaProducerService;
 import com.hospital.platform.appointment.mapper.AppointmentMapper;
+import com.hospital.platform.appointment.metrics.AppointmentMetrics;
 import com.hospital.platform.appointment.repository.AppointmentDao;
+import com.hospital.platform.appointment.repository.AppointmentFilter;
+import com.hospital.platform.appointment.service.schedule.DoctorAvailabilityIndex;
+import com.hospital.platform.appointment.service.schedule.DoctorScheduleIndex;
+import com.hospital.platform.events.AppointmentBookedEvent;
+import com.hospital.platform.events.EventTopics;
+import com.hospital.platform.outbox.OutboxWriter;
 
-import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,13 +42,21 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class AppointmentService {
 
+	private static final String DOCTOR_OVERLAP_CONSTRAINT = "excl_appointments_doctor_overlap";
+
 	private final AppointmentDao dao;
-	private final KafkaProducerService kafkaProducerService;
-	private final MeterRegistry meterRegistry;
+	private final OutboxWriter outboxWriter;
+	private final AppointmentMetrics metrics;
 	private final AppointmentMapper mapper;
+	private final DoctorScheduleIndex scheduleIndex;
+	private final DoctorAvailabilityIndex availabilityIndex;
 
 	@Transactional
 	public AppointmentResponse createAppointment(CreateAppointmentRequest request, String username) {
+		return this.metrics.bookingTimer().record(() -> bookAppointment(request, username));
+	}
+
+	private AppointmentResponse bookAppointment(CreateAppointmentRequest request, String username) {
 		log.info("Creating appointment for patient: {} with doctor: {}", request.getPatientId(), request.getDoctorId());
 
 		validateAppointmentTime(request.getAppointmentTime());
@@ -40,47 +64,190 @@ public class AppointmentService {
 		LocalDateTime endTime = request.getAppointmentTime()
 				.plusMinutes(request.getDurationMinutes());
 
-		List<AppointmentEntity> overlapping = this.dao.findOverlappingAppointments(
-				request.getDoctorId(),
-				request.getAppointmentTime(),
-				endTime);
-
-		if (!overlapping.isEmpty()) {
-			log.warn("Overlapping appointment found for doctor: {} at time: {}",
-					request.getDoctorId(), request.getAppointmentTime());
-			throw new ApplicationException(ErrorCode.APPOINTMENT_CONFLICT,
-					"Doctor is not available at the requested time. Overlapping appointment exists.");
-		}
+		ensureDoctorAvailable(request.getDoctorId(), request.getAppointmentTime(), endTime);
 
-		AppointmentEntity savedAppointment = this.dao.save(this.mapper.fromRequest(request, username));
+		AppointmentEntity savedAppointment = saveAppointment(this.mapper.fromRequest(request, username));
+		reserveSlot(savedAppointment, endTime);
 		log.info("Appointment created successfully: {}", savedAppointment.getAppointmentNumber());
 
-		Counter.builder("appointments_booked_total")
-				.tag("department", request.getDepartment())
-				.register(this.meterRegistry)
-				.increment();
+		this.metrics.appointmentBooked(request.getDepartment());
 
 		publishAppointmentBookedEvent(savedAppointment);
 
 		return this.mapper.toResponse(savedAppointment);
 	}
 
+	@Transactional(readOnly = true)
 	public AppointmentResponse getAppointment(Long appointmentId) {
 		log.info("Fetching appointment with ID: {}", appointmentId);
 
+		return this.dao.findResponseByAppointmentId(appointmentId).orElseThrow(() -> new ApplicationException(ErrorCode.APPOINTMENT_NOT_FOUND,
+				"Appointment not found with ID: " + appointmentId));
+	}
+
+	@Transactional(readOnly = true)
+	public AppointmentPageResponse listAppointments(AppointmentSearchRequest request) {
+		AppointmentFilter filter = new AppointmentFilter(
+				request.getDoctorId(),
+				request.getPatientId(),
+				request.getDepartment(),
+				request.getStatus() == null ? null : AppointmentStatus.valueOf(request.getStatus()),
+				request.getFrom(),
+				request.getTo(),
+				"desc".equals(request.getOrder()));
+
+		PagePosition after = request.getCursor() == null || request.getCursor().isBlank()
+				? new PagePosition(null, null)
+				: PagePosition.decode(request.getCursor());
+
+		// One extra row tells whether another page follows
+		int limit = request.getLimit();
+		List<AppointmentSummary> rows = this.dao.findPage(filter, after.appointmentTime(), after.id(), limit + 1);
+		if (rows.size() <= limit) {
+			return AppointmentPageResponse.builder().items(rows).build();
+		}
+
+		List<AppointmentSummary> items = rows.subList(0, limit);
+		AppointmentSummary last = items.get(limit - 1);
+		return AppointmentPageResponse.builder()
+				.items(items)
+				.nextCursor(new PagePosition(last.getAppointmentTime(), last.getId()).encode())
+				.build();
+	}
+
+	@Transactional
+	public AppointmentResponse updateAppointmentStatus(Long appointmentId, UpdateAppointmentStatusRequest request, String username) {
+		log.info("Updating status of appointment {} to {}", appointmentId, request.getStatus());
+
 		AppointmentEntity appointment = this.dao.findByAppointmentId(appointmentId).orElseThrow(() -> new ApplicationException(ErrorCode.APPOINTMENT_NOT_FOUND,
 				"Appointment not found with ID: " + appointmentId));
 
+		AppointmentStatus targetStatus = AppointmentStatus.valueOf(request.getStatus());
+		validateStatusTransition(appointment.getStatus(), targetStatus);
+
+		LocalDateTime now = LocalDateTime.now();
+		switch (targetStatus) {
+			case CHECKED_IN -> appointment.setCheckedInAt(now);
+			case COMPLETED -> appointment.setCompletedAt(now);
+			case CANCELLED -> {
+				appointment.setCancelledAt(now);
+				appointment.setCancellationReason(request.getReason());
+				releaseSlotAfterCommit(appointment);
+			}
+			default -> throw new ApplicationException(ErrorCode.INVALID_STATUS_TRANSITION);
+		}
+
+		appointment.setStatus(targetStatus);
+		appointment.setUpdatedBy(username);
+		log.info("Appointment {} moved to {}", appointment.getAppointmentNumber(), targetStatus);
+
 		return this.mapper.toResponse(appointment);
 	}
 
+	private void validateStatusTransition(AppointmentStatus current, AppointmentStatus target) {
+		boolean allowed = switch (current) {
+			case BOOKED -> target == AppointmentStatus.CHECKED_IN || target == AppointmentStatus.CANCELLED;
+			case CHECKED_IN -> target == AppointmentStatus.COMPLETED || target == AppointmentStatus.CANCELLED;
+			case CANCELLED, COMPLETED -> false;
+		};
+
+		if (!allowed) {
+			throw new ApplicationException(ErrorCode.INVALID_STATUS_TRANSITION,
+					"Cannot move appointment from " + current + " to " + target);
+		}
+	}
+
+	private void ensureDoctorAvailable(Long doctorId, LocalDateTime startTime, LocalDateTime endTime) {
+		// A miss in the index is enough; a hit may be a slot cancelled on another instance,
+		// so it is confirmed by the range scan, as is every check until the index is seeded
+		boolean indexReady = this.scheduleIndex.isReady();
+		if (indexReady && !this.scheduleIndex.hasConflict(doctorId, startTime, endTime)) {
+			return;
+		}
+
+		if (!this.dao.findOverlappingAppointments(doctorId, startTime, endTime).isEmpty()) {
+			log.warn("Overlapping appointment found for doctor: {} at time: {}", doctorId, startTime);
+			throw appointmentConflict();
+		}
+
+		if (indexReady) {
+			int evicted = this.scheduleIndex.evictOverlapping(doctorId, startTime, endTime);
+			log.info("Dropped {} stale schedule slots for doctor: {} at time: {}", evicted, doctorId, startTime);
+		}
+	}
+
+	private AppointmentEntity saveAppointment(AppointmentEntity appointment) {
+		try {
+			return this.dao.save(appointment);
+		} catch (DataIntegrityViolationException ex) {
+			if (ex.getCause() instanceof ConstraintViolationException cve
+					&& DOCTOR_OVERLAP_CONSTRAINT.equals(cve.getConstraintName())) {
+				log.warn("Overlap rejected by database for doctor: {} at time: {}",
+						appointment.getDoctorId(), appointment.getAppointmentTime());
+				throw appointmentConflict();
+			}
+			throw ex;
+		}
+	}
+
+	private void reserveSlot(AppointmentEntity appointment, LocalDateTime endTime) {
+		if (!this.scheduleIndex.tryReserve(appointment.getDoctorId(), appointment.getId(),
+				appointment.getAppointmentTime(), endTime)) {
+			log.warn("Concurrent booking won the slot for doctor: {} at time: {}",
+					appointment.getDoctorId(), appointment.getAppointmentTime());
+			throw appointmentConflict();
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				bookAvailability(appointment, endTime);
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) {
+					releaseSlot(appointment);
+				}
+			}
+		});
+	}
+
+	private void releaseSlotAfterCommit(AppointmentEntity appointment) {
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				releaseSlot(appointment);
+				releaseAvailability(appointment);
+			}
+		});
+	}
+
+	private void releaseSlot(AppointmentEntity appointment) {
+		this.scheduleIndex.release(appointment.getDoctorId(), appointment.getId(), appointment.getAppointmentTime(),
+				appointment.getAppointmentTime().plusMinutes(appointment.getDurationMinutes()));
+	}
+
+	private void bookAvailability(AppointmentEntity appointment, LocalDateTime endTime) {
+		this.availabilityIndex.book(appointment.getDoctorId(), appointment.getId(), appointment.getAppointmentTime(), endTime);
+	}
+
+	private void releaseAvailability(AppointmentEntity appointment) {
+		this.availabilityIndex.release(appointment.getDoctorId(), appointment.getId(), appointment.getAppointmentTime());
+	}
+
+	private static ApplicationException appointmentConflict() {
+		return new ApplicationException(ErrorCode.APPOINTMENT_CONFLICT,
+				"Doctor is not available at the requested time. Overlapping appointment exists.");
+	}
+
 	private void validateAppointmentTime(LocalDateTime appointmentTime) {
 		if (appointmentTime.isBefore(LocalDateTime.now())) {
 			throw new ApplicationException(ErrorCode.VALIDATION_ERROR, "Appointment time cannot be in the past");
 		}
 
-		int hour = appointmentTime.getHour();
-		if (hour < 8 || hour >= 18) {
+		LocalTime time = appointmentTime.toLocalTime();
+		if (time.isBefore(DoctorAvailabilityIndex.OPENS_AT) || !time.isBefore(DoctorAvailabilityIndex.CLOSES_AT)) {
 			throw new ApplicationException(ErrorCode.VALIDATION_ERROR, "Appointments can only be booked between 8:00 AM and 6:00 PM");
 		}
 	}
@@ -88,7 +255,27 @@ public class AppointmentService {
 	private void publishAppointmentBookedEvent(AppointmentEntity appointment) {
 		AppointmentBookedEvent event = this.mapper.fromAppointmentEntity(appointment);
 
-		this.kafkaProducerService.sendAppointmentBookedEvent(event);
+		this.outboxWriter.enqueue(EventTopics.APPOINTMENT_BOOKED, event.appointmentNumber(), event);
 	}
 
+	/** The last row of a page, handed to clients as an opaque cursor. */
+	private record PagePosition(LocalDateTime appointmentTime, Long id) {
+
+		String encode() {
+			return Base64.getUrlEncoder().withoutPadding()
+					.encodeToString((this.appointmentTime + "|" + this.id).getBytes(StandardCharsets.UTF_8));
+		}
+
+		static PagePosition decode(String cursor) {
+			try {
+				String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+				if (parts.length == 2) {
+					return new PagePosition(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+				}
+			} catch (IllegalArgumentException | DateTimeParseException ex) {
+				// reported below
+			}
+			throw new ApplicationException(ErrorCode.VALIDATION_ERROR, "Invalid cursor");
+		}
+	}
 }
\ No newline at end of file
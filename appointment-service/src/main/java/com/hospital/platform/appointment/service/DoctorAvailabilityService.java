@@ -0,0 +1,131 @@
+package com.hospital.platform.appointment.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.hospital.platform.appointment.dto.DoctorAvailabilityResponse;
+import com.hospital.platform.appointment.dto.DoctorAvailabilityResponse.DayAvailability;
+import com.hospital.platform.appointment.exception.ApplicationException;
+import com.hospital.platform.appointment.exception.ErrorCode;
+import com.hospital.platform.appointment.repository.AppointmentDao;
+import com.hospital.platform.appointment.service.schedule.DoctorAvailabilityIndex;
+import com.hospital.platform.appointment.service.schedule.ScheduledAppointment;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class DoctorAvailabilityService {
+
+	public static final int MAX_DOCTORS_PER_QUERY = 100;
+
+	private final DoctorAvailabilityIndex availabilityIndex;
+	private final AppointmentDao dao;
+	private final int bookingAdvanceDays;
+
+	public DoctorAvailabilityService(DoctorAvailabilityIndex availabilityIndex, AppointmentDao dao,
+			@Value("${appointment.booking-advance-days:30}") int bookingAdvanceDays) {
+		this.availabilityIndex = availabilityIndex;
+		this.dao = dao;
+		this.bookingAdvanceDays = bookingAdvanceDays;
+	}
+
+	public DoctorAvailabilityResponse getAvailability(Long doctorId, LocalDate from, LocalDate to) {
+		return getAvailability(List.of(doctorId), from, to).get(0);
+	}
+
+	public List<DoctorAvailabilityResponse> getAvailability(Collection<Long> doctorIds, LocalDate from, LocalDate to) {
+		if (!this.availabilityIndex.isReady()) {
+			throw new ApplicationException(ErrorCode.AVAILABILITY_NOT_READY);
+		}
+		if (doctorIds.isEmpty() || doctorIds.size() > MAX_DOCTORS_PER_QUERY) {
+			throw new ApplicationException(ErrorCode.VALIDATION_ERROR,
+					"Between 1 and " + MAX_DOCTORS_PER_QUERY + " doctor IDs are required");
+		}
+		// An empty element such as doctorIds=1,,2 binds as null
+		if (doctorIds.stream().anyMatch(Objects::isNull)) {
+			throw new ApplicationException(ErrorCode.VALIDATION_ERROR, "Doctor IDs must not be empty");
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		LocalDate today = now.toLocalDate();
+		LocalDate first = from == null || from.isBefore(today) ? today : from;
+		LocalDate last = to == null ? first : to;
+		LocalDate lastBookable = today.plusDays(this.bookingAdvanceDays);
+		if (last.isBefore(first)) {
+			throw new ApplicationException(ErrorCode.VALIDATION_ERROR, "'to' must not be before 'from'");
+		}
+		if (last.isAfter(lastBookable)) {
+			throw new ApplicationException(ErrorCode.VALIDATION_ERROR,
+					"Availability is only published up to " + this.bookingAdvanceDays + " days ahead (" + lastBookable + ")");
+		}
+
+		log.debug("Resolving availability of {} doctors from {} to {}", doctorIds.size(), first, last);
+		reloadStaleDays(doctorIds, first, last);
+
+		int dayCount = (int) ChronoUnit.DAYS.between(first, last) + 1;
+		long[] unavailable = new long[dayCount];
+		for (int d = 0; d < dayCount; d++) {
+			unavailable[d] = this.availabilityIndex.startedSlots(first.plusDays(d), now);
+		}
+
+		List<DoctorAvailabilityResponse> responses = new ArrayList<>(doctorIds.size());
+		for (Long doctorId : doctorIds) {
+			List<DayAvailability> days = new ArrayList<>(dayCount);
+			for (int d = 0; d < dayCount; d++) {
+				LocalDate day = first.plusDays(d);
+				long free = ~(this.availabilityIndex.bookedSlots(doctorId, day) | unavailable[d])
+						& this.availabilityIndex.allSlots();
+				days.add(new DayAvailability(day, freeSlots(free)));
+			}
+			responses.add(DoctorAvailabilityResponse.builder()
+					.doctorId(doctorId)
+					.slotDurationMinutes(this.availabilityIndex.slotMinutes())
+					.days(days)
+					.build());
+		}
+		return responses;
+	}
+
+	// The bitmaps miss bookings and cancellations made on other instances, so days
+	// past their maximum staleness are read again from the database
+	private void reloadStaleDays(Collection<Long> doctorIds, LocalDate first, LocalDate last) {
+		List<Long> stale = doctorIds.stream()
+				.distinct()
+				.filter(doctorId -> this.availabilityIndex.isStale(doctorId, first, last))
+				.toList();
+		if (stale.isEmpty()) {
+			return;
+		}
+
+		long loadedAt = System.nanoTime();
+		Map<Long, List<ScheduledAppointment>> byDoctor = this.dao
+				.findActiveAppointments(stale, first.atStartOfDay(), last.plusDays(1).atStartOfDay())
+				.stream()
+				.collect(Collectors.groupingBy(ScheduledAppointment::doctorId));
+		for (Long doctorId : stale) {
+			this.availabilityIndex.replaceDays(doctorId, first, last, byDoctor.getOrDefault(doctorId, List.of()), loadedAt);
+		}
+		log.debug("Reloaded availability of {} doctors from {} to {}", stale.size(), first, last);
+	}
+
+	private List<LocalTime> freeSlots(long free) {
+		List<LocalTime> slots = new ArrayList<>(Long.bitCount(free));
+		while (free != 0) {
+			slots.add(this.availabilityIndex.slotStart(Long.numberOfTrailingZeros(free)));
+			free &= free - 1;
+		}
+		return slots;
+	}
+}
@@ -0,0 +1,167 @@
+package com.hospital.platform.appointment.service.admission;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.hospital.platform.appointment.exception.BookingRejectedException;
+import com.hospital.platform.appointment.metrics.AppointmentMetrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounds in-flight bookings before they open a transaction. The global limit
+ * adapts AIMD-style: a booking slower than {@code latency-target}, or one that
+ * cannot get a connection or times out in the database, multiplies it by
+ * {@code backoff-ratio}; otherwise it grows by about one per limit's worth of
+ * completions, up to {@code appointment.max-concurrent-bookings}. Each doctor
+ * also has a fixed cap, since concurrent bookings for one doctor mostly race
+ * for the same slots. Requests over either limit are rejected immediately with
+ * a Retry-After hint rather than queued.
+ */
+@Component
+@Slf4j
+public class BookingAdmissionController {
+
+	private final int maxLimit;
+	private final int minLimit;
+	private final int perDoctorLimit;
+	private final long latencyTargetNanos;
+	private final double backoffRatio;
+	private final Duration retryAfter;
+	private final AppointmentMetrics metrics;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final ConcurrentHashMap<Long, Integer> inFlightByDoctor = new ConcurrentHashMap<>();
+
+	private double exactLimit;
+	private volatile int limit;
+	private long lastDecreaseNanos = System.nanoTime();
+
+	public BookingAdmissionController(
+			@Value("${appointment.max-concurrent-bookings:200}") int maxLimit,
+			@Value("${appointment.admission.min-concurrent-bookings:10}") int minLimit,
+			@Value("${appointment.admission.max-concurrent-bookings-per-doctor:4}") int perDoctorLimit,
+			@Value("${appointment.admission.latency-target:PT0.25S}") Duration latencyTarget,
+			@Value("${appointment.admission.backoff-ratio:0.9}") double backoffRatio,
+			@Value("${appointment.admission.retry-after:PT1S}") Duration retryAfter,
+			AppointmentMetrics metrics,
+			MeterRegistry meterRegistry) {
+
+		if (minLimit < 1 || maxLimit < minLimit || perDoctorLimit < 1 || backoffRatio <= 0 || backoffRatio >= 1) {
+			throw new IllegalArgumentException("Booking admission needs 1 <= min <= max concurrent bookings, "
+					+ "a positive per-doctor limit and a backoff ratio in (0, 1)");
+		}
+		this.maxLimit = maxLimit;
+		this.minLimit = minLimit;
+		this.perDoctorLimit = perDoctorLimit;
+		this.latencyTargetNanos = latencyTarget.toNanos();
+		this.backoffRatio = backoffRatio;
+		this.retryAfter = retryAfter;
+		this.metrics = metrics;
+		this.exactLimit = maxLimit;
+		this.limit = maxLimit;
+
+		Gauge.builder("appointment_booking_concurrency_limit", this, BookingAdmissionController::limit)
+				.description("Current adaptive limit on in-flight bookings")
+				.register(meterRegistry);
+		Gauge.builder("appointment_bookings_in_flight", this.inFlight, AtomicInteger::get)
+				.description("Bookings admitted and not yet finished")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Runs the booking if both the global and the doctor's limit have room,
+	 * otherwise throws {@link BookingRejectedException} without running it.
+	 */
+	public <T> T admit(Long doctorId, Supplier<T> booking) {
+		if (!tryAcquireGlobal()) {
+			throw shed("global");
+		}
+		if (!tryAcquireDoctor(doctorId)) {
+			this.inFlight.decrementAndGet();
+			throw shed("doctor");
+		}
+
+		long start = System.nanoTime();
+		boolean overloaded = false;
+		try {
+			return booking.get();
+		} catch (TransientDataAccessException | CannotCreateTransactionException ex) {
+			// Out of connections or timing out; conflicts and validation failures say nothing about load
+			overloaded = true;
+			throw ex;
+		} finally {
+			releaseDoctor(doctorId);
+			this.inFlight.decrementAndGet();
+			onCompletion(start, System.nanoTime() - start, overloaded);
+		}
+	}
+
+	public int limit() {
+		return this.limit;
+	}
+
+	private boolean tryAcquireGlobal() {
+		while (true) {
+			int current = this.inFlight.get();
+			if (current >= this.limit) {
+				return false;
+			}
+			if (this.inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	private boolean tryAcquireDoctor(Long doctorId) {
+		boolean[] admitted = { false };
+		this.inFlightByDoctor.compute(doctorId, (id, count) -> {
+			int current = count == null ? 0 : count;
+			if (current >= this.perDoctorLimit) {
+				return count;
+			}
+			admitted[0] = true;
+			return current + 1;
+		});
+		return admitted[0];
+	}
+
+	private void releaseDoctor(Long doctorId) {
+		this.inFlightByDoctor.computeIfPresent(doctorId, (id, count) -> count <= 1 ? null : count - 1);
+	}
+
+	private synchronized void onCompletion(long startNanos, long latencyNanos, boolean overloaded) {
+		if (overloaded || latencyNanos > this.latencyTargetNanos) {
+			// Bookings admitted before the last decrease reflect the old limit; back off once per round
+			if (startNanos - this.lastDecreaseNanos < 0) {
+				return;
+			}
+			this.exactLimit = Math.max(this.minLimit, this.exactLimit * this.backoffRatio);
+			this.lastDecreaseNanos = System.nanoTime();
+		} else if (this.exactLimit < this.maxLimit) {
+			this.exactLimit = Math.min(this.maxLimit, this.exactLimit + 1 / this.exactLimit);
+		} else {
+			return;
+		}
+
+		int updated = (int) this.exactLimit;
+		if (updated != this.limit) {
+			log.debug("Booking concurrency limit {} -> {}", this.limit, updated);
+			this.limit = updated;
+		}
+	}
+
+	private BookingRejectedException shed(String scope) {
+		this.metrics.bookingShed(scope);
+		return new BookingRejectedException(scope, this.retryAfter);
+	}
+}
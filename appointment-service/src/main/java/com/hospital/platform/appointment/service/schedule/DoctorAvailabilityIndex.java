@@ -0,0 +1,221 @@
+package com.hospital.platform.appointment.service.schedule;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-doctor, per-day bitmaps of booked slots over the bookable window. Bit
+ * {@code i} of a day is set while any appointment overlaps the slot starting
+ * {@code i * slotDuration} after opening, so a day's availability is a single
+ * volatile read. Each day also remembers which appointments set which bits:
+ * recording the same appointment twice is harmless, and a cancellation only
+ * frees the slots no other appointment still touches.
+ * <p>
+ * Only this instance's bookings and cancellations update the bitmaps, so they
+ * are a cache of the database, not the source of truth. A day older than
+ * {@code appointment.availability-max-staleness} since it was seeded or last
+ * reloaded reports {@link #isStale} and is replaced from the database by
+ * {@link #replaceDays}. Booking never relies on these bitmaps.
+ */
+@Component
+public class DoctorAvailabilityIndex {
+
+	public static final LocalTime OPENS_AT = LocalTime.of(8, 0);
+	public static final LocalTime CLOSES_AT = LocalTime.of(18, 0);
+
+	private static final int WINDOW_MINUTES = (CLOSES_AT.toSecondOfDay() - OPENS_AT.toSecondOfDay()) / 60;
+
+	// Days opened by a booking rather than a reload are as fresh as the startup seeding
+	private static final long NOT_RELOADED = Long.MIN_VALUE;
+
+	private final int slotMinutes;
+	private final int slotCount;
+	private final long maxStalenessNanos;
+	private final ConcurrentHashMap<Long, ConcurrentHashMap<LocalDate, DaySlots>> doctors = new ConcurrentHashMap<>();
+	private volatile boolean ready;
+	private volatile long seededAt;
+
+	public DoctorAvailabilityIndex(@Value("${appointment.slot-duration-minutes:30}") int slotMinutes,
+			@Value("${appointment.availability-max-staleness:PT30S}") Duration maxStaleness) {
+		if (slotMinutes < 1 || WINDOW_MINUTES % slotMinutes != 0 || WINDOW_MINUTES / slotMinutes > Long.SIZE) {
+			throw new IllegalArgumentException("appointment.slot-duration-minutes must divide the " + WINDOW_MINUTES
+					+ " minute booking window into at most " + Long.SIZE + " slots, got " + slotMinutes);
+		}
+		this.slotMinutes = slotMinutes;
+		this.slotCount = WINDOW_MINUTES / slotMinutes;
+		this.maxStalenessNanos = maxStaleness.toNanos();
+	}
+
+	public boolean isReady() {
+		return this.ready;
+	}
+
+	public void markReady() {
+		this.seededAt = System.nanoTime();
+		this.ready = true;
+	}
+
+	public int slotMinutes() {
+		return this.slotMinutes;
+	}
+
+	public int slotCount() {
+		return this.slotCount;
+	}
+
+	public LocalTime slotStart(int slot) {
+		return OPENS_AT.plusMinutes((long) slot * this.slotMinutes);
+	}
+
+	public void book(Long doctorId, Long appointmentId, LocalDateTime startTime, LocalDateTime endTime) {
+		long mask = slotMask(startTime, endTime);
+		if (mask != 0) {
+			daySlots(doctorId, startTime.toLocalDate()).add(appointmentId, mask);
+		}
+	}
+
+	public void release(Long doctorId, Long appointmentId, LocalDateTime startTime) {
+		Map<LocalDate, DaySlots> days = this.doctors.get(doctorId);
+		DaySlots slots = days == null ? null : days.get(startTime.toLocalDate());
+		if (slots != null) {
+			slots.remove(appointmentId);
+		}
+	}
+
+	/**
+	 * Whether any of the doctor's days in {@code [first, last]} was last loaded
+	 * from the database more than the maximum staleness ago. A day that has
+	 * not been reloaded dates from the startup seeding.
+	 */
+	public boolean isStale(Long doctorId, LocalDate first, LocalDate last) {
+		Map<LocalDate, DaySlots> days = this.doctors.get(doctorId);
+		long now = System.nanoTime();
+		for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+			DaySlots slots = days == null ? null : days.get(day);
+			long loadedAt = slots == null || slots.loadedAt == NOT_RELOADED ? this.seededAt : slots.loadedAt;
+			if (now - loadedAt > this.maxStalenessNanos) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Replaces the doctor's days in {@code [first, last]} with the given active
+	 * appointments, read from the database at {@code loadedAt}
+	 * ({@link System#nanoTime()}). A booking recorded here while the query ran
+	 * may be overwritten; it reappears on the next reload.
+	 */
+	public void replaceDays(Long doctorId, LocalDate first, LocalDate last,
+			Collection<ScheduledAppointment> appointments, long loadedAt) {
+		Map<LocalDate, DaySlots> replacement = new HashMap<>();
+		for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+			replacement.put(day, new DaySlots(loadedAt));
+		}
+		for (ScheduledAppointment appointment : appointments) {
+			DaySlots slots = replacement.get(appointment.appointmentTime().toLocalDate());
+			long mask = slotMask(appointment.appointmentTime(), appointment.endTime());
+			if (slots != null && mask != 0) {
+				slots.add(appointment.appointmentId(), mask);
+			}
+		}
+		this.doctors.computeIfAbsent(doctorId, id -> new ConcurrentHashMap<>()).putAll(replacement);
+	}
+
+	/** Bitmap of the doctor's booked slots on the given day; 0 when nothing is booked. */
+	public long bookedSlots(Long doctorId, LocalDate day) {
+		Map<LocalDate, DaySlots> days = this.doctors.get(doctorId);
+		DaySlots slots = days == null ? null : days.get(day);
+		return slots == null ? 0 : slots.booked;
+	}
+
+	/** Bitmap of the slots that have already started at {@code now} on the given day. */
+	public long startedSlots(LocalDate day, LocalDateTime now) {
+		if (day.isAfter(now.toLocalDate())) {
+			return 0;
+		}
+		if (day.isBefore(now.toLocalDate())) {
+			return allSlots();
+		}
+		int minutes = minutesIntoWindow(now.toLocalTime());
+		// A slot starting exactly now is still bookable; one minute later it is not
+		int started = minutes <= 0 ? 0 : Math.min(this.slotCount, (minutes + this.slotMinutes - 1) / this.slotMinutes);
+		return bits(0, started);
+	}
+
+	public long allSlots() {
+		return bits(0, this.slotCount);
+	}
+
+	private DaySlots daySlots(Long doctorId, LocalDate day) {
+		ConcurrentHashMap<LocalDate, DaySlots> days = this.doctors.computeIfAbsent(doctorId, id -> new ConcurrentHashMap<>());
+		DaySlots slots = days.get(day);
+		if (slots == null) {
+			// Opening a new day is rare, so it is when days already past are dropped
+			LocalDate today = LocalDate.now();
+			days.keySet().removeIf(existing -> existing.isBefore(today));
+			slots = days.computeIfAbsent(day, d -> new DaySlots(NOT_RELOADED));
+		}
+		return slots;
+	}
+
+	private long slotMask(LocalDateTime startTime, LocalDateTime endTime) {
+		int from = Math.max(0, minutesIntoWindow(startTime.toLocalTime()));
+		int to = endTime.toLocalDate().isAfter(startTime.toLocalDate())
+				? WINDOW_MINUTES
+				: Math.min(WINDOW_MINUTES, minutesIntoWindow(endTime.toLocalTime()));
+		if (to <= from) {
+			return 0;
+		}
+		return bits(from / this.slotMinutes, (to + this.slotMinutes - 1) / this.slotMinutes);
+	}
+
+	private static int minutesIntoWindow(LocalTime time) {
+		return (time.toSecondOfDay() - OPENS_AT.toSecondOfDay()) / 60;
+	}
+
+	// Bits [from, to)
+	private static long bits(int from, int to) {
+		if (to <= from) {
+			return 0;
+		}
+		long upTo = to == Long.SIZE ? -1L : (1L << to) - 1;
+		return upTo & -(1L << from);
+	}
+
+	private static final class DaySlots {
+
+		private final Map<Long, Long> masksByAppointment = new HashMap<>(4);
+		private final long loadedAt;
+		private volatile long booked;
+
+		DaySlots(long loadedAt) {
+			this.loadedAt = loadedAt;
+		}
+
+		synchronized void add(Long appointmentId, long mask) {
+			this.masksByAppointment.put(appointmentId, mask);
+			this.booked |= mask;
+		}
+
+		synchronized void remove(Long appointmentId) {
+			if (this.masksByAppointment.remove(appointmentId) == null) {
+				return;
+			}
+			long remaining = 0;
+			for (long mask : this.masksByAppointment.values()) {
+				remaining |= mask;
+			}
+			this.booked = remaining;
+		}
+	}
+}
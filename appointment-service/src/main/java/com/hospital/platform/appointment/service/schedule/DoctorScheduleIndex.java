@@ -0,0 +1,162 @@
+package com.hospital.platform.appointment.service.schedule;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory per-doctor index of booked intervals, used to accept free slots
+ * without a database round trip. Each doctor's slots are kept in a sorted set
+ * guarded by that doctor's own lock, so checks for different doctors never
+ * contend.
+ * <p>
+ * The index only sees bookings and cancellations made by this instance. A
+ * booking made elsewhere is caught by the database exclusion constraint on
+ * insert; a slot cancelled elsewhere stays here until a hit on it is checked
+ * against the database and {@link #evictOverlapping} drops it. A hit is
+ * therefore never final on its own.
+ */
+@Component
+@Slf4j
+public class DoctorScheduleIndex {
+
+	private final ConcurrentHashMap<Long, DoctorSchedule> schedules = new ConcurrentHashMap<>();
+	private volatile boolean ready;
+
+	public boolean isReady() {
+		return this.ready;
+	}
+
+	public void load(Stream<ScheduledAppointment> appointments) {
+		long[] count = { 0 };
+		appointments.forEach(appointment -> {
+			scheduleOf(appointment.doctorId()).add(new Slot(
+					toEpochSecond(appointment.appointmentTime()),
+					toEpochSecond(appointment.endTime()),
+					appointment.appointmentId()));
+			count[0]++;
+		});
+		this.ready = true;
+		log.info("Doctor schedule index loaded with {} appointments for {} doctors", count[0], this.schedules.size());
+	}
+
+	public boolean hasConflict(Long doctorId, LocalDateTime startTime, LocalDateTime endTime) {
+		DoctorSchedule schedule = this.schedules.get(doctorId);
+		return schedule != null && schedule.overlaps(toEpochSecond(startTime), toEpochSecond(endTime));
+	}
+
+	/**
+	 * Drops the slots overlapping the interval, for use once the database has
+	 * shown it free. Returns the number of slots removed.
+	 */
+	public int evictOverlapping(Long doctorId, LocalDateTime startTime, LocalDateTime endTime) {
+		DoctorSchedule schedule = this.schedules.get(doctorId);
+		return schedule == null ? 0 : schedule.removeOverlapping(toEpochSecond(startTime), toEpochSecond(endTime));
+	}
+
+	/**
+	 * Atomically checks the doctor's schedule and records the interval if it is
+	 * free. Returns false when the interval overlaps an existing booking.
+	 */
+	public boolean tryReserve(Long doctorId, Long appointmentId, LocalDateTime startTime, LocalDateTime endTime) {
+		return scheduleOf(doctorId).tryAdd(
+				new Slot(toEpochSecond(startTime), toEpochSecond(endTime), appointmentId),
+				toEpochSecond(LocalDateTime.now()));
+	}
+
+	public void release(Long doctorId, Long appointmentId, LocalDateTime startTime, LocalDateTime endTime) {
+		DoctorSchedule schedule = this.schedules.get(doctorId);
+		if (schedule != null) {
+			schedule.remove(new Slot(toEpochSecond(startTime), toEpochSecond(endTime), appointmentId));
+		}
+	}
+
+	private DoctorSchedule scheduleOf(Long doctorId) {
+		return this.schedules.computeIfAbsent(doctorId, id -> new DoctorSchedule());
+	}
+
+	private static long toEpochSecond(LocalDateTime time) {
+		return time.toEpochSecond(ZoneOffset.UTC);
+	}
+
+	private record Slot(long start, long end, long appointmentId) implements Comparable<Slot> {
+
+		@Override
+		public int compareTo(Slot other) {
+			int byStart = Long.compare(this.start, other.start);
+			return byStart != 0 ? byStart : Long.compare(this.appointmentId, other.appointmentId);
+		}
+	}
+
+	private static final class DoctorSchedule {
+
+		private final TreeSet<Slot> slots = new TreeSet<>();
+		private long maxDurationSeconds;
+
+		synchronized void add(Slot slot) {
+			this.slots.add(slot);
+			this.maxDurationSeconds = Math.max(this.maxDurationSeconds, slot.end() - slot.start());
+		}
+
+		synchronized boolean tryAdd(Slot slot, long now) {
+			pruneEndedBefore(now);
+			if (overlaps(slot.start(), slot.end())) {
+				return false;
+			}
+			add(slot);
+			return true;
+		}
+
+		synchronized void remove(Slot slot) {
+			this.slots.remove(slot);
+		}
+
+		synchronized boolean overlaps(long start, long end) {
+			Iterator<Slot> candidates = candidates(end);
+			while (candidates.hasNext()) {
+				Slot candidate = candidates.next();
+				if (candidate.end() > start) {
+					return true;
+				}
+				if (candidate.start() + this.maxDurationSeconds <= start) {
+					return false;
+				}
+			}
+			return false;
+		}
+
+		synchronized int removeOverlapping(long start, long end) {
+			int removed = 0;
+			Iterator<Slot> candidates = candidates(end);
+			while (candidates.hasNext()) {
+				Slot candidate = candidates.next();
+				if (candidate.end() > start) {
+					candidates.remove();
+					removed++;
+				} else if (candidate.start() + this.maxDurationSeconds <= start) {
+					break;
+				}
+			}
+			return removed;
+		}
+
+		// Walk back from the latest slot starting before `end`; anything starting
+		// more than the longest known duration before `start` cannot reach it.
+		private Iterator<Slot> candidates(long end) {
+			return this.slots.headSet(new Slot(end, end, Long.MIN_VALUE), false).descendingIterator();
+		}
+
+		private void pruneEndedBefore(long now) {
+			while (!this.slots.isEmpty() && this.slots.first().end() <= now) {
+				this.slots.pollFirst();
+			}
+		}
+	}
+}
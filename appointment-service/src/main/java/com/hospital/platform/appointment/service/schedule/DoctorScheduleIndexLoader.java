@@ -0,0 +1,37 @@
+package com.hospital.platform.appointment.service.schedule;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hospital.platform.appointment.repository.AppointmentDao;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DoctorScheduleIndexLoader {
+
+	private final AppointmentDao dao;
+	private final DoctorScheduleIndex scheduleIndex;
+	private final DoctorAvailabilityIndex availabilityIndex;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void loadScheduleIndex() {
+		log.info("Loading doctor schedule index from active appointments");
+
+		try (Stream<ScheduledAppointment> appointments = this.dao.streamActiveAppointmentsFrom(LocalDateTime.now())) {
+			// One pass over the active appointments seeds both indexes
+			this.scheduleIndex.load(appointments.peek(appointment -> this.availabilityIndex.book(
+					appointment.doctorId(), appointment.appointmentId(), appointment.appointmentTime(), appointment.endTime())));
+		}
+		this.availabilityIndex.markReady();
+	}
+}
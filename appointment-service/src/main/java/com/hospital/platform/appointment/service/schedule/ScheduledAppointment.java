@@ -0,0 +1,13 @@
+package com.hospital.platform.appointment.service.schedule;
+
+import java.time.LocalDateTime;
+
+/**
+ * Minimal projection of an active appointment used to seed the schedule index.
+ */
+public record ScheduledAppointment(Long doctorId, Long appointmentId, LocalDateTime appointmentTime, Integer durationMinutes) {
+
+	public LocalDateTime endTime() {
+		return this.appointmentTime.plusMinutes(this.durationMinutes);
+	}
+}
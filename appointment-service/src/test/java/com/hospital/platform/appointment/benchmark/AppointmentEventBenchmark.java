@@ -0,0 +1,129 @@
+package com.hospital.platform.appointment.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.serialization.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hospital.platform.appointment.dto.AppointmentResponse;
+import com.hospital.platform.appointment.dto.CreateAppointmentRequest;
+import com.hospital.platform.appointment.entity.AppointmentEntity;
+import com.hospital.platform.appointment.mapper.AppointmentMapper;
+import com.hospital.platform.events.AppointmentBookedEvent;
+import com.hospital.platform.events.EventContracts;
+import com.hospital.platform.ids.TimeOrderedIdGenerator;
+
+/**
+ * CPU cost of one booking outside the database: mapper conversions and the
+ * {@code appointment.booked} event's trip through the outbox (serialized into
+ * the outbox row, read back by the relay, serialized again by the producer).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppointmentEventBenchmark {
+
+	private static final String TOPIC = "appointment.booked";
+
+	private AppointmentMapper mapper;
+	private ObjectMapper objectMapper;
+	private JsonSerializer<AppointmentBookedEvent> kafkaSerializer;
+	private Serializer<AppointmentBookedEvent> binarySerializer;
+
+	private CreateAppointmentRequest request;
+	private AppointmentEntity appointment;
+	private AppointmentBookedEvent event;
+	private String outboxPayload;
+
+	@Setup
+	public void setUp() throws JsonProcessingException {
+		this.mapper = new AppointmentMapper(new TimeOrderedIdGenerator(0));
+		this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		this.kafkaSerializer = new JsonSerializer<>(this.objectMapper);
+		this.binarySerializer = new EventContracts().serializer();
+
+		this.request = CreateAppointmentRequest.builder()
+				.patientId(1001L)
+				.patientName("Mary O'Neil")
+				.doctorId(17L)
+				.doctorName("Dr. Rao")
+				.department("Cardiology")
+				.appointmentTime(LocalDateTime.now().plusDays(7).withSecond(0).withNano(0))
+				.durationMinutes(30)
+				.consultationFee(new BigDecimal("750.00"))
+				.reasonForVisit("Follow-up")
+				.build();
+
+		this.appointment = this.mapper.fromRequest(this.request, "receptionist-1");
+		this.appointment.setId(42L);
+		this.appointment.setCreatedAt(LocalDateTime.now());
+
+		this.event = this.mapper.fromAppointmentEntity(this.appointment);
+		this.outboxPayload = this.objectMapper.writeValueAsString(this.event);
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.kafkaSerializer.close();
+	}
+
+	@Benchmark
+	public AppointmentEntity entityFromRequest() {
+		return this.mapper.fromRequest(this.request, "receptionist-1");
+	}
+
+	@Benchmark
+	public AppointmentResponse entityToResponse() {
+		return this.mapper.toResponse(this.appointment);
+	}
+
+	@Benchmark
+	public AppointmentBookedEvent eventFromEntity() {
+		return this.mapper.fromAppointmentEntity(this.appointment);
+	}
+
+	@Benchmark
+	public String serializeToOutbox() throws JsonProcessingException {
+		return this.objectMapper.writeValueAsString(this.event);
+	}
+
+	@Benchmark
+	public AppointmentBookedEvent deserializeFromOutbox() throws JsonProcessingException {
+		return this.objectMapper.readValue(this.outboxPayload, AppointmentBookedEvent.class);
+	}
+
+	@Benchmark
+	public byte[] serializeForKafka() {
+		return this.kafkaSerializer.serialize(TOPIC, this.event);
+	}
+
+	@Benchmark
+	public byte[] serializeForKafkaBinary() {
+		return this.binarySerializer.serialize(TOPIC, this.event);
+	}
+
+	@Benchmark
+	public byte[] outboxRoundTrip() throws JsonProcessingException {
+		String payload = this.objectMapper.writeValueAsString(this.event);
+		return this.kafkaSerializer.serialize(TOPIC, this.objectMapper.readValue(payload, AppointmentBookedEvent.class));
+	}
+}
@@ -0,0 +1,160 @@
+package com.hospital.platform.appointment.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hospital.platform.appointment.dto.AppointmentSummary;
+import com.hospital.platform.appointment.entity.AppointmentEntity;
+import com.hospital.platform.appointment.repository.AppointmentDao;
+import com.hospital.platform.appointment.repository.AppointmentFilter;
+
+/**
+ * One page of a doctor's appointments at increasing depth: the keyset query
+ * behind {@code GET /api/v1/appointments} against the same query with OFFSET.
+ * Keyset latency should stay flat with depth while OFFSET grows linearly.
+ * <p>
+ * Needs a running database, e.g. the docker-compose {@code postgres}; set
+ * {@code DB_HOST}, {@code DB_PORT}, {@code DB_NAME}, {@code DB_USER} and
+ * {@code DB_PASSWORD} as for the service. Data goes into a throwaway
+ * {@code jmh_listing} schema that is dropped afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppointmentListingBenchmark {
+
+	private static final String SCHEMA = "jmh_listing";
+	private static final int ROWS = 1_000_000;
+	private static final int DOCTORS = 10;
+	private static final int PAGE_SIZE = 50;
+	private static final long DOCTOR_ID = 3;
+
+	@Param({ "0", "1000", "50000" })
+	private int depth;
+
+	private String jdbcUrl;
+	private String user;
+	private String password;
+
+	private SessionFactory sessionFactory;
+	private Session session;
+	private AppointmentDao dao;
+	private AppointmentFilter filter;
+	private LocalDateTime afterTime;
+	private Long afterId;
+
+	@Setup
+	public void setUp() throws SQLException {
+		this.jdbcUrl = "jdbc:postgresql://" + env("DB_HOST", "localhost") + ":" + env("DB_PORT", "5432") + "/"
+				+ env("DB_NAME", "hospital_appointment_db");
+		this.user = env("DB_USER", "postgres");
+		this.password = env("DB_PASSWORD", "postgres");
+		execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+
+		this.sessionFactory = new Configuration()
+				.addAnnotatedClass(AppointmentEntity.class)
+				.setProperty("hibernate.connection.url", this.jdbcUrl)
+				.setProperty("hibernate.connection.username", this.user)
+				.setProperty("hibernate.connection.password", this.password)
+				.setProperty("hibernate.default_schema", SCHEMA)
+				.setProperty("hibernate.hbm2ddl.auto", "create")
+				.buildSessionFactory();
+		this.session = this.sessionFactory.openSession();
+
+		// Ten appointments per half hour, one per doctor
+		execute("INSERT INTO " + SCHEMA + ".appointments (appointment_number, patient_id, patient_name, doctor_id,"
+				+ " doctor_name, department, appointment_time, duration_minutes, status, consultation_fee, created_by,"
+				+ " created_at, is_deleted, version)"
+				+ " SELECT 'APT-JMH-' || g, g % 50000, 'Patient ' || g, g % " + DOCTORS + ", 'Dr. Bench', 'General',"
+				+ " timestamp '2026-01-01 08:00' + (g / " + DOCTORS + ") * interval '30 minutes', 30, 'BOOKED', 500.00,"
+				+ " 'jmh', now(), false, 0 FROM generate_series(1, " + ROWS + ") g");
+		execute("CREATE INDEX ON " + SCHEMA + ".appointments (doctor_id, appointment_time, id) WHERE is_deleted = FALSE");
+		execute("ANALYZE " + SCHEMA + ".appointments");
+
+		this.dao = new AppointmentDao();
+		ReflectionTestUtils.setField(this.dao, "em", this.session);
+		this.filter = new AppointmentFilter(DOCTOR_ID, null, null, null, null, null, false);
+
+		if (this.depth > 0) {
+			try (Connection connection = DriverManager.getConnection(this.jdbcUrl, this.user, this.password);
+					Statement statement = connection.createStatement();
+					ResultSet position = statement.executeQuery("SELECT appointment_time, id FROM " + SCHEMA
+							+ ".appointments WHERE doctor_id = " + DOCTOR_ID + " AND is_deleted = FALSE"
+							+ " ORDER BY appointment_time, id OFFSET " + (this.depth - 1) + " LIMIT 1")) {
+				position.next();
+				this.afterTime = position.getTimestamp(1).toLocalDateTime();
+				this.afterId = position.getLong(2);
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		this.session.close();
+		this.sessionFactory.close();
+		execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+	}
+
+	@Benchmark
+	public List<AppointmentSummary> keyset() {
+		List<AppointmentSummary> page = this.dao.findPage(this.filter, this.afterTime, this.afterId, PAGE_SIZE);
+		this.session.clear();
+		return page;
+	}
+
+	@Benchmark
+	public List<AppointmentSummary> offset() {
+		List<AppointmentSummary> page = this.session.createQuery("""
+				SELECT new com.hospital.platform.appointment.dto.AppointmentSummary(
+				    a.id, a.appointmentNumber, a.patientId, a.patientName, a.doctorId, a.doctorName, a.department,
+				    a.appointmentTime, a.durationMinutes, cast(a.status as String))
+				FROM AppointmentEntity a
+				WHERE a.isDeleted = false AND a.doctorId = :doctorId
+				ORDER BY a.appointmentTime, a.id
+				""", AppointmentSummary.class)
+				.setParameter("doctorId", DOCTOR_ID)
+				.setFirstResult(this.depth)
+				.setMaxResults(PAGE_SIZE)
+				.getResultList();
+		this.session.clear();
+		return page;
+	}
+
+	private void execute(String sql) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(this.jdbcUrl, this.user, this.password);
+				Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
+	private static String env(String name, String defaultValue) {
+		String value = System.getenv(name);
+		return value == null || value.isBlank() ? defaultValue : value;
+	}
+}
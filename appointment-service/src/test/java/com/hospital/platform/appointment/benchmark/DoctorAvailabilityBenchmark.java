@@ -0,0 +1,102 @@
+package com.hospital.platform.appointment.benchmark;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hospital.platform.appointment.dto.DoctorAvailabilityResponse;
+import com.hospital.platform.appointment.service.DoctorAvailabilityService;
+import com.hospital.platform.appointment.service.schedule.DoctorAvailabilityIndex;
+import com.hospital.platform.appointment.service.schedule.DoctorScheduleIndex;
+import com.hospital.platform.appointment.service.schedule.ScheduledAppointment;
+
+/**
+ * A week of free slots for a department's doctors in one call: the bitmap
+ * index behind {@code GET /api/v1/doctors/availability} against asking the
+ * schedule index about every slot, which is what repeated booking attempts
+ * amount to (without the database round trip each attempt also pays).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoctorAvailabilityBenchmark {
+
+	private static final int DOCTORS = 20;
+	private static final int DAYS = 7;
+	private static final int SLOT_MINUTES = 30;
+
+	private DoctorAvailabilityService availabilityService;
+	private DoctorAvailabilityIndex availabilityIndex;
+	private DoctorScheduleIndex scheduleIndex;
+	private List<Long> doctorIds;
+	private LocalDate from;
+
+	@Setup
+	public void setUp() {
+		this.from = LocalDate.now().plusDays(1);
+		this.doctorIds = LongStream.range(0, DOCTORS).boxed().toList();
+		this.availabilityIndex = new DoctorAvailabilityIndex(SLOT_MINUTES, Duration.ofDays(1));
+
+		// Roughly a third of each doctor's slots are booked
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		List<ScheduledAppointment> appointments = new ArrayList<>();
+		long appointmentId = 1;
+		for (long doctor = 0; doctor < DOCTORS; doctor++) {
+			for (int day = 0; day < DAYS; day++) {
+				for (int slot = 0; slot < this.availabilityIndex.slotCount(); slot++) {
+					if (random.nextInt(3) == 0) {
+						LocalDateTime start = this.from.plusDays(day).atTime(this.availabilityIndex.slotStart(slot));
+						appointments.add(new ScheduledAppointment(doctor, appointmentId++, start, SLOT_MINUTES));
+					}
+				}
+			}
+		}
+
+		this.scheduleIndex = new DoctorScheduleIndex();
+		this.scheduleIndex.load(appointments.stream().peek(appointment -> this.availabilityIndex.book(
+				appointment.doctorId(), appointment.appointmentId(), appointment.appointmentTime(), appointment.endTime())));
+		this.availabilityIndex.markReady();
+		// Nothing goes stale within a run, so the database is never consulted
+		this.availabilityService = new DoctorAvailabilityService(this.availabilityIndex, null, 30);
+	}
+
+	@Benchmark
+	public List<DoctorAvailabilityResponse> slotBitmaps() {
+		return this.availabilityService.getAvailability(this.doctorIds, this.from, this.from.plusDays(DAYS - 1));
+	}
+
+	@Benchmark
+	public int probeEverySlot() {
+		int free = 0;
+		for (Long doctorId : this.doctorIds) {
+			for (int day = 0; day < DAYS; day++) {
+				for (int slot = 0; slot < this.availabilityIndex.slotCount(); slot++) {
+					LocalDateTime start = this.from.plusDays(day).atTime(this.availabilityIndex.slotStart(slot));
+					if (!this.scheduleIndex.hasConflict(doctorId, start, start.plusMinutes(SLOT_MINUTES))) {
+						free++;
+					}
+				}
+			}
+		}
+		return free;
+	}
+}
@@ -0,0 +1,106 @@
+package com.hospital.platform.appointment.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hospital.platform.appointment.service.schedule.DoctorScheduleIndex;
+import com.hospital.platform.appointment.service.schedule.ScheduledAppointment;
+
+/**
+ * Conflict check for a doctor holding thousands of future appointments: the
+ * schedule index lookup against the range-then-filter approach used by
+ * {@code AppointmentDao.findOverlappingAppointments} (database time excluded).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoctorScheduleIndexBenchmark {
+
+	private static final int DOCTORS = 50;
+	private static final int SLOT_MINUTES = 30;
+	private static final int PROBES = 1024;
+
+	@Param({ "1000", "5000" })
+	private int appointmentsPerDoctor;
+
+	private DoctorScheduleIndex index;
+	private List<List<ScheduledAppointment>> appointmentsByDoctor;
+	private LocalDateTime base;
+
+	private long[] probeDoctors;
+	private LocalDateTime[] probeStarts;
+	private LocalDateTime[] probeEnds;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		this.base = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+		this.appointmentsByDoctor = new ArrayList<>(DOCTORS);
+
+		long appointmentId = 1;
+		for (long doctor = 0; doctor < DOCTORS; doctor++) {
+			List<ScheduledAppointment> appointments = new ArrayList<>(this.appointmentsPerDoctor);
+			for (int i = 0; i < this.appointmentsPerDoctor; i++) {
+				// Every other slot is booked so roughly half of the probes conflict
+				LocalDateTime start = this.base.plusMinutes((long) i * 2 * SLOT_MINUTES);
+				appointments.add(new ScheduledAppointment(doctor, appointmentId++, start, SLOT_MINUTES));
+			}
+			this.appointmentsByDoctor.add(appointments);
+		}
+
+		this.index = new DoctorScheduleIndex();
+		this.index.load(this.appointmentsByDoctor.stream().flatMap(List::stream));
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		this.probeDoctors = new long[PROBES];
+		this.probeStarts = new LocalDateTime[PROBES];
+		this.probeEnds = new LocalDateTime[PROBES];
+		for (int i = 0; i < PROBES; i++) {
+			this.probeDoctors[i] = random.nextInt(DOCTORS);
+			this.probeStarts[i] = this.base.plusMinutes((long) random.nextInt(this.appointmentsPerDoctor * 2) * SLOT_MINUTES);
+			this.probeEnds[i] = this.probeStarts[i].plusMinutes(SLOT_MINUTES);
+		}
+	}
+
+	@Benchmark
+	public boolean scheduleIndex() {
+		int probe = nextProbe();
+		return this.index.hasConflict(this.probeDoctors[probe], this.probeStarts[probe], this.probeEnds[probe]);
+	}
+
+	@Benchmark
+	public boolean rangeThenFilter() {
+		int probe = nextProbe();
+		LocalDateTime startTime = this.probeStarts[probe];
+		LocalDateTime endTime = this.probeEnds[probe];
+		LocalDateTime earliestPossibleStart = endTime.minusHours(8);
+
+		return this.appointmentsByDoctor.get((int) this.probeDoctors[probe]).stream()
+				.filter(a -> a.appointmentTime().isBefore(endTime)
+						&& !a.appointmentTime().isBefore(earliestPossibleStart))
+				.anyMatch(a -> a.endTime().isAfter(startTime));
+	}
+
+	private int nextProbe() {
+		this.next = (this.next + 1) & (PROBES - 1);
+		return this.next;
+	}
+}
@@ -13,8 +13,10 @@ END$$;
 -- =========================
 -- Bills Table
 -- =========================
+CREATE SEQUENCE IF NOT EXISTS bill_id_seq INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS bills (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY DEFAULT nextval('bill_id_seq'),
 
     bill_number VARCHAR(255) NOT NULL UNIQUE,
     appointment_id BIGINT NOT NULL,
@@ -28,6 +30,7 @@ CREATE TABLE IF NOT EXISTS bills (
     total_amount NUMERIC(10, 2) NOT NULL CHECK (total_amount >= 0),
     paid_amount NUMERIC(10, 2) NOT NULL DEFAULT 0 CHECK (paid_amount >= 0),
     due_amount NUMERIC(10, 2) NOT NULL CHECK (due_amount >= 0),
+    reserved_amount NUMERIC(10, 2) NOT NULL DEFAULT 0 CHECK (reserved_amount >= 0),
 
     status VARCHAR(20) NOT NULL
         CHECK (status IN ('PENDING', 'PARTIALLY_PAID', 'PAID', 'CANCELLED')),
@@ -41,14 +44,16 @@ CREATE TABLE IF NOT EXISTS bills (
 );
 
 -- Indexes for bills (only what your APIs actually need)
-CREATE INDEX IF NOT EXISTS idx_bills_appointment_id
+CREATE UNIQUE INDEX IF NOT EXISTS idx_bills_appointment_id
     ON bills (appointment_id);
 
 -- =========================
 -- Payments Table
 -- =========================
+CREATE SEQUENCE IF NOT EXISTS payment_id_seq INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS payments (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY DEFAULT nextval('payment_id_seq'),
 
     payment_reference VARCHAR(255) NOT NULL UNIQUE,
     bill_id BIGINT NOT NULL,
@@ -77,3 +82,28 @@ CREATE TABLE IF NOT EXISTS payments (
 -- Indexes for payments (purposeful only)
 CREATE INDEX IF NOT EXISTS idx_payments_bill_id
     ON payments (bill_id);
+
+-- Reconciliation sweep: payments still pending, oldest first
+CREATE INDEX IF NOT EXISTS idx_payments_pending
+    ON payments (created_at) WHERE status = 'PENDING';
+
+-- =========================
+-- Outbox Table
+-- =========================
+-- Bill and payment events, written in the transaction that produced them and drained by the relay
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    event_key VARCHAR(100) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_pending
+    ON outbox_events (next_attempt_at, id) WHERE status = 'PENDING';
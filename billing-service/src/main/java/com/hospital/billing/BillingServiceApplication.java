@@ -2,10 +2,16 @@ package com.hospital.billing;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.hospital.billing.config.PaymentGatewayProperties;
 
 @SpringBootApplication
 @EnableKafka
+@EnableScheduling
+@EnableConfigurationProperties(PaymentGatewayProperties.class)
 public class BillingServiceApplication {
 
 	public static void main(String[] args) {
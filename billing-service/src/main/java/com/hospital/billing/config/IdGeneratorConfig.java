@@ -0,0 +1,25 @@
+package com.hospital.billing.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.hospital.platform.ids.TimeOrderedIdGenerator;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Configuration
+@Slf4j
+public class IdGeneratorConfig {
+
+	/** Replicas must use distinct node ids; without one the id is derived from the host name. */
+	@Bean
+	TimeOrderedIdGenerator idGenerator(@Value("${billing.ids.node-id:#{null}}") Integer nodeId) {
+		if (nodeId == null) {
+			nodeId = TimeOrderedIdGenerator.nodeIdFromHostName();
+			log.warn("No billing.ids.node-id configured, using {} derived from the host name; "
+					+ "replicas may collide unless each is given a distinct node id", nodeId);
+		}
+		return new TimeOrderedIdGenerator(nodeId);
+	}
+}
@@ -1,27 +1,30 @@
 package com.hospital.billing.config;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
-import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
-import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
-import org.springframework.retry.backoff.FixedBackOffPolicy;
-import org.springframework.retry.policy.SimpleRetryPolicy;
-import org.springframework.retry.support.RetryTemplate;
+
+import com.hospital.platform.events.AppointmentBookedEvent;
+import com.hospital.platform.events.EventContracts;
+import com.hospital.platform.events.codec.FileSchemaRegistry;
+import com.hospital.platform.kafka.KafkaProducerProperties;
+import com.hospital.platform.kafka.ProfiledKafkaTemplates;
 
 @Configuration
 public class KafkaConfig {
@@ -29,58 +32,91 @@ public class KafkaConfig {
 	@Value("${spring.kafka.bootstrap-servers}")
 	private String bootstrapServers;
 
+	@Value("${billing.kafka.consumer.concurrency:3}")
+	private int consumerConcurrency;
+
+	@Value("${billing.kafka.consumer.max-poll-records:500}")
+	private int maxPollRecords;
+
+	@Value("${billing.kafka.consumer.max-poll-interval:PT5M}")
+	private Duration maxPollInterval;
+
+	@Value("${billing.kafka.appointment-booked.partitions:6}")
+	private int appointmentBookedPartitions;
+
+	@Value("${spring.threads.virtual.enabled:false}")
+	private boolean virtualThreads;
+
+	@Bean
+	EventContracts eventContracts(
+			@Value("${billing.kafka.schemas.location:" + EventContracts.DEFAULT_SCHEMA_LOCATION + "}") String location) {
+		return new EventContracts(new FileSchemaRegistry(location));
+	}
+
+	@Bean
+	@ConfigurationProperties(prefix = "billing.kafka.producer")
+	KafkaProducerProperties kafkaProducerProperties() {
+		return new KafkaProducerProperties();
+	}
+
+	/**
+	 * Shared producer settings; batching, compression and in-flight limits come
+	 * from the profile selected for each topic family.
+	 */
 	@Bean
-	ProducerFactory<String, Object> producerFactory() {
+	ProfiledKafkaTemplates profiledKafkaTemplates(KafkaProducerProperties producerProperties, EventContracts eventContracts) {
 		Map<String, Object> config = new HashMap<>();
 		config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, this.bootstrapServers);
-		config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-		config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
 		config.put(ProducerConfig.ACKS_CONFIG, "all");
 		config.put(ProducerConfig.RETRIES_CONFIG, 3);
 		config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
-		return new DefaultKafkaProducerFactory<>(config);
+		// send() blocks the caller while metadata is missing or the buffer is full; keep that short
+		config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, (int) producerProperties.getMaxBlock().toMillis());
+		return new ProfiledKafkaTemplates(config, eventContracts.serializer(), producerProperties);
 	}
 
 	@Bean
-	KafkaTemplate<String, Object> kafkaTemplate() {
-		return new KafkaTemplate<>(producerFactory());
+	KafkaTemplate<String, Object> kafkaTemplate(ProfiledKafkaTemplates profiledKafkaTemplates) {
+		return profiledKafkaTemplates.defaultTemplate();
 	}
 
 	@Bean
-	ConsumerFactory<String, Object> consumerFactory() {
+	ConsumerFactory<String, AppointmentBookedEvent> consumerFactory(EventContracts eventContracts) {
 		Map<String, Object> config = new HashMap<>();
 		config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, this.bootstrapServers);
 		config.put(ConsumerConfig.GROUP_ID_CONFIG, "billing-service-group");
-		config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-		config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
 		config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
 		config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
-		config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-		config.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
-		config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, "com.hospital.billing.dto.AppointmentBookedEvent");
+		config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, this.maxPollRecords);
+		config.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, (int) this.maxPollInterval.toMillis());
 
-		return new DefaultKafkaConsumerFactory<>(config);
+		return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(),
+				eventContracts.deserializer(AppointmentBookedEvent.class));
 	}
 
 	@Bean
-	ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
-		ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
-		factory.setConsumerFactory(consumerFactory());
+	ConcurrentKafkaListenerContainerFactory<String, AppointmentBookedEvent> kafkaListenerContainerFactory(
+			ConsumerFactory<String, AppointmentBookedEvent> consumerFactory) {
+		ConcurrentKafkaListenerContainerFactory<String, AppointmentBookedEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		factory.setConsumerFactory(consumerFactory);
+		factory.setBatchListener(true);
+		factory.setConcurrency(this.consumerConcurrency);
 		factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+		// Boot only applies spring.threads.virtual.enabled to the factory it auto-configures
+		if (this.virtualThreads) {
+			SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("billing-kafka-");
+			listenerExecutor.setVirtualThreads(true);
+			factory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+		}
 		return factory;
 	}
 
+	// Listener concurrency only helps up to the partition count, so make sure the topic has enough
 	@Bean
-	RetryTemplate kafkaRetryTemplate() {
-		RetryTemplate retryTemplate = new RetryTemplate();
-
-		SimpleRetryPolicy retryPolicy = new SimpleRetryPolicy(3);
-		FixedBackOffPolicy backOffPolicy = new FixedBackOffPolicy();
-		backOffPolicy.setBackOffPeriod(5000); // 5 seconds
-
-		retryTemplate.setRetryPolicy(retryPolicy);
-		retryTemplate.setBackOffPolicy(backOffPolicy);
-
-		return retryTemplate;
+	NewTopic appointmentBookedTopic() {
+		return TopicBuilder.name("appointment.booked")
+				.partitions(this.appointmentBookedPartitions)
+				.build();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.hospital.platform.billing.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.hospital.platform.events.BillGeneratedEvent;
+import com.hospital.platform.events.EventContracts;
+import com.hospital.platform.events.PaymentCompletedEvent;
+import com.hospital.platform.events.PaymentFailedEvent;
+import com.hospital.platform.kafka.ProfiledKafkaTemplates;
+import com.hospital.platform.outbox.OutboxDao;
+import com.hospital.platform.outbox.OutboxMetrics;
+import com.hospital.platform.outbox.OutboxProperties;
+import com.hospital.platform.outbox.OutboxRelay;
+import com.hospital.platform.outbox.OutboxWriter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class OutboxConfig {
+
+	@Bean
+	@ConfigurationProperties(prefix = "billing.outbox")
+	OutboxProperties outboxProperties() {
+		return new OutboxProperties();
+	}
+
+	@Bean
+	OutboxDao outboxDao(JdbcTemplate jdbcTemplate, OutboxProperties properties) {
+		return new OutboxDao(jdbcTemplate, properties.getTable());
+	}
+
+	@Bean
+	OutboxWriter outboxWriter(OutboxDao outboxDao, EventContracts eventContracts) {
+		return new OutboxWriter(outboxDao, eventContracts);
+	}
+
+	@Bean
+	OutboxRelay outboxRelay(OutboxDao outboxDao, ProfiledKafkaTemplates kafkaTemplates, EventContracts eventContracts,
+			PlatformTransactionManager transactionManager, MeterRegistry meterRegistry, OutboxProperties properties) {
+		return new OutboxRelay(outboxDao, kafkaTemplates, eventContracts, List.of(BillGeneratedEvent.class,
+				PaymentCompletedEvent.class, PaymentFailedEvent.class), transactionManager, new OutboxMetrics(meterRegistry, "billing"), properties);
+	}
+}
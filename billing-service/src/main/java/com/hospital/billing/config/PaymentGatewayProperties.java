@@ -0,0 +1,66 @@
+package com.hospital.billing.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "billing.payment")
+public class PaymentGatewayProperties {
+
+	/** Name of the {@code PaymentGateway} used for new payments. */
+	private String gateway = "local-stub";
+
+	/** Concurrency and timeout limits keyed by gateway name. */
+	private Map<String, Limits> gateways = new HashMap<>();
+
+	private Stub stub = new Stub();
+
+	private Reconciliation reconciliation = new Reconciliation();
+
+	public Limits limitsFor(String gatewayName) {
+		return this.gateways.getOrDefault(gatewayName, new Limits());
+	}
+
+	@Data
+	public static class Limits {
+
+		/** Maximum charges outstanding against the gateway at once. */
+		private int maxConcurrent = 50;
+
+		/** How long a charge may wait for a free slot before being rejected. */
+		private Duration acquireTimeout = Duration.ofMillis(100);
+
+		/** How long a charge may take before it is treated as failed. */
+		private Duration timeout = Duration.ofSeconds(2);
+	}
+
+	@Data
+	public static class Reconciliation {
+
+		/** Delay between sweeps for payments left pending. */
+		private Duration interval = Duration.ofSeconds(30);
+
+		/** How long past the gateway timeout a payment may stay pending before it is reconciled. */
+		private Duration grace = Duration.ofMinutes(1);
+
+		/** Pending payments reconciled per sweep. */
+		private int batchSize = 100;
+	}
+
+	@Data
+	public static class Stub {
+
+		private Duration latency = Duration.ofMillis(100);
+
+		/** Uniform random extra latency added on top of {@code latency}. */
+		private Duration latencyJitter = Duration.ZERO;
+
+		/** Fraction of charges declined, between 0.0 and 1.0. */
+		private double declineRate = 0.0;
+	}
+}
@@ -1,48 +1,243 @@
 package com.hospital.billing.dao;
 
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import com.hospital.billing.dto.BillResponse;
 import com.hospital.billing.entity.Bill;
+import com.hospital.billing.entity.Bill.BillStatus;
 
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
 
 @Repository
+@RequiredArgsConstructor
 public class BillDao {
 
+	// One statement for the whole batch, so its update count is exactly the number of rows inserted
+	private static final String INSERT_BILLS_SQL = """
+			INSERT INTO bills (id, bill_number, appointment_id, patient_id, patient_name,
+			                   consultation_fee, lab_charges, pharmacy_charges,
+			                   total_amount, paid_amount, due_amount, status, created_at, version)
+			SELECT b.*, ?::timestamp, 0
+			FROM unnest(?::bigint[], ?::varchar[], ?::bigint[], ?::bigint[], ?::varchar[],
+			            ?::numeric[], ?::numeric[], ?::numeric[],
+			            ?::numeric[], ?::numeric[], ?::numeric[], ?::varchar[]) AS b
+			ON CONFLICT (appointment_id) DO NOTHING
+			""";
+
+	private static final String NEXT_ID_BLOCKS_SQL =
+			"SELECT nextval('" + Bill.ID_SEQUENCE + "') FROM generate_series(1, ?)";
+
+	// Payment updates are single conditional statements instead of a locked read-modify-write
+	private static final String RESERVE_SQL = """
+			UPDATE bills
+			SET reserved_amount = reserved_amount + ?, updated_at = ?, version = version + 1
+			WHERE id = ? AND due_amount - reserved_amount >= ?
+			RETURNING bill_number, status, due_amount, reserved_amount
+			""";
+
+	private static final String SETTLE_SQL = """
+			UPDATE bills
+			SET reserved_amount = GREATEST(reserved_amount - ?, 0),
+			    paid_amount = paid_amount + ?,
+			    due_amount = due_amount - ?,
+			    status = CASE WHEN due_amount = ? THEN 'PAID' ELSE 'PARTIALLY_PAID' END,
+			    updated_at = ?, version = version + 1
+			WHERE id = ? AND due_amount >= ?
+			RETURNING bill_number, status, due_amount, reserved_amount
+			""";
+
+	private static final String RELEASE_SQL = """
+			UPDATE bills
+			SET reserved_amount = GREATEST(reserved_amount - ?, 0), updated_at = ?, version = version + 1
+			WHERE id = ?
+			RETURNING bill_number, status, due_amount, reserved_amount
+			""";
+
+	private static final String SELECT_BALANCE_SQL = """
+			SELECT bill_number, status, due_amount, reserved_amount FROM bills WHERE id = ?
+			""";
+
+	/** Payment-relevant columns of a bill as of the statement that returned them. */
+	public record BillBalance(String billNumber, BillStatus status, BigDecimal dueAmount, BigDecimal reservedAmount) {
+
+		public BigDecimal payableAmount() {
+			return this.dueAmount.subtract(this.reservedAmount);
+		}
+	}
+
 	@PersistenceContext
 	private EntityManager em;
 
+	private final JdbcTemplate jdbcTemplate;
+
+	/** Flushes so the bill leaves with its creation timestamp, which is only set on insert. */
 	public Bill save(Bill entity) {
 		this.em.persist(entity);
+		this.em.flush();
 		return entity;
 	}
 
 	public boolean existsByAppointmentId(Long appointmentId) {
-		List<Bill> resultList = this.em.createQuery("from Bill where appointmentId = :appointmentId", Bill.class)
+		return !this.em.createQuery("select 1 from Bill where appointmentId = :appointmentId", Integer.class)
 				.setParameter("appointmentId", appointmentId)
-				.getResultList();
-		return !resultList.isEmpty();
+				.setMaxResults(1)
+				.getResultList().isEmpty();
+	}
+
+	public Set<Long> findExistingAppointmentIds(Collection<Long> appointmentIds) {
+		if (appointmentIds.isEmpty()) {
+			return Set.of();
+		}
+
+		return new HashSet<>(this.em.createQuery(
+				"select b.appointmentId from Bill b where b.appointmentId in :appointmentIds", Long.class)
+				.setParameter("appointmentIds", appointmentIds)
+				.getResultList());
+	}
+
+	/**
+	 * Inserts the bills in one statement, passing each column as an array.
+	 * Only a bill for an already billed appointment (e.g. a concurrent consumer
+	 * won the race) is skipped; any other constraint violation, such as a
+	 * repeated bill number, fails the whole insert. Returns the number of rows
+	 * actually inserted.
+	 */
+	public int insertBatch(List<Bill> bills) {
+		if (bills.isEmpty()) {
+			return 0;
+		}
+
+		int size = bills.size();
+		Long[] ids = allocateIds(size).toArray(Long[]::new);
+		String[] billNumbers = new String[size];
+		Long[] appointmentIds = new Long[size];
+		Long[] patientIds = new Long[size];
+		String[] patientNames = new String[size];
+		BigDecimal[][] amounts = new BigDecimal[6][size];
+		String[] statuses = new String[size];
+		for (int i = 0; i < size; i++) {
+			Bill bill = bills.get(i);
+			billNumbers[i] = bill.getBillNumber();
+			appointmentIds[i] = bill.getAppointmentId();
+			patientIds[i] = bill.getPatientId();
+			patientNames[i] = bill.getPatientName();
+			amounts[0][i] = bill.getConsultationFee();
+			amounts[1][i] = bill.getLabCharges();
+			amounts[2][i] = bill.getPharmacyCharges();
+			amounts[3][i] = bill.getTotalAmount();
+			amounts[4][i] = bill.getPaidAmount();
+			amounts[5][i] = bill.getDueAmount();
+			statuses[i] = bill.getStatus().name();
+		}
+
+		Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+		return this.jdbcTemplate.update(connection -> {
+			PreparedStatement ps = connection.prepareStatement(INSERT_BILLS_SQL);
+			ps.setTimestamp(1, createdAt);
+			ps.setArray(2, connection.createArrayOf("bigint", ids));
+			ps.setArray(3, connection.createArrayOf("varchar", billNumbers));
+			ps.setArray(4, connection.createArrayOf("bigint", appointmentIds));
+			ps.setArray(5, connection.createArrayOf("bigint", patientIds));
+			ps.setArray(6, connection.createArrayOf("varchar", patientNames));
+			for (int column = 0; column < amounts.length; column++) {
+				ps.setArray(7 + column, connection.createArrayOf("numeric", amounts[column]));
+			}
+			ps.setArray(13, connection.createArrayOf("varchar", statuses));
+			return ps;
+		});
 	}
 
-	public Optional<Bill> findByBillId(Long billId) {
-		return this.em.createQuery("from Bill where id = :billId", Bill.class)
+	/**
+	 * Reserves ids the way Hibernate's pooled optimizer does: each sequence
+	 * value V stands for the block ending at V, so these never overlap ids
+	 * handed out by {@link #save(Bill)}.
+	 */
+	private List<Long> allocateIds(int count) {
+		List<Long> ids = new ArrayList<>(count);
+		while (ids.size() < count) {
+			int blocks = (count - ids.size() + Bill.ID_BLOCK_SIZE - 1) / Bill.ID_BLOCK_SIZE;
+			for (Long last : this.jdbcTemplate.queryForList(NEXT_ID_BLOCKS_SQL, Long.class, blocks)) {
+				// The sequence starts at 1, so its first value covers only id 1
+				for (long id = Math.max(1, last - Bill.ID_BLOCK_SIZE + 1); id <= last && ids.size() < count; id++) {
+					ids.add(id);
+				}
+			}
+		}
+		return ids;
+	}
+
+	/** Reads a bill straight into its response, without loading a managed entity. */
+	public Optional<BillResponse> findResponseByBillId(Long billId) {
+		String jpql = """
+				SELECT new com.hospital.billing.dto.BillResponse(
+				    b.id, b.billNumber, b.appointmentId, b.patientId, b.patientName,
+				    b.consultationFee, b.labCharges, b.pharmacyCharges, b.totalAmount, b.paidAmount, b.dueAmount,
+				    cast(b.status as String), b.createdAt, b.updatedAt)
+				FROM Bill b
+				WHERE b.id = :billId
+				""";
+
+		return this.em.createQuery(jpql, BillResponse.class)
 				.setParameter("billId", billId)
+				.setMaxResults(1)
 				.getResultList().stream().findFirst();
 	}
 
-	public Optional<Bill> findByIdForUpdate(Long billId) {
-		return this.em.createQuery(
-				"from Bill b where b.id = :billId", Bill.class)
-				.setParameter("billId", billId)
-				.setLockMode(LockModeType.PESSIMISTIC_WRITE)
-				.getResultList()
-				.stream()
-				.findFirst();
+	/**
+	 * Holds {@code amount} on the bill if that much is still payable. Empty when
+	 * the bill is missing or already fully paid or reserved.
+	 */
+	public Optional<BillBalance> reserve(Long billId, BigDecimal amount) {
+		return queryBalance(RESERVE_SQL, amount, now(), billId, amount);
+	}
+
+	/**
+	 * Turns a reservation into a payment. Empty when the bill is missing or the
+	 * amount exceeds what is due.
+	 */
+	public Optional<BillBalance> settleReservation(Long billId, BigDecimal amount) {
+		return queryBalance(SETTLE_SQL, amount, amount, amount, amount, now(), billId, amount);
+	}
+
+	public Optional<BillBalance> releaseReservation(Long billId, BigDecimal amount) {
+		return queryBalance(RELEASE_SQL, amount, now(), billId);
+	}
+
+	// Read with JDBC so a retry never sees a stale Bill cached in the persistence context
+	public Optional<BillBalance> findBalance(Long billId) {
+		return queryBalance(SELECT_BALANCE_SQL, billId);
+	}
+
+	private Optional<BillBalance> queryBalance(String sql, Object... args) {
+		return this.jdbcTemplate.query(sql, BillDao::toBalance, args).stream().findFirst();
+	}
+
+	private static BillBalance toBalance(ResultSet rs, int rowNum) throws SQLException {
+		return new BillBalance(
+				rs.getString("bill_number"),
+				BillStatus.valueOf(rs.getString("status")),
+				rs.getBigDecimal("due_amount"),
+				rs.getBigDecimal("reserved_amount"));
+	}
+
+	private static Timestamp now() {
+		return Timestamp.valueOf(LocalDateTime.now());
 	}
 
 }
@@ -1,12 +1,16 @@
 package com.hospital.billing.dao;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.stereotype.Repository;
 
+import com.hospital.billing.dto.PaymentResponse;
 import com.hospital.billing.entity.Payment;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
 
 @Repository
@@ -15,16 +19,48 @@ public class PaymentDao {
 	@PersistenceContext
 	private EntityManager em;
 
+	/** Flushes so a duplicate idempotency key fails before the bill is reserved against. */
 	public Payment save(Payment entity) {
 		this.em.persist(entity);
+		this.em.flush();
 		return entity;
 	}
 
-	public boolean existsByIdempotencyKey(String idempotencyKey) {
-		List<Payment> resultList = this.em.createQuery("from Payment where idempotencyKey = :idempotencyKey", Payment.class)
+	/** Reads the payment stored under a key straight into its response, for idempotent replays. */
+	public Optional<PaymentResponse> findResponseByIdempotencyKey(String idempotencyKey) {
+		String jpql = """
+				SELECT new com.hospital.billing.dto.PaymentResponse(
+				    p.id, p.paymentReference, p.billId, p.amount, cast(p.paymentMethod as String),
+				    cast(p.status as String), p.transactionId, p.failureReason, p.createdAt)
+				FROM Payment p
+				WHERE p.idempotencyKey = :idempotencyKey
+				""";
+
+		return this.em.createQuery(jpql, PaymentResponse.class)
 				.setParameter("idempotencyKey", idempotencyKey)
+				.setMaxResults(1)
+				.getResultList().stream().findFirst();
+	}
+
+	public Optional<Payment> findByPaymentId(Long paymentId) {
+		return Optional.ofNullable(this.em.find(Payment.class, paymentId));
+	}
+
+	public Optional<Payment> findByPaymentIdForUpdate(Long paymentId) {
+		return Optional.ofNullable(this.em.find(Payment.class, paymentId, LockModeType.PESSIMISTIC_WRITE));
+	}
+
+	/** Oldest first, so a backlog is worked off in the order it built up. */
+	public List<Payment> findPendingCreatedBefore(LocalDateTime cutoff, int limit) {
+		return this.em.createQuery("from Payment where status = :status and createdAt < :cutoff order by createdAt", Payment.class)
+				.setParameter("status", Payment.PaymentStatus.PENDING)
+				.setParameter("cutoff", cutoff)
+				.setMaxResults(limit)
 				.getResultList();
-		return !resultList.isEmpty();
+	}
+
+	public void delete(Payment entity) {
+		this.em.remove(entity);
 	}
 
 }
@@ -3,6 +3,7 @@ package com.hospital.billing.dto;
 import java.math.BigDecimal;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -27,11 +28,14 @@ public class CreateBillRequest {
 
 	@NotNull(message = "Consultation fee is required")
 	@DecimalMin(value = "0.0", message = "Consultation fee must be positive")
+	@Digits(integer = 8, fraction = 2, message = "Invalid consultation fee format")
 	private BigDecimal consultationFee;
 
 	@DecimalMin(value = "0.0", message = "Lab charges must be positive")
+	@Digits(integer = 8, fraction = 2, message = "Invalid lab charges format")
 	private BigDecimal labCharges;
 
 	@DecimalMin(value = "0.0", message = "Pharmacy charges must be positive")
+	@Digits(integer = 8, fraction = 2, message = "Invalid pharmacy charges format")
 	private BigDecimal pharmacyCharges;
 }
\ No newline at end of file
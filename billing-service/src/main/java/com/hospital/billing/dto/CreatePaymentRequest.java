@@ -3,6 +3,7 @@ package com.hospital.billing.dto;
 import java.math.BigDecimal;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -22,6 +23,7 @@ public class CreatePaymentRequest {
 
 	@NotNull(message = "Amount is required")
 	@DecimalMin(value = "0.01", message = "Amount must be greater than zero")
+	@Digits(integer = 8, fraction = 2, message = "Invalid amount format")
 	private BigDecimal amount;
 
 	@NotBlank(message = "Payment method is required")
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -18,9 +19,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Bill {
+
+    // Shared with BillDao.insertBatch, which takes ids from the same sequence blocks
+    public static final String ID_SEQUENCE = "bill_id_seq";
+    public static final int ID_BLOCK_SIZE = 50;
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = Bill.ID_SEQUENCE)
+    @SequenceGenerator(name = Bill.ID_SEQUENCE, sequenceName = Bill.ID_SEQUENCE, allocationSize = Bill.ID_BLOCK_SIZE)
     private Long id;
     
     @Column(name = "bill_number", unique = true, nullable = false)
@@ -53,6 +59,11 @@ public class Bill {
     @Column(name = "due_amount", nullable = false, precision = 10, scale = 2)
     private BigDecimal dueAmount;
     
+    // Sum of payments sent to the gateway but not yet confirmed or failed
+    @ColumnDefault("0")
+    @Column(name = "reserved_amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal reservedAmount;
+    
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     private BillStatus status;
@@ -86,6 +97,9 @@ public class Bill {
         if (pharmacyCharges == null) {
             pharmacyCharges = BigDecimal.ZERO;
         }
+        if (reservedAmount == null) {
+            reservedAmount = BigDecimal.ZERO;
+        }
         calculateTotalAndDue();
     }
     
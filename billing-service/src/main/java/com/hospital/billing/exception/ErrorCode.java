@@ -9,11 +9,12 @@ public enum ErrorCode {
 	DUPLICATE_PAYMENT(HttpStatus.CONFLICT, "Duplicate payment"),
 	PAYMENT_FAILED(HttpStatus.BAD_REQUEST, "Payment processing failed"),
 	PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "Payment not found"),
+	PAYMENT_AMOUNT_UNAVAILABLE(HttpStatus.CONFLICT, "Payment amount exceeds amount still payable"),
+	PAYMENT_GATEWAY_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "Payment gateway is busy"),
+	PAYMENT_GATEWAY_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "Payment gateway timeout"),
 	VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "Validation error"),
 	UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "Unauthorized"),
 	KAFKA_PUBLISH_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "Failed to publish event to Kafka"),
-	KAFKA_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "Kafka publish timeout"),
-	KAFKA_INTERRUPTED(HttpStatus.INTERNAL_SERVER_ERROR, "Kafka operation interrupted"),
 	INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error");
 
 	private final HttpStatus httpStatus;
@@ -1,17 +1,18 @@
 package com.hospital.billing.kafka;
 
+import java.time.Duration;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Component;
 
-import com.hospital.billing.dto.AppointmentBookedEvent;
 import com.hospital.billing.exception.ApplicationException;
 import com.hospital.billing.exception.ErrorCode;
 import com.hospital.billing.service.BillingService;
+import com.hospital.platform.events.AppointmentBookedEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,68 +23,95 @@ import lombok.extern.slf4j.Slf4j;
 public class KafkaConsumerService {
 
 	private final BillingService billingService;
-	private final RetryTemplate retryTemplate;
 	private final org.springframework.kafka.core.KafkaTemplate<String, Object> kafkaTemplate;
 
 	private static final String APPOINTMENT_BOOKED_DLT = "appointment.booked.dlt.billing";
 
+	// Must stay well inside billing.kafka.consumer.max-poll-interval, or the consumer is evicted before it acks
+	@Value("${billing.kafka.consumer.fallback-budget:PT2M}")
+	private Duration fallbackBudget;
+
 	@KafkaListener(topics = "appointment.booked", groupId = "billing-service-group", containerFactory = "kafkaListenerContainerFactory")
-	public void consumeAppointmentBookedEvent(
-			@Payload AppointmentBookedEvent event,
-			@Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
-			@Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-			@Header(KafkaHeaders.OFFSET) long offset,
+	public void consumeAppointmentBookedEvents(List<ConsumerRecord<String, AppointmentBookedEvent>> records,
 			Acknowledgment acknowledgment) {
 
-		log.info("Received appointment booked event from topic: {}, partition: {}, offset: {}",
-				topic, partition, offset);
+		log.info("Received {} appointment booked events (partitions: {})", records.size(),
+				records.stream().map(ConsumerRecord::partition).distinct().toList());
+
+		List<AppointmentBookedEvent> events = records.stream()
+				.map(ConsumerRecord::value)
+				.toList();
 
 		try {
-			this.retryTemplate.execute(context -> {
-				log.info("Processing appointment booked event (attempt {}): {}",
-						context.getRetryCount() + 1,
-						event.getAppointmentNumber());
+			this.billingService.handleAppointmentBookedBatch(events);
+
+		} catch (Exception ex) {
+			// One bad event must not hold back the rest of the poll: process them individually
+			log.warn("Batch bill generation failed for {} events - falling back to per-event processing",
+					events.size(), ex);
+			processIndividually(events);
+		}
+
+		acknowledgment.acknowledge();
+	}
 
-				this.billingService.handleAppointmentBooked(event);
-				return null;
-			});
+	/**
+	 * Tries each event once, without sleeping between attempts; failures go to
+	 * the DLT. Events still unprocessed when the budget runs out (e.g. every
+	 * attempt waits out a database timeout) are dead-lettered untried, so the
+	 * poll is always acknowledged in time.
+	 */
+	private void processIndividually(List<AppointmentBookedEvent> events) {
+		long deadline = System.nanoTime() + this.fallbackBudget.toNanos();
+		for (int i = 0; i < events.size(); i++) {
+			if (System.nanoTime() - deadline > 0) {
+				List<AppointmentBookedEvent> remaining = events.subList(i, events.size());
+				log.error("Per-event fallback exceeded {} - sending {} unprocessed events to DLT",
+						this.fallbackBudget, remaining.size());
+				IllegalStateException cause = new IllegalStateException("Fallback budget exhausted");
+				remaining.forEach(event -> sendConsumerToDLT(event, cause));
+				return;
+			}
+			processAppointmentBookedEvent(events.get(i));
+		}
+	}
+
+	private void processAppointmentBookedEvent(AppointmentBookedEvent event) {
+		try {
+			this.billingService.handleAppointmentBooked(event);
 
-			acknowledgment.acknowledge();
 			log.info("Successfully processed appointment booked event: {}",
-					event.getAppointmentNumber());
+					event.appointmentNumber());
 
 		} catch (ApplicationException ex) {
 			if (ex.getErrorCode() == ErrorCode.DUPLICATE_BILL) {
-				log.warn("Duplicate bill for appointment: {} - Acknowledging and skipping",
-						event.getAppointmentId());
-				acknowledgment.acknowledge();
+				log.warn("Duplicate bill for appointment: {} - Skipping",
+						event.appointmentId());
 				return;
 			}
 
-			log.error("Business failure processing appointment {} after retries - Sending to DLT",
-					event.getAppointmentNumber(), ex);
+			log.error("Business failure processing appointment {} - Sending to DLT",
+					event.appointmentNumber(), ex);
 			sendConsumerToDLT(event, ex);
-			acknowledgment.acknowledge();
 
 		} catch (Exception ex) {
-			log.error("Technical failure processing appointment {} after retries - Sending to DLT",
-					event.getAppointmentNumber(), ex);
+			log.error("Technical failure processing appointment {} - Sending to DLT",
+					event.appointmentNumber(), ex);
 			sendConsumerToDLT(event, ex);
-			acknowledgment.acknowledge();
 		}
 	}
 
 	private void sendConsumerToDLT(AppointmentBookedEvent event, Exception cause) {
 		try {
 			this.kafkaTemplate.send(APPOINTMENT_BOOKED_DLT,
-					event.getAppointmentNumber(),
+					event.appointmentNumber(),
 					event);
 			log.error("Sent consumer event to DLT: {} due to {}",
-					event.getAppointmentNumber(),
+					event.appointmentNumber(),
 					cause.getMessage());
 		} catch (Exception dltEx) {
 			log.error("DLT publish ALSO FAILED for consumer event {}",
-					event.getAppointmentNumber(), dltEx);
+					event.appointmentNumber(), dltEx);
 		}
 	}
 }
\ No newline at end of file
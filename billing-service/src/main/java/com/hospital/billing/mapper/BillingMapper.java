@@ -1,20 +1,30 @@
 package com.hospital.billing.mapper;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 
-import com.hospital.billing.dto.AppointmentBookedEvent;
-import com.hospital.billing.dto.BillGeneratedEvent;
 import com.hospital.billing.dto.BillResponse;
 import com.hospital.billing.dto.CreateBillRequest;
 import com.hospital.billing.entity.Bill;
+import com.hospital.platform.events.AppointmentBookedEvent;
+import com.hospital.platform.events.BillGeneratedEvent;
+import com.hospital.platform.ids.TimeOrderedIdGenerator;
+
+import lombok.RequiredArgsConstructor;
 
 @Component
+@RequiredArgsConstructor
 public class BillingMapper {
 
+	/** Scale of the decimal fields in the event schemas and the money columns. */
+	private static final int MONEY_SCALE = 2;
+
+	private final TimeOrderedIdGenerator idGenerator;
+
 	public BillResponse toResponse(Bill bill) {
 		return BillResponse.builder()
 				.id(bill.getId())
@@ -41,17 +51,17 @@ public class BillingMapper {
 				.billId(bill.getId())
 				.appointmentId(bill.getAppointmentId())
 				.patientId(bill.getPatientId())
-				.totalAmount(bill.getTotalAmount())
+				.totalAmount(toMoney(bill.getTotalAmount()))
 				.eventTimestamp(LocalDateTime.now())
 				.build();
 	}
 
 	public CreateBillRequest fromApppointmentBookedEvent(AppointmentBookedEvent event) {
 		return CreateBillRequest.builder()
-				.appointmentId(event.getAppointmentId())
-				.patientId(event.getPatientId())
-				.patientName(event.getPatientName())
-				.consultationFee(event.getConsultationFee())
+				.appointmentId(event.appointmentId())
+				.patientId(event.patientId())
+				.patientName(event.patientName())
+				.consultationFee(event.consultationFee())
 				.labCharges(BigDecimal.ZERO)
 				.pharmacyCharges(BigDecimal.ZERO)
 				.build();
@@ -69,14 +79,18 @@ public class BillingMapper {
 		bill.setLabCharges(request.getLabCharges() != null ? request.getLabCharges() : BigDecimal.ZERO);
 		bill.setPharmacyCharges(request.getPharmacyCharges() != null ? request.getPharmacyCharges() : BigDecimal.ZERO);
 		bill.setPaidAmount(BigDecimal.ZERO);
+		bill.setReservedAmount(BigDecimal.ZERO);
 		bill.setStatus(Bill.BillStatus.PENDING);
 		return bill;
 
 	}
 
+	private static BigDecimal toMoney(BigDecimal amount) {
+		return amount == null ? null : amount.setScale(MONEY_SCALE, RoundingMode.HALF_UP);
+	}
+
 	private String generateBillNumber() {
-		return "BILL-" + LocalDateTime.now().getYear() + "-" +
-				UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+		return this.idGenerator.nextReference("BILL");
 	}
 
 }
@@ -1,26 +1,35 @@
 package com.hospital.billing.mapper;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 
 import com.hospital.billing.dto.CreatePaymentRequest;
-import com.hospital.billing.dto.PaymentCompletedEvent;
-import com.hospital.billing.dto.PaymentFailedEvent;
 import com.hospital.billing.dto.PaymentResponse;
 import com.hospital.billing.entity.Payment;
+import com.hospital.platform.events.PaymentCompletedEvent;
+import com.hospital.platform.events.PaymentFailedEvent;
+import com.hospital.platform.ids.TimeOrderedIdGenerator;
+
+import lombok.RequiredArgsConstructor;
 
 @Component
+@RequiredArgsConstructor
 public class PaymentMapper {
 
+	private static final int MONEY_SCALE = 2;
+
+	private final TimeOrderedIdGenerator idGenerator;
+
 	public PaymentResponse toResponse(Payment payment) {
 		return PaymentResponse.builder()
 				.id(payment.getId())
 				.paymentReference(payment.getPaymentReference())
 				.billId(payment.getBillId())
-				.amount(payment.getAmount())
+				.amount(toMoney(payment.getAmount()))
 				.paymentMethod(payment.getPaymentMethod().name())
 				.status(payment.getStatus().name())
 				.transactionId(payment.getTransactionId())
@@ -33,7 +42,7 @@ public class PaymentMapper {
 		return PaymentFailedEvent.builder()
 				.eventId(UUID.randomUUID().toString())
 				.billId(billId)
-				.amount(amount)
+				.amount(toMoney(amount))
 				.reason(reason)
 				.eventTimestamp(LocalDateTime.now())
 				.build();
@@ -65,9 +74,12 @@ public class PaymentMapper {
 
 	}
 
+	private static BigDecimal toMoney(BigDecimal amount) {
+		return amount == null ? null : amount.setScale(MONEY_SCALE, RoundingMode.HALF_UP);
+	}
+
 	private String generatePaymentReference() {
-		return "PAY-" + LocalDateTime.now().getYear() + "-" +
-				UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+		return this.idGenerator.nextReference("PAY");
 	}
 
 }
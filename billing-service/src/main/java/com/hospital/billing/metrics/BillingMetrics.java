@@ -0,0 +1,117 @@
+package com.hospital.billing.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * All meters published by the billing service, resolved once so hot paths
+ * only increment or record. Tagged meters are cached by tag value; every tag
+ * value comes from code (gateway names, outcomes), never from input.
+ */
+@Component
+public class BillingMetrics {
+
+	private final MeterRegistry meterRegistry;
+
+	private final Counter paymentsSucceeded;
+	private final Counter paymentsFailed;
+	private final Timer paymentTimer;
+	private final Timer billCreationFromApiTimer;
+	private final Timer billCreationFromEventsTimer;
+	private final ConcurrentHashMap<String, Timer> gatewayTimers = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Counter> billUpdateRetries = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Counter> paymentRejections = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Counter> idempotencyLookups = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Counter> paymentReconciliations = new ConcurrentHashMap<>();
+
+	public BillingMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+
+		this.paymentsSucceeded = Counter.builder("payments_success_total")
+				.description("Payments confirmed by the gateway")
+				.register(meterRegistry);
+		this.paymentsFailed = Counter.builder("payments_failure_total")
+				.description("Payments declined, timed out or failed at the gateway")
+				.register(meterRegistry);
+		this.paymentTimer = Timer.builder("billing_payment_duration")
+				.description("End-to-end time to reserve, charge and settle a payment")
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+		this.billCreationFromApiTimer = billCreationTimer("api");
+		this.billCreationFromEventsTimer = billCreationTimer("event_batch");
+	}
+
+	public void paymentSucceeded() {
+		this.paymentsSucceeded.increment();
+	}
+
+	public void paymentFailed() {
+		this.paymentsFailed.increment();
+	}
+
+	public Timer paymentTimer() {
+		return this.paymentTimer;
+	}
+
+	public Timer billCreationFromApiTimer() {
+		return this.billCreationFromApiTimer;
+	}
+
+	public Timer billCreationFromEventsTimer() {
+		return this.billCreationFromEventsTimer;
+	}
+
+	public Timer gatewayTimer(String gateway, String outcome) {
+		return this.gatewayTimers.computeIfAbsent(gateway + '|' + outcome, key -> Timer.builder("payment_gateway_latency")
+				.description("Payment gateway round trip")
+				.tag("gateway", gateway)
+				.tag("outcome", outcome)
+				.publishPercentileHistogram()
+				.register(this.meterRegistry));
+	}
+
+	public void billUpdateRetried(String operation) {
+		this.billUpdateRetries.computeIfAbsent(operation, op -> Counter.builder("billing_bill_update_retries_total")
+				.description("Conditional bill updates retried because a concurrent payment changed the bill")
+				.tag("operation", op)
+				.register(this.meterRegistry))
+				.increment();
+	}
+
+	public void paymentRejected(String reason) {
+		this.paymentRejections.computeIfAbsent(reason, r -> Counter.builder("billing_payment_rejections_total")
+				.description("Payments refused before reaching the gateway, by what the bill could not cover")
+				.tag("reason", r)
+				.register(this.meterRegistry))
+				.increment();
+	}
+
+	public void idempotencyLookup(String result) {
+		this.idempotencyLookups.computeIfAbsent(result, r -> Counter.builder("billing_idempotency_lookups_total")
+				.description("Idempotency key lookups, by the tier that answered them")
+				.tag("result", r)
+				.register(this.meterRegistry))
+				.increment();
+	}
+
+	public void paymentReconciled(String outcome) {
+		this.paymentReconciliations.computeIfAbsent(outcome, o -> Counter.builder("billing_payment_reconciliations_total")
+				.description("Pending payments settled or released from the outcome the gateway reports")
+				.tag("outcome", o)
+				.register(this.meterRegistry))
+				.increment();
+	}
+
+	private Timer billCreationTimer(String source) {
+		return Timer.builder("billing_bill_creation_duration")
+				.description("Time to create bills, per request or per consumed event batch")
+				.tag("source", source)
+				.publishPercentileHistogram()
+				.register(this.meterRegistry);
+	}
+}
@@ -1,16 +1,16 @@
 package com.hospital.billing.security;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.hospital.platform.security.JwtClaimsCache;
+import com.hospital.platform.security.JwtTokenProvider;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtTokenProvider jwtTokenProvider;
+	private final JwtClaimsCache jwtClaimsCache;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -31,18 +32,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		try {
 			String jwt = getJwtFromRequest(request);
 
-			if (jwt != null && this.jwtTokenProvider.validateToken(jwt)) {
-				String username = this.jwtTokenProvider.getUsernameFromToken(jwt);
-				List<String> roles = this.jwtTokenProvider.getRolesFromToken(jwt);
-
-				List<SimpleGrantedAuthority> authorities = roles.stream()
-						.map(SimpleGrantedAuthority::new)
-						.collect(Collectors.toList());
-
-				UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(username, null, authorities);
+			if (jwt != null) {
+				this.jwtClaimsCache.getOrVerify(jwt, this.jwtTokenProvider::parseToken).ifPresent(principal -> {
+					UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+							principal.username(), null, principal.authorities());
 
-				authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-				SecurityContextHolder.getContext().setAuthentication(authentication);
+					authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+					SecurityContextHolder.getContext().setAuthentication(authentication);
+				});
 			}
 		} catch (Exception ex) {
 			log.error("Could not set authentication", ex);
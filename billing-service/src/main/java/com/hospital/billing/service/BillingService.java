@@ -1,22 +1,25 @@
 package com.hospital.billing.service;
 
-import static com.hospital.billing.entity.Bill.BillStatus.PAID;
-
-import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.hospital.billing.dao.BillDao;
-import com.hospital.billing.dto.AppointmentBookedEvent;
-import com.hospital.billing.dto.BillGeneratedEvent;
 import com.hospital.billing.dto.BillResponse;
 import com.hospital.billing.dto.CreateBillRequest;
 import com.hospital.billing.entity.Bill;
 import com.hospital.billing.exception.ApplicationException;
 import com.hospital.billing.exception.ErrorCode;
-import com.hospital.billing.kafka.KafkaProducerService;
 import com.hospital.billing.mapper.BillingMapper;
+import com.hospital.billing.metrics.BillingMetrics;
+import com.hospital.platform.events.AppointmentBookedEvent;
+import com.hospital.platform.events.BillGeneratedEvent;
+import com.hospital.platform.events.EventTopics;
+import com.hospital.platform.outbox.OutboxWriter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,12 +29,17 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class BillingService {
 
-	private final KafkaProducerService kafkaProducerService;
+	private final OutboxWriter outboxWriter;
 	private final BillDao dao;
 	private final BillingMapper mapper;
+	private final BillingMetrics metrics;
 
 	@Transactional
 	public BillResponse createBill(CreateBillRequest request) {
+		return this.metrics.billCreationFromApiTimer().record(() -> createBillInternal(request));
+	}
+
+	private BillResponse createBillInternal(CreateBillRequest request) {
 		log.info("Creating bill for appointment: {}", request.getAppointmentId());
 
 		// Prevent duplicate billing
@@ -50,59 +58,73 @@ public class BillingService {
 		return mapToResponse(savedBill);
 	}
 
+	@Transactional(readOnly = true)
 	public BillResponse getBill(Long billId) {
 		log.info("Fetching bill: {}", billId);
 
-		Bill bill = this.dao.findByBillId(billId)
+		return this.dao.findResponseByBillId(billId)
 				.orElseThrow(() -> new ApplicationException(ErrorCode.BILL_NOT_FOUND, "Bill not found: " + billId));
-
-		return mapToResponse(bill);
-	}
-
-	@Transactional
-	public void updateBillPayment(Long billId, BigDecimal paidAmount) {
-		log.info("Updating bill {} with payment: {}", billId, paidAmount);
-
-		Bill bill = this.dao.findByIdForUpdate(billId)
-				.orElseThrow(() -> new ApplicationException(ErrorCode.BILL_NOT_FOUND, "Bill not found: " + billId));
-
-		if (bill.getStatus() == PAID) {
-			throw new ApplicationException(ErrorCode.PAYMENT_FAILED, "Bill already paid");
-		}
-
-		bill.setPaidAmount(bill.getPaidAmount().add(paidAmount));
-		bill.calculateTotalAndDue();
-
-		log.info("Bill updated. Status: {}, Due: {}", bill.getStatus(), bill.getDueAmount());
 	}
 
 	@Transactional
 	public void handleAppointmentBooked(AppointmentBookedEvent event) {
-		log.info("Received appointment booked event: {}", event.getAppointmentNumber());
+		log.info("Received appointment booked event: {}", event.appointmentNumber());
 
 		try {
 			CreateBillRequest request = this.mapper.fromApppointmentBookedEvent(event);
 			createBillForConsumer(request);
-			log.info("Bill automatically generated for appointment: {}", event.getAppointmentId());
+			log.info("Bill automatically generated for appointment: {}", event.appointmentId());
 
 		} catch (ApplicationException ex) {
 
 			if (ex.getErrorCode() == ErrorCode.DUPLICATE_BILL) {
-				log.warn("Bill already exists for appointment: {}", event.getAppointmentId());
+				log.warn("Bill already exists for appointment: {}", event.appointmentId());
 				return;
 			}
 
-			log.error("Application error while generating bill for appointment {} [{}]", event.getAppointmentId(), ex.getErrorCode().name(), ex);
+			log.error("Application error while generating bill for appointment {} [{}]", event.appointmentId(), ex.getErrorCode().name(), ex);
 			throw ex;
 
 		} catch (Exception ex) {
 
-			log.error("Technical failure while generating bill for appointment {}", event.getAppointmentId(), ex);
+			log.error("Technical failure while generating bill for appointment {}", event.appointmentId(), ex);
 
 			throw new ApplicationException(ErrorCode.INTERNAL_ERROR,
-					"Unexpected failure while generating bill for appointment " + event.getAppointmentId());
+					"Unexpected failure while generating bill for appointment " + event.appointmentId());
+		}
+
+	}
+
+	/**
+	 * Generates bills for a poll's worth of events: one IN query to skip
+	 * appointments already billed, then a single JDBC batch insert.
+	 */
+	@Transactional
+	public int handleAppointmentBookedBatch(List<AppointmentBookedEvent> events) {
+		return this.metrics.billCreationFromEventsTimer().record(() -> createBillsForEvents(events));
+	}
+
+	private int createBillsForEvents(List<AppointmentBookedEvent> events) {
+		Map<Long, AppointmentBookedEvent> eventsByAppointment = new LinkedHashMap<>();
+		for (AppointmentBookedEvent event : events) {
+			eventsByAppointment.putIfAbsent(event.appointmentId(), event);
 		}
 
+		Set<Long> alreadyBilled = this.dao.findExistingAppointmentIds(eventsByAppointment.keySet());
+
+		List<Bill> bills = eventsByAppointment.values().stream()
+				.filter(event -> !alreadyBilled.contains(event.appointmentId()))
+				.map(event -> {
+					Bill bill = this.mapper.fromRequest(this.mapper.fromApppointmentBookedEvent(event));
+					bill.calculateTotalAndDue();
+					return bill;
+				})
+				.toList();
+
+		int inserted = this.dao.insertBatch(bills);
+		log.info("Generated {} bills from {} appointment booked events ({} duplicates skipped)",
+				inserted, events.size(), events.size() - inserted);
+		return inserted;
 	}
 
 	private Bill createBillForConsumer(CreateBillRequest request) {
@@ -120,7 +142,7 @@ public class BillingService {
 
 	private void publishBillGeneratedEvent(Bill bill) {
 		BillGeneratedEvent event = this.mapper.fromBillEntity(bill);
-		this.kafkaProducerService.sendBillGeneratedEvent(event);
+		this.outboxWriter.enqueue(EventTopics.BILL_GENERATED, event.billNumber(), event);
 	}
 
 	private BillResponse mapToResponse(Bill bill) {
@@ -0,0 +1,159 @@
+package com.hospital.billing.service;
+
+import static com.hospital.billing.entity.Bill.BillStatus.PAID;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hospital.billing.dao.BillDao;
+import com.hospital.billing.dao.BillDao.BillBalance;
+import com.hospital.billing.dao.PaymentDao;
+import com.hospital.billing.dto.CreatePaymentRequest;
+import com.hospital.billing.entity.Payment;
+import com.hospital.billing.exception.ApplicationException;
+import com.hospital.billing.exception.ErrorCode;
+import com.hospital.billing.mapper.PaymentMapper;
+import com.hospital.billing.metrics.BillingMetrics;
+import com.hospital.platform.events.EventTopics;
+import com.hospital.platform.events.PaymentCompletedEvent;
+import com.hospital.platform.events.PaymentFailedEvent;
+import com.hospital.platform.outbox.OutboxWriter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Short transactions around a gateway charge. The bill is never locked: each
+ * step is one conditional UPDATE, so concurrent split payments on a bill only
+ * serialize on the row write itself. A reservation that loses a race is
+ * re-read and either retried or rejected with the reason. Settling or
+ * failing a payment queues its event in the outbox in the same transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentReservationService {
+
+	private final PaymentDao paymentDao;
+	private final BillDao billDao;
+	private final PaymentMapper mapper;
+	private final BillingMetrics metrics;
+	private final OutboxWriter outboxWriter;
+
+	private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+	public record Reservation(Payment payment, String billNumber) {
+	}
+
+	/**
+	 * Inserts the payment before touching the bill, so a duplicate idempotency
+	 * key fails on the unique index with the bill untouched.
+	 */
+	@Transactional
+	public Reservation reserve(CreatePaymentRequest request) {
+		Payment payment = this.paymentDao.save(this.mapper.fromrequest(request));
+		BillBalance bill = reserveOnBill(request.getBillId(), request.getAmount());
+
+		log.info("Reserved {} on bill {} for payment {}", request.getAmount(), bill.billNumber(), payment.getPaymentReference());
+		return new Reservation(payment, bill.billNumber());
+	}
+
+	@Transactional
+	public Payment confirm(Long paymentId, String transactionId) {
+		Payment payment = findPendingPayment(paymentId);
+		BillBalance bill = this.billDao.settleReservation(payment.getBillId(), payment.getAmount())
+				.orElseThrow(() -> new ApplicationException(ErrorCode.INTERNAL_ERROR,
+						"Bill " + payment.getBillId() + " cannot settle reserved payment " + payment.getPaymentReference()));
+
+		payment.setTransactionId(transactionId);
+		payment.setStatus(Payment.PaymentStatus.COMPLETED);
+
+		PaymentCompletedEvent event = this.mapper.toPaymentCompletedEvent(payment, bill.billNumber());
+		this.outboxWriter.enqueue(EventTopics.PAYMENT_COMPLETED, event.paymentReference(), event);
+
+		log.info("Payment {} confirmed. Bill status: {}, Due: {}", payment.getPaymentReference(), bill.status(), bill.dueAmount());
+		return payment;
+	}
+
+	@Transactional
+	public Payment fail(Long paymentId, String reason) {
+		Payment payment = findPendingPayment(paymentId);
+		BillBalance bill = releaseOnBill(payment);
+
+		payment.setStatus(Payment.PaymentStatus.FAILED);
+		payment.setFailureReason(reason);
+
+		PaymentFailedEvent event = this.mapper.toPaymentFailedEvent(payment.getBillId(), payment.getAmount(), reason);
+		this.outboxWriter.enqueue(EventTopics.PAYMENT_FAILED, event.eventId(), event);
+
+		log.info("Payment {} failed, released {} on bill {}", payment.getPaymentReference(), payment.getAmount(), bill.billNumber());
+		return payment;
+	}
+
+	/**
+	 * Undoes a reservation that never reached the gateway, so the client can
+	 * retry with the same idempotency key.
+	 */
+	@Transactional
+	public void abandon(Long paymentId) {
+		Payment payment = findPendingPayment(paymentId);
+		releaseOnBill(payment);
+		this.paymentDao.delete(payment);
+	}
+
+	/**
+	 * The conditional UPDATE does not say why it matched no row, so the bill is
+	 * re-read to find out. If the re-read shows the amount fits after all, a
+	 * concurrent settle or release landed in between and the update is retried.
+	 */
+	private BillBalance reserveOnBill(Long billId, BigDecimal amount) {
+		for (int attempt = 1; attempt <= MAX_RESERVE_ATTEMPTS; attempt++) {
+			Optional<BillBalance> reserved = this.billDao.reserve(billId, amount);
+			if (reserved.isPresent()) {
+				return reserved.get();
+			}
+
+			BillBalance bill = this.billDao.findBalance(billId)
+					.orElseThrow(() -> new ApplicationException(ErrorCode.BILL_NOT_FOUND, "Bill not found: " + billId));
+
+			if (bill.status() == PAID) {
+				this.metrics.paymentRejected("bill_paid");
+				throw new ApplicationException(ErrorCode.PAYMENT_FAILED, "Bill already paid");
+			}
+			if (amount.compareTo(bill.dueAmount()) > 0) {
+				this.metrics.paymentRejected("exceeds_due");
+				throw new ApplicationException(ErrorCode.PAYMENT_FAILED, "Payment amount exceeds due amount");
+			}
+			if (amount.compareTo(bill.payableAmount()) > 0) {
+				this.metrics.paymentRejected("amount_reserved");
+				throw new ApplicationException(ErrorCode.PAYMENT_AMOUNT_UNAVAILABLE,
+						"Payment amount exceeds amount still payable; " + bill.reservedAmount() + " is awaiting gateway confirmation");
+			}
+			this.metrics.billUpdateRetried("reserve");
+		}
+
+		this.metrics.paymentRejected("contended");
+		throw new ApplicationException(ErrorCode.PAYMENT_AMOUNT_UNAVAILABLE,
+				"Bill " + billId + " is being updated by concurrent payments, please retry");
+	}
+
+	private BillBalance releaseOnBill(Payment payment) {
+		return this.billDao.releaseReservation(payment.getBillId(), payment.getAmount())
+				.orElseThrow(() -> new ApplicationException(ErrorCode.BILL_NOT_FOUND, "Bill not found: " + payment.getBillId()));
+	}
+
+	// Locks the payment row, so the request thread and a reconciliation sweep cannot both settle it
+	private Payment findPendingPayment(Long paymentId) {
+		Payment payment = this.paymentDao.findByPaymentIdForUpdate(paymentId)
+				.orElseThrow(() -> new ApplicationException(ErrorCode.PAYMENT_NOT_FOUND, "Payment not found: " + paymentId));
+
+		if (payment.getStatus() != Payment.PaymentStatus.PENDING) {
+			throw new ApplicationException(ErrorCode.PAYMENT_FAILED,
+					"Payment " + payment.getPaymentReference() + " is already " + payment.getStatus());
+		}
+		return payment;
+	}
+}
@@ -1,26 +1,25 @@
 package com.hospital.billing.service;
 
-import java.math.BigDecimal;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.hospital.billing.dao.BillDao;
-import com.hospital.billing.dao.PaymentDao;
 import com.hospital.billing.dto.CreatePaymentRequest;
-import com.hospital.billing.dto.PaymentCompletedEvent;
-import com.hospital.billing.dto.PaymentFailedEvent;
 import com.hospital.billing.dto.PaymentResponse;
-import com.hospital.billing.entity.Bill;
 import com.hospital.billing.entity.Payment;
 import com.hospital.billing.exception.ApplicationException;
 import com.hospital.billing.exception.ErrorCode;
-import com.hospital.billing.kafka.KafkaProducerService;
 import com.hospital.billing.mapper.PaymentMapper;
+import com.hospital.billing.metrics.BillingMetrics;
+import com.hospital.billing.service.PaymentReservationService.Reservation;
+import com.hospital.billing.service.gateway.GatewayChargeRequest;
+import com.hospital.billing.service.gateway.GatewayChargeResult;
+import com.hospital.billing.service.gateway.PaymentGatewayClient;
+import com.hospital.billing.service.idempotency.PaymentIdempotencyStore;
 
-import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,102 +28,165 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PaymentService {
 
-	private final PaymentDao paymentDao;
-	private final BillDao billingDao;
-	private final BillingService billingService;
-	private final KafkaProducerService kafkaProducerService;
-	private final MeterRegistry meterRegistry;
+	private final PaymentReservationService reservationService;
+	private final PaymentGatewayClient gatewayClient;
+	private final BillingMetrics metrics;
 	private final PaymentMapper mapper;
-
-	@Transactional
+	private final PaymentIdempotencyStore idempotencyStore;
+
+	private static final int MAX_CONFIRM_ATTEMPTS = 3;
+
+	/**
+	 * Reserves the amount on the bill, charges the gateway with no transaction
+	 * open, then settles or releases the reservation in a second transaction.
+	 * Waiting on the gateway parks only the request thread, which is cheap
+	 * when virtual threads are enabled.
+	 * <p>
+	 * A repeated idempotency key replays the original outcome instead of
+	 * charging again: the stored response, the same failure, or the payment
+	 * as it currently stands if the first request is still in flight.
+	 * <p>
+	 * A charge whose outcome is unknown (a gateway timeout, or an approval
+	 * that could not be recorded) leaves the payment pending with the amount
+	 * still reserved. {@link #reconcile(Payment)} later settles or releases it
+	 * from what the gateway reports.
+	 */
 	public PaymentResponse processPayment(CreatePaymentRequest request) {
+		return this.metrics.paymentTimer().record(() -> reserveChargeAndSettle(request));
+	}
+
+	private PaymentResponse reserveChargeAndSettle(CreatePaymentRequest request) {
 		log.info("Processing payment for bill: {}", request.getBillId());
 
-		var bill = validatePaymentRequest(request);
-		Payment payment = this.mapper.fromrequest(request);
+		String idempotencyKey = request.getIdempotencyKey();
+		Optional<PaymentResponse> original = this.idempotencyStore.find(idempotencyKey);
+		if (original.isPresent()) {
+			return replay(original.get());
+		}
 
+		Reservation reservation;
 		try {
-			String transactionId = processWithPaymentGateway(request);
-			payment.setTransactionId(transactionId);
-			payment.setStatus(Payment.PaymentStatus.COMPLETED);
-
-			this.billingService.updateBillPayment(request.getBillId(), request.getAmount());
-
-			Payment savedPayment = this.paymentDao.save(payment);
+			reservation = this.reservationService.reserve(request);
+		} catch (DataIntegrityViolationException ex) {
+			// Another request, possibly on another instance, stored this key first
+			return this.idempotencyStore.load(idempotencyKey)
+					.map(this::replay)
+					.orElseThrow(() -> ex);
+		}
+		Payment payment = reservation.payment();
+		this.idempotencyStore.stored(idempotencyKey);
 
-			log.info("Payment completed: {}", savedPayment.getPaymentReference());
+		GatewayChargeResult result;
+		try {
+			log.info("Processing payment {} with gateway {}", payment.getPaymentReference(), this.gatewayClient.activeGateway());
+			result = this.gatewayClient.charge(toGatewayRequest(payment)).join();
+
+		} catch (CompletionException ex) {
+			Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+
+			if (cause instanceof ApplicationException ae && ae.getErrorCode() == ErrorCode.PAYMENT_GATEWAY_BUSY) {
+				this.reservationService.abandon(payment.getId());
+				throw ae;
+			}
+			if (cause instanceof TimeoutException) {
+				// The gateway may still have taken the money, so this is not a decline
+				log.warn("Payment gateway timed out on payment {}; leaving it pending for reconciliation",
+						payment.getPaymentReference());
+				throw new ApplicationException(ErrorCode.PAYMENT_GATEWAY_TIMEOUT, "Payment " + payment.getPaymentReference()
+						+ " is awaiting confirmation from the payment gateway; repeat the request with the same idempotency key for its outcome");
+			}
+
+			log.error("Payment processing failed", cause);
+			throw failPayment(payment, cause.getMessage(), ErrorCode.PAYMENT_FAILED);
+		}
 
-			// Increment success metric
-			Counter.builder("payments_success_total")
-					.register(this.meterRegistry)
-					.increment();
+		if (!result.approved()) {
+			throw failPayment(payment, result.declineReason(), ErrorCode.PAYMENT_FAILED);
+		}
 
-			publishPaymentCompletedEvent(savedPayment, bill.getBillNumber());
+		return complete(payment, result.transactionId());
+	}
 
-			return mapToResponse(savedPayment);
+	/**
+	 * Settles or releases a payment left pending, from the outcome the gateway
+	 * reports for it. A charge the gateway never received is released.
+	 */
+	public void reconcile(Payment payment) {
+		Optional<GatewayChargeResult> charge = this.gatewayClient.findCharge(payment.getPaymentReference()).join();
+
+		if (charge.isPresent() && charge.get().approved()) {
+			complete(payment, charge.get().transactionId());
+			this.metrics.paymentReconciled("completed");
+			return;
+		}
 
-		} catch (Exception e) {
-			log.error("Payment processing failed", e);
+		String reason = charge.map(GatewayChargeResult::declineReason).orElse("Not received by payment gateway");
+		failPayment(payment, reason, ErrorCode.PAYMENT_FAILED);
+		this.metrics.paymentReconciled(charge.isPresent() ? "declined" : "not_received");
+	}
 
-			payment.setStatus(Payment.PaymentStatus.FAILED);
-			payment.setFailureReason(e.getMessage());
-			this.paymentDao.save(payment);
+	private PaymentResponse complete(Payment payment, String transactionId) {
+		Payment completedPayment;
+		try {
+			completedPayment = confirmWithRetry(payment, transactionId);
+		} catch (ApplicationException ex) {
+			throw ex;
+		} catch (RuntimeException ex) {
+			log.error("Payment {} was approved by the gateway as {} but could not be recorded; reconciliation will settle it",
+					payment.getPaymentReference(), transactionId, ex);
+			throw new ApplicationException(ErrorCode.INTERNAL_ERROR, "Payment " + payment.getPaymentReference()
+					+ " was approved and is being recorded; repeat the request with the same idempotency key for its outcome");
+		}
 
-			// Increment failure metric
-			Counter.builder("payments_failure_total")
-					.register(this.meterRegistry)
-					.increment();
+		log.info("Payment completed: {}", completedPayment.getPaymentReference());
 
-			publishPaymentFailedEvent(request.getBillId(), request.getAmount(), e.getMessage());
+		this.metrics.paymentSucceeded();
 
-			throw new ApplicationException(ErrorCode.PAYMENT_FAILED, "Payment processing failed: " + e.getMessage());
-		}
+		PaymentResponse response = mapToResponse(completedPayment);
+		this.idempotencyStore.finished(payment.getIdempotencyKey(), response);
+		return response;
 	}
 
-	private Bill validatePaymentRequest(CreatePaymentRequest request) {
-
-		// Idempotency check - prevent double payment
-		var existingPayment = this.paymentDao.existsByIdempotencyKey(request.getIdempotencyKey());
-		if (existingPayment) {
-			log.warn("Duplicate payment attempt detected: {}", request.getIdempotencyKey());
-			throw new ApplicationException(ErrorCode.DUPLICATE_PAYMENT, "Payment already processed with this idempotency key");
+	// The money is taken once the gateway approves, so a transient database error is worth retrying at once
+	private Payment confirmWithRetry(Payment payment, String transactionId) {
+		for (int attempt = 1;; attempt++) {
+			try {
+				return this.reservationService.confirm(payment.getId(), transactionId);
+			} catch (ApplicationException ex) {
+				throw ex;
+			} catch (RuntimeException ex) {
+				if (attempt == MAX_CONFIRM_ATTEMPTS) {
+					throw ex;
+				}
+				log.warn("Recording approved payment {} failed (attempt {}), retrying", payment.getPaymentReference(), attempt, ex);
+			}
 		}
+	}
 
-		// Verify bill exists
-		var bill = this.billingDao.findByIdForUpdate(request.getBillId())
-				.orElseThrow(() -> new ApplicationException(ErrorCode.BILL_NOT_FOUND, "Bill not found: " + request.getBillId()));
-
-		// Validate payment amount
-		if (request.getAmount().compareTo(bill.getDueAmount()) > 0) {
-			throw new ApplicationException(ErrorCode.PAYMENT_FAILED, "Payment amount exceeds due amount");
+	private PaymentResponse replay(PaymentResponse original) {
+		log.info("Replaying payment {} for a repeated idempotency key", original.getPaymentReference());
+		if (Payment.PaymentStatus.FAILED.name().equals(original.getStatus())) {
+			throw new ApplicationException(ErrorCode.PAYMENT_FAILED, "Payment processing failed: " + original.getFailureReason());
 		}
-		return bill;
+		return original;
 	}
 
-	private String processWithPaymentGateway(CreatePaymentRequest request) {
-		// Simulate payment gateway call
-		// In real scenario, this would call actual payment gateway API
-		log.info("Processing payment with gateway...");
+	private ApplicationException failPayment(Payment payment, String reason, ErrorCode errorCode) {
+		Payment failedPayment = this.reservationService.fail(payment.getId(), reason);
+		this.idempotencyStore.finished(payment.getIdempotencyKey(), mapToResponse(failedPayment));
 
-		// Simulate processing time
-		try {
-			Thread.sleep(100);
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-		}
-
-		// Generate transaction ID
-		return "TXN-" + UUID.randomUUID().toString().substring(0, 12).toUpperCase();
-	}
+		this.metrics.paymentFailed();
 
-	private void publishPaymentCompletedEvent(Payment payment, String billNumber) {
-		PaymentCompletedEvent event = this.mapper.toPaymentCompletedEvent(payment, billNumber);
-		this.kafkaProducerService.sendPaymentCompletedEvent(event);
+		return new ApplicationException(errorCode, "Payment processing failed: " + reason);
 	}
 
-	private void publishPaymentFailedEvent(Long billId, BigDecimal amount, String reason) {
-		PaymentFailedEvent event = this.mapper.toPaymentFailedEvent(billId, amount, reason);
-		this.kafkaProducerService.sendPaymentFailedEvent(event);
+	private GatewayChargeRequest toGatewayRequest(Payment payment) {
+		return new GatewayChargeRequest(
+				payment.getPaymentReference(),
+				payment.getBillId(),
+				payment.getAmount(),
+				payment.getPaymentMethod().name(),
+				payment.getIdempotencyKey());
 	}
 
 	private PaymentResponse mapToResponse(Payment payment) {
@@ -0,0 +1,54 @@
+package com.hospital.billing.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.hospital.billing.config.PaymentGatewayProperties;
+import com.hospital.billing.dao.PaymentDao;
+import com.hospital.billing.entity.Payment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Finishes payments left pending between reserve and settle: a gateway
+ * timeout, an approval that could not be recorded, or a crash in between.
+ * Only payments older than the gateway timeout plus a grace period are
+ * touched, so a charge still in flight is left to its request. Every instance
+ * sweeps; the payment row lock makes sure each payment is settled once.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PendingPaymentReconciler {
+
+	private final PaymentDao paymentDao;
+	private final PaymentService paymentService;
+	private final PaymentGatewayProperties properties;
+
+	@Scheduled(fixedDelayString = "${billing.payment.reconciliation.interval:PT30S}")
+	public void reconcilePendingPayments() {
+		PaymentGatewayProperties.Reconciliation reconciliation = this.properties.getReconciliation();
+		LocalDateTime cutoff = LocalDateTime.now()
+				.minus(this.properties.limitsFor(this.properties.getGateway()).getTimeout())
+				.minus(reconciliation.getGrace());
+
+		List<Payment> pending = this.paymentDao.findPendingCreatedBefore(cutoff, reconciliation.getBatchSize());
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		log.info("Reconciling {} payments pending since before {}", pending.size(), cutoff);
+		for (Payment payment : pending) {
+			try {
+				this.paymentService.reconcile(payment);
+			} catch (RuntimeException ex) {
+				// Left pending; the next sweep tries again
+				log.warn("Could not reconcile payment {}", payment.getPaymentReference(), ex);
+			}
+		}
+	}
+}
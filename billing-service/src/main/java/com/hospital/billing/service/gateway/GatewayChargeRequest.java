@@ -0,0 +1,11 @@
+package com.hospital.billing.service.gateway;
+
+import java.math.BigDecimal;
+
+public record GatewayChargeRequest(
+		String paymentReference,
+		Long billId,
+		BigDecimal amount,
+		String paymentMethod,
+		String idempotencyKey) {
+}
@@ -0,0 +1,74 @@
+package com.hospital.billing.service.gateway;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hospital.billing.config.PaymentGatewayProperties;
+import com.hospital.platform.ids.TimeOrderedIdGenerator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process gateway for local runs and load tests. Answers after the
+ * configured latency without parking a thread while it waits, and remembers
+ * a day's outcomes for {@link #findCharge(String)}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LocalStubPaymentGateway implements PaymentGateway {
+
+	public static final String NAME = "local-stub";
+
+	private final PaymentGatewayProperties properties;
+	private final TimeOrderedIdGenerator idGenerator;
+	private final Cache<String, GatewayChargeResult> outcomes = Caffeine.newBuilder()
+			.maximumSize(1_000_000)
+			.expireAfterWrite(Duration.ofDays(1))
+			.build();
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public CompletableFuture<GatewayChargeResult> charge(GatewayChargeRequest request) {
+		PaymentGatewayProperties.Stub stub = this.properties.getStub();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		long latencyMillis = stub.getLatency().toMillis();
+		long jitterMillis = stub.getLatencyJitter().toMillis();
+		if (jitterMillis > 0) {
+			latencyMillis += random.nextLong(jitterMillis + 1);
+		}
+		boolean declined = random.nextDouble() < stub.getDeclineRate();
+
+		Executor afterLatency = CompletableFuture.delayedExecutor(latencyMillis, TimeUnit.MILLISECONDS);
+		return CompletableFuture.supplyAsync(() -> {
+			GatewayChargeResult result;
+			if (declined) {
+				log.info("Stub gateway declined payment {}", request.paymentReference());
+				result = GatewayChargeResult.declined("Declined by stub gateway");
+			} else {
+				result = GatewayChargeResult.approved(this.idGenerator.nextReference("TXN"));
+			}
+			this.outcomes.put(request.paymentReference(), result);
+			return result;
+		}, afterLatency);
+	}
+
+	@Override
+	public CompletableFuture<Optional<GatewayChargeResult>> findCharge(String paymentReference) {
+		return CompletableFuture.completedFuture(Optional.ofNullable(this.outcomes.getIfPresent(paymentReference)));
+	}
+}
@@ -0,0 +1,21 @@
+package com.hospital.billing.service.gateway;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * External payment processor. Implementations must not block the calling
+ * thread: the returned future completes when the processor answers.
+ */
+public interface PaymentGateway {
+
+	String name();
+
+	CompletableFuture<GatewayChargeResult> charge(GatewayChargeRequest request);
+
+	/**
+	 * The outcome of an earlier charge, looked up by its payment reference.
+	 * Empty if the processor never received it.
+	 */
+	CompletableFuture<Optional<GatewayChargeResult>> findCharge(String paymentReference);
+}
@@ -0,0 +1,119 @@
+package com.hospital.billing.service.gateway;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.hospital.billing.config.PaymentGatewayProperties;
+import com.hospital.billing.exception.ApplicationException;
+import com.hospital.billing.exception.ErrorCode;
+import com.hospital.billing.metrics.BillingMetrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Routes charges to the configured {@link PaymentGateway}, enforcing each
+ * gateway's concurrency limit and timeout. A charge that cannot get a slot
+ * within {@code acquire-timeout} is rejected with PAYMENT_GATEWAY_BUSY; one
+ * that does not answer within {@code timeout} fails with a TimeoutException.
+ */
+@Component
+@Slf4j
+public class PaymentGatewayClient {
+
+	private final Map<String, PaymentGateway> gateways;
+	private final Map<String, Semaphore> permits;
+	private final PaymentGatewayProperties properties;
+	private final BillingMetrics metrics;
+
+	public PaymentGatewayClient(List<PaymentGateway> gateways, PaymentGatewayProperties properties, BillingMetrics metrics,
+			MeterRegistry meterRegistry) {
+		this.gateways = gateways.stream().collect(Collectors.toUnmodifiableMap(PaymentGateway::name, Function.identity()));
+		this.properties = properties;
+		this.metrics = metrics;
+
+		if (!this.gateways.containsKey(properties.getGateway())) {
+			throw new IllegalStateException("Unknown payment gateway '" + properties.getGateway()
+					+ "', available: " + this.gateways.keySet());
+		}
+
+		this.permits = this.gateways.keySet().stream().collect(Collectors.toUnmodifiableMap(Function.identity(),
+				name -> new Semaphore(properties.limitsFor(name).getMaxConcurrent())));
+
+		this.permits.forEach((name, semaphore) -> Gauge
+				.builder("payment_gateway_in_flight", semaphore,
+						s -> properties.limitsFor(name).getMaxConcurrent() - s.availablePermits())
+				.tag("gateway", name)
+				.register(meterRegistry));
+	}
+
+	public String activeGateway() {
+		return this.properties.getGateway();
+	}
+
+	public CompletableFuture<GatewayChargeResult> charge(GatewayChargeRequest request) {
+		String gatewayName = activeGateway();
+		PaymentGatewayProperties.Limits limits = this.properties.limitsFor(gatewayName);
+		Semaphore semaphore = this.permits.get(gatewayName);
+
+		if (!tryAcquire(semaphore, limits)) {
+			log.warn("Payment gateway {} saturated, rejecting payment {}", gatewayName, request.paymentReference());
+			return CompletableFuture.failedFuture(new ApplicationException(ErrorCode.PAYMENT_GATEWAY_BUSY,
+					"Payment gateway is busy, please retry"));
+		}
+
+		Timer.Sample sample = Timer.start();
+		CompletableFuture<GatewayChargeResult> charge;
+		try {
+			charge = this.gateways.get(gatewayName).charge(request);
+		} catch (RuntimeException ex) {
+			semaphore.release();
+			return CompletableFuture.failedFuture(ex);
+		}
+
+		// orTimeout completes this same future, so the slot is freed at the timeout at the latest
+		return charge
+				.orTimeout(limits.getTimeout().toMillis(), TimeUnit.MILLISECONDS)
+				.whenComplete((result, ex) -> {
+					semaphore.release();
+					sample.stop(this.metrics.gatewayTimer(gatewayName, outcome(result, ex)));
+				});
+	}
+
+	/**
+	 * Asks the active gateway how an earlier charge ended. Lookups bypass the
+	 * concurrency limit but not the timeout.
+	 */
+	public CompletableFuture<Optional<GatewayChargeResult>> findCharge(String paymentReference) {
+		String gatewayName = activeGateway();
+		return this.gateways.get(gatewayName).findCharge(paymentReference)
+				.orTimeout(this.properties.limitsFor(gatewayName).getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	private static boolean tryAcquire(Semaphore semaphore, PaymentGatewayProperties.Limits limits) {
+		try {
+			return semaphore.tryAcquire(limits.getAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private static String outcome(GatewayChargeResult result, Throwable ex) {
+		if (ex != null) {
+			return ex instanceof TimeoutException ? "timeout" : "error";
+		}
+		return result.approved() ? "approved" : "declined";
+	}
+}
@@ -0,0 +1,102 @@
+package com.hospital.billing.service.idempotency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over idempotency keys. It is kept in two generations
+ * so it never saturates: once the current generation holds its expected number
+ * of keys it becomes the previous one and the older generation is dropped.
+ * Forgetting a key is safe, because the unique index on
+ * {@code payments.idempotency_key} still rejects the duplicate insert.
+ */
+class IdempotencyKeyFilter {
+
+	private final int expectedKeys;
+	private final int bits;
+	private final int hashes;
+
+	private volatile Generation current;
+	private volatile Generation previous;
+
+	IdempotencyKeyFilter(int expectedKeys, double falsePositiveRate) {
+		if (expectedKeys < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("expectedKeys must be positive and falsePositiveRate in (0, 1)");
+		}
+		this.expectedKeys = expectedKeys;
+		double optimalBits = -expectedKeys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+		this.bits = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, Math.ceil(optimalBits)));
+		this.hashes = Math.max(1, (int) Math.round((double) this.bits / expectedKeys * Math.log(2)));
+		this.current = new Generation(this.bits);
+		this.previous = new Generation(this.bits);
+	}
+
+	boolean mightContain(String key) {
+		long hash = hash(key);
+		return this.current.contains(hash, this.hashes, this.bits) || this.previous.contains(hash, this.hashes, this.bits);
+	}
+
+	void add(String key) {
+		Generation generation = this.current;
+		generation.add(hash(key), this.hashes, this.bits);
+		if (generation.keys.incrementAndGet() > this.expectedKeys) {
+			rotate(generation);
+		}
+	}
+
+	private synchronized void rotate(Generation full) {
+		if (this.current == full) {
+			this.previous = full;
+			this.current = new Generation(this.bits);
+		}
+	}
+
+	// FNV-1a over the UTF-16 code units, finished with the SplitMix64 mixer
+	private static long hash(String key) {
+		long h = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			h ^= key.charAt(i);
+			h *= 0x100000001b3L;
+		}
+		h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+		h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+		return h ^ (h >>> 31);
+	}
+
+	private static final class Generation {
+
+		private final AtomicLongArray words;
+		private final AtomicInteger keys = new AtomicInteger();
+
+		Generation(int bits) {
+			this.words = new AtomicLongArray((bits + 63) >>> 6);
+		}
+
+		// Double hashing: probe i is h1 + i * h2, per Kirsch and Mitzenmacher
+		void add(long hash, int hashes, int bits) {
+			int h1 = (int) hash;
+			int h2 = (int) (hash >>> 32);
+			for (int i = 0; i < hashes; i++) {
+				int bit = Math.floorMod(h1 + i * h2, bits);
+				long mask = 1L << bit;
+				int word = bit >>> 6;
+				long value;
+				do {
+					value = this.words.get(word);
+				} while ((value & mask) == 0 && !this.words.compareAndSet(word, value, value | mask));
+			}
+		}
+
+		boolean contains(long hash, int hashes, int bits) {
+			int h1 = (int) hash;
+			int h2 = (int) (hash >>> 32);
+			for (int i = 0; i < hashes; i++) {
+				int bit = Math.floorMod(h1 + i * h2, bits);
+				if ((this.words.get(bit >>> 6) & (1L << bit)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.hospital.billing.service.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hospital.billing.dao.PaymentDao;
+import com.hospital.billing.dto.PaymentResponse;
+import com.hospital.billing.entity.Payment.PaymentStatus;
+import com.hospital.billing.metrics.BillingMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Resolves an idempotency key to the payment it already produced. The checks
+ * run from cheapest to most expensive:
+ * <ol>
+ * <li>a bounded cache of finished payments' responses, kept for the TTL;</li>
+ * <li>a Bloom filter of keys this instance has stored, which answers most
+ * first-time keys without a query;</li>
+ * <li>the payment row itself, looked up by its unique key.</li>
+ * </ol>
+ * The filter only knows keys stored by this instance since it started. A key
+ * it has never seen still ends at the unique index, which rejects the second
+ * insert. The caller then loads the winning payment with {@link #load}.
+ */
+@Component
+public class PaymentIdempotencyStore {
+
+	private final Cache<String, PaymentResponse> responses;
+	private final IdempotencyKeyFilter storedKeys;
+	private final PaymentDao paymentDao;
+	private final BillingMetrics metrics;
+
+	public PaymentIdempotencyStore(
+			@Value("${billing.payment.idempotency.ttl:PT24H}") Duration ttl,
+			@Value("${billing.payment.idempotency.max-size:100000}") long maxSize,
+			@Value("${billing.payment.idempotency.expected-keys:1000000}") int expectedKeys,
+			@Value("${billing.payment.idempotency.false-positive-rate:0.01}") double falsePositiveRate,
+			PaymentDao paymentDao,
+			BillingMetrics metrics,
+			MeterRegistry meterRegistry) {
+
+		this.responses = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+		this.storedKeys = new IdempotencyKeyFilter(expectedKeys, falsePositiveRate);
+		this.paymentDao = paymentDao;
+		this.metrics = metrics;
+
+		CaffeineCacheMetrics.monitor(meterRegistry, this.responses, "payment_idempotency");
+	}
+
+	public Optional<PaymentResponse> find(String idempotencyKey) {
+		PaymentResponse cached = this.responses.getIfPresent(idempotencyKey);
+		if (cached != null) {
+			this.metrics.idempotencyLookup("cache");
+			return Optional.of(cached);
+		}
+		if (!this.storedKeys.mightContain(idempotencyKey)) {
+			this.metrics.idempotencyLookup("filter_negative");
+			return Optional.empty();
+		}
+		Optional<PaymentResponse> stored = load(idempotencyKey);
+		this.metrics.idempotencyLookup(stored.isPresent() ? "database" : "filter_false_positive");
+		return stored;
+	}
+
+	/** Reads the payment for a key from the database, caching it if it has finished. */
+	public Optional<PaymentResponse> load(String idempotencyKey) {
+		Optional<PaymentResponse> stored = this.paymentDao.findResponseByIdempotencyKey(idempotencyKey);
+		stored.filter(response -> !PaymentStatus.PENDING.name().equals(response.getStatus()))
+				.ifPresent(response -> this.responses.put(idempotencyKey, response));
+		return stored;
+	}
+
+	/** Records that a payment row now exists for the key. */
+	public void stored(String idempotencyKey) {
+		this.storedKeys.add(idempotencyKey);
+	}
+
+	/** Caches the final response of a completed or failed payment. */
+	public void finished(String idempotencyKey, PaymentResponse response) {
+		this.responses.put(idempotencyKey, response);
+	}
+}
@@ -0,0 +1,20 @@
+-- Applied after Hibernate schema update (see spring.sql.init in application.yml).
+-- Statements are separated by ';;' like the appointment service's script.
+
+-- Bill and payment ids come from sequences in blocks of 50 (Hibernate's pooled optimizer, and
+-- BillDao.insertBatch for consumed events) so inserts can be batched. Tables created with BIGSERIAL
+-- or an identity column are moved onto them, and each sequence is only ever moved forward past
+-- existing rows, so running this again or on another instance is harmless.
+CREATE SEQUENCE IF NOT EXISTS bill_id_seq INCREMENT BY 50;;
+ALTER TABLE bills ALTER COLUMN id DROP IDENTITY IF EXISTS;;
+ALTER TABLE bills ALTER COLUMN id SET DEFAULT nextval('bill_id_seq');;
+SELECT setval('bill_id_seq', GREATEST((SELECT max(id) FROM bills), 1))
+WHERE (SELECT max(id) FROM bills) > (SELECT last_value FROM bill_id_seq)
+   OR NOT (SELECT is_called FROM bill_id_seq);;
+
+CREATE SEQUENCE IF NOT EXISTS payment_id_seq INCREMENT BY 50;;
+ALTER TABLE payments ALTER COLUMN id DROP IDENTITY IF EXISTS;;
+ALTER TABLE payments ALTER COLUMN id SET DEFAULT nextval('payment_id_seq');;
+SELECT setval('payment_id_seq', GREATEST((SELECT max(id) FROM payments), 1))
+WHERE (SELECT max(id) FROM payments) > (SELECT last_value FROM payment_id_seq)
+   OR NOT (SELECT is_called FROM payment_id_seq);;
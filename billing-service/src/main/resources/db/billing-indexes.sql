@@ -0,0 +1,6 @@
+-- Applied after Hibernate schema update (see spring.sql.init in application.yml).
+-- Statements are separated by ';;' like the appointment service's script, and indexes are built
+-- CONCURRENTLY for the same reason.
+
+-- Reconciliation sweep: payments still pending, oldest first
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_payments_pending ON payments (created_at) WHERE status = 'PENDING';;
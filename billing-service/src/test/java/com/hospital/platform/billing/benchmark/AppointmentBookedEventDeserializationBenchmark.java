@@ -0,0 +1,62 @@
+package com.hospital.platform.billing.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import com.hospital.platform.events.AppointmentBookedEvent;
+
+/**
+ * Consumer-side cost of turning an {@code appointment.booked} record value, as
+ * the appointment service publishes it, into an {@link AppointmentBookedEvent}
+ * with the deserializer configured in {@code KafkaConfig}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppointmentBookedEventDeserializationBenchmark {
+
+	private static final String TOPIC = "appointment.booked";
+
+	private static final String PAYLOAD = "{\"eventId\":\"2b7f3c1e-9a55-4b8e-8d2c-0f4e6d1a7b90\","
+			+ "\"appointmentNumber\":\"APT-2026-1A2B3C4D\",\"appointmentId\":42,\"patientId\":1001,"
+			+ "\"patientName\":\"Mary O'Neil\",\"doctorId\":17,\"doctorName\":\"Dr. Rao\","
+			+ "\"department\":\"Cardiology\",\"appointmentTime\":\"2026-11-02T10:30:00\","
+			+ "\"consultationFee\":750.00,\"reasonForVisit\":\"Follow-up\","
+			+ "\"eventTimestamp\":\"2026-10-17T09:12:44\",\"createdBy\":\"receptionist-1\"}";
+
+	private JsonDeserializer<AppointmentBookedEvent> deserializer;
+	private byte[] payload;
+
+	@Setup
+	public void setUp() {
+		this.deserializer = new JsonDeserializer<>(AppointmentBookedEvent.class, false);
+		this.deserializer.addTrustedPackages("*");
+		this.payload = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.deserializer.close();
+	}
+
+	@Benchmark
+	public AppointmentBookedEvent deserialize() {
+		return this.deserializer.deserialize(TOPIC, this.payload);
+	}
+}
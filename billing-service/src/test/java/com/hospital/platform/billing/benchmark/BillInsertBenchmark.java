@@ -0,0 +1,168 @@
+package com.hospital.platform.billing.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.hospital.billing.dao.BillDao;
+import com.hospital.billing.entity.Bill;
+import com.hospital.billing.entity.Payment;
+
+/**
+ * Bill inserts per millisecond, 500 bills per transaction, against PostgreSQL.
+ * <p>
+ * {@code hibernateRowAtATime} runs with {@code hibernate.jdbc.batch_size=1} on a
+ * plain URL: one INSERT round trip per bill, as with the identity ids it
+ * replaced, which Hibernate cannot batch. {@code hibernateBatched} uses the
+ * service settings: pooled sequence ids, {@code batch_size=50},
+ * {@code order_inserts} and {@code reWriteBatchedInserts=true}.
+ * {@code jdbcInsertBatch} is the consumer's {@link BillDao#insertBatch(List)},
+ * which takes its ids from the same sequence.
+ * <p>
+ * Needs a running database, e.g. the docker-compose {@code postgres}; set
+ * {@code DB_HOST}, {@code DB_PORT}, {@code DB_NAME}, {@code DB_USER} and
+ * {@code DB_PASSWORD} as for the service. Data goes into a throwaway
+ * {@code jmh_bill_insert} schema that is dropped afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BillInsertBenchmark {
+
+	private static final String SCHEMA = "jmh_bill_insert";
+	private static final int BILLS_PER_TRANSACTION = 500;
+
+	private String jdbcUrl;
+	private String user;
+	private String password;
+
+	private SessionFactory rowAtATime;
+	private SessionFactory batched;
+	private BillDao billDao;
+
+	private long nextAppointmentId;
+
+	@Setup
+	public void setUp() throws SQLException {
+		this.jdbcUrl = "jdbc:postgresql://" + env("DB_HOST", "localhost") + ":" + env("DB_PORT", "5432") + "/"
+				+ env("DB_NAME", "hospital_billing_db") + "?currentSchema=" + SCHEMA;
+		this.user = env("DB_USER", "postgres");
+		this.password = env("DB_PASSWORD", "postgres");
+		execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+
+		this.rowAtATime = sessionFactory(this.jdbcUrl, 1, "create");
+		this.batched = sessionFactory(this.jdbcUrl + "&reWriteBatchedInserts=true", 50, "none");
+
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				this.jdbcUrl + "&reWriteBatchedInserts=true", this.user, this.password);
+		this.billDao = new BillDao(new JdbcTemplate(dataSource));
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		this.rowAtATime.close();
+		this.batched.close();
+		execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BILLS_PER_TRANSACTION)
+	public void hibernateRowAtATime() {
+		persistAll(this.rowAtATime);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BILLS_PER_TRANSACTION)
+	public void hibernateBatched() {
+		persistAll(this.batched);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BILLS_PER_TRANSACTION)
+	public int jdbcInsertBatch() {
+		return this.billDao.insertBatch(nextBills());
+	}
+
+	private void persistAll(SessionFactory sessionFactory) {
+		try (Session session = sessionFactory.openSession()) {
+			session.getTransaction().begin();
+			for (Bill bill : nextBills()) {
+				session.persist(bill);
+			}
+			session.getTransaction().commit();
+		}
+	}
+
+	private List<Bill> nextBills() {
+		List<Bill> bills = new ArrayList<>(BILLS_PER_TRANSACTION);
+		for (int i = 0; i < BILLS_PER_TRANSACTION; i++) {
+			long appointmentId = this.nextAppointmentId++;
+			bills.add(Bill.builder()
+					.billNumber("BILL-JMH-" + appointmentId)
+					.appointmentId(appointmentId)
+					.patientId(1001L)
+					.patientName("Mary O'Neil")
+					.consultationFee(new BigDecimal("750.00"))
+					.labCharges(BigDecimal.ZERO)
+					.pharmacyCharges(BigDecimal.ZERO)
+					.totalAmount(new BigDecimal("750.00"))
+					.paidAmount(BigDecimal.ZERO)
+					.dueAmount(new BigDecimal("750.00"))
+					.status(Bill.BillStatus.PENDING)
+					.build());
+		}
+		return bills;
+	}
+
+	private SessionFactory sessionFactory(String url, int batchSize, String schemaAction) {
+		return new Configuration()
+				.addAnnotatedClass(Bill.class)
+				.addAnnotatedClass(Payment.class)
+				.setProperty("hibernate.connection.url", url)
+				.setProperty("hibernate.connection.username", this.user)
+				.setProperty("hibernate.connection.password", this.password)
+				.setProperty("hibernate.default_schema", SCHEMA)
+				.setProperty("hibernate.hbm2ddl.auto", schemaAction)
+				.setProperty("hibernate.jdbc.batch_size", String.valueOf(batchSize))
+				.setProperty("hibernate.order_inserts", "true")
+				.buildSessionFactory();
+	}
+
+	private void execute(String sql) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(this.jdbcUrl, this.user, this.password);
+				Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
+	private static String env(String name, String defaultValue) {
+		String value = System.getenv(name);
+		return value == null || value.isBlank() ? defaultValue : value;
+	}
+}
@@ -0,0 +1,123 @@
+package com.hospital.platform.billing.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hospital.billing.dto.BillResponse;
+import com.hospital.billing.dto.CreateBillRequest;
+import com.hospital.billing.dto.CreatePaymentRequest;
+import com.hospital.billing.dto.PaymentResponse;
+import com.hospital.billing.entity.Bill;
+import com.hospital.billing.entity.Payment;
+import com.hospital.billing.mapper.BillingMapper;
+import com.hospital.billing.mapper.PaymentMapper;
+import com.hospital.platform.events.AppointmentBookedEvent;
+import com.hospital.platform.events.PaymentCompletedEvent;
+import com.hospital.platform.ids.TimeOrderedIdGenerator;
+
+/**
+ * Per-bill and per-payment CPU cost outside the database: total/due
+ * recalculation and the mapper conversions on the event, API and payment paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BillingHotPathBenchmark {
+
+	private BillingMapper billingMapper;
+	private PaymentMapper paymentMapper;
+
+	private Bill bill;
+	private Payment payment;
+	private AppointmentBookedEvent bookedEvent;
+	private CreateBillRequest createBillRequest;
+	private CreatePaymentRequest createPaymentRequest;
+
+	@Setup
+	public void setUp() {
+		this.billingMapper = new BillingMapper(new TimeOrderedIdGenerator(0));
+		this.paymentMapper = new PaymentMapper(new TimeOrderedIdGenerator(0));
+
+		this.bookedEvent = AppointmentBookedEvent.builder()
+				.eventId("2b7f3c1e-9a55-4b8e-8d2c-0f4e6d1a7b90")
+				.appointmentNumber("APT-2026-1A2B3C4D")
+				.appointmentId(42L)
+				.patientId(1001L)
+				.patientName("Mary O'Neil")
+				.consultationFee(new BigDecimal("750.00"))
+				.eventTimestamp(LocalDateTime.now())
+				.build();
+		this.createBillRequest = this.billingMapper.fromApppointmentBookedEvent(this.bookedEvent);
+
+		this.bill = this.billingMapper.fromRequest(this.createBillRequest);
+		this.bill.setId(7L);
+		this.bill.setLabCharges(new BigDecimal("120.50"));
+		this.bill.setPharmacyCharges(new BigDecimal("89.99"));
+		this.bill.setPaidAmount(new BigDecimal("200.00"));
+		this.bill.setCreatedAt(LocalDateTime.now());
+		this.bill.calculateTotalAndDue();
+
+		this.createPaymentRequest = CreatePaymentRequest.builder()
+				.billId(7L)
+				.amount(new BigDecimal("200.00"))
+				.paymentMethod("UPI")
+				.idempotencyKey("c5a1e0b2-4f7d-4d3e-9b61-7e2a8c9d0f13")
+				.build();
+		this.payment = this.paymentMapper.fromrequest(this.createPaymentRequest);
+		this.payment.setId(11L);
+		this.payment.setStatus(Payment.PaymentStatus.COMPLETED);
+		this.payment.setTransactionId("TXN-0F4E6D1A7B90");
+		this.payment.setCreatedAt(LocalDateTime.now());
+	}
+
+	@Benchmark
+	public Bill.BillStatus calculateTotalAndDue() {
+		this.bill.calculateTotalAndDue();
+		return this.bill.getStatus();
+	}
+
+	@Benchmark
+	public CreateBillRequest billRequestFromBookedEvent() {
+		return this.billingMapper.fromApppointmentBookedEvent(this.bookedEvent);
+	}
+
+	@Benchmark
+	public Bill billFromRequest() {
+		return this.billingMapper.fromRequest(this.createBillRequest);
+	}
+
+	@Benchmark
+	public BillResponse billToResponse() {
+		return this.billingMapper.toResponse(this.bill);
+	}
+
+	@Benchmark
+	public Payment paymentFromRequest() {
+		return this.paymentMapper.fromrequest(this.createPaymentRequest);
+	}
+
+	@Benchmark
+	public PaymentResponse paymentToResponse() {
+		return this.paymentMapper.toResponse(this.payment);
+	}
+
+	@Benchmark
+	public PaymentCompletedEvent paymentCompletedEvent() {
+		return this.paymentMapper.toPaymentCompletedEvent(this.payment, "BILL-2026-9F8E7D6C");
+	}
+}
@@ -0,0 +1,214 @@
+package com.hospital.platform.billing.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hospital.billing.dao.BillDao;
+import com.hospital.billing.dao.PaymentDao;
+import com.hospital.billing.dto.BillResponse;
+import com.hospital.billing.dto.PaymentResponse;
+import com.hospital.billing.entity.Bill;
+import com.hospital.billing.entity.Payment;
+import com.hospital.billing.mapper.BillingMapper;
+import com.hospital.billing.mapper.PaymentMapper;
+import com.hospital.platform.ids.TimeOrderedIdGenerator;
+
+/**
+ * DAO read paths against PostgreSQL: the {@code select 1} existence probe and
+ * DTO projections, each next to the entity query it replaced (load managed
+ * entities, take the first, map). The persistence context is cleared after
+ * every call, as it would be at the end of a request. Runs with {@code -prof gc}
+ * so {@code gc.alloc.rate.norm} shows the allocation per call.
+ * <p>
+ * Needs a running database, e.g. the docker-compose {@code postgres}; set
+ * {@code DB_HOST}, {@code DB_PORT}, {@code DB_NAME}, {@code DB_USER} and
+ * {@code DB_PASSWORD} as for the service. Data goes into a throwaway
+ * {@code jmh_read_path} schema that is dropped afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DaoReadPathBenchmark {
+
+	private static final String SCHEMA = "jmh_read_path";
+	private static final int BILLS = 2000;
+
+	private String jdbcUrl;
+	private String user;
+	private String password;
+
+	private SessionFactory sessionFactory;
+	private Session session;
+	private BillDao billDao;
+	private PaymentDao paymentDao;
+	private BillingMapper billingMapper;
+	private PaymentMapper paymentMapper;
+
+	private long[] billIds;
+	private long[] appointmentIds;
+
+	@Setup
+	public void setUp() throws SQLException {
+		this.jdbcUrl = "jdbc:postgresql://" + env("DB_HOST", "localhost") + ":" + env("DB_PORT", "5432") + "/"
+				+ env("DB_NAME", "hospital_billing_db");
+		this.user = env("DB_USER", "postgres");
+		this.password = env("DB_PASSWORD", "postgres");
+		execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+
+		this.sessionFactory = new Configuration()
+				.addAnnotatedClass(Bill.class)
+				.addAnnotatedClass(Payment.class)
+				.setProperty("hibernate.connection.url", this.jdbcUrl)
+				.setProperty("hibernate.connection.username", this.user)
+				.setProperty("hibernate.connection.password", this.password)
+				.setProperty("hibernate.default_schema", SCHEMA)
+				.setProperty("hibernate.hbm2ddl.auto", "create")
+				.buildSessionFactory();
+		this.session = this.sessionFactory.openSession();
+
+		this.billIds = new long[BILLS];
+		this.appointmentIds = new long[BILLS];
+		this.session.getTransaction().begin();
+		for (int i = 0; i < BILLS; i++) {
+			Bill bill = Bill.builder()
+					.billNumber("BILL-JMH-" + i)
+					.appointmentId(1_000_000L + i)
+					.patientId(1001L)
+					.patientName("Mary O'Neil")
+					.consultationFee(new BigDecimal("750.00"))
+					.labCharges(new BigDecimal("120.50"))
+					.build();
+			this.session.persist(bill);
+			this.billIds[i] = bill.getId();
+			this.appointmentIds[i] = bill.getAppointmentId();
+
+			this.session.persist(Payment.builder()
+					.paymentReference("PAY-JMH-" + i)
+					.billId(bill.getId())
+					.amount(new BigDecimal("250.00"))
+					.paymentMethod(Payment.PaymentMethod.UPI)
+					.status(Payment.PaymentStatus.COMPLETED)
+					.idempotencyKey("jmh-" + i)
+					.transactionId("TXN-JMH-" + i)
+					.build());
+		}
+		this.session.getTransaction().commit();
+		this.session.clear();
+
+		this.billDao = new BillDao(new JdbcTemplate());
+		ReflectionTestUtils.setField(this.billDao, "em", this.session);
+		this.paymentDao = new PaymentDao();
+		ReflectionTestUtils.setField(this.paymentDao, "em", this.session);
+		this.billingMapper = new BillingMapper(new TimeOrderedIdGenerator(0));
+		this.paymentMapper = new PaymentMapper(new TimeOrderedIdGenerator(0));
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		this.session.close();
+		this.sessionFactory.close();
+		execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+	}
+
+	@Benchmark
+	public boolean existsByLoadingEntities() {
+		List<Bill> bills = this.session.createQuery("from Bill where appointmentId = :appointmentId", Bill.class)
+				.setParameter("appointmentId", randomAppointmentId())
+				.getResultList();
+		this.session.clear();
+		return !bills.isEmpty();
+	}
+
+	@Benchmark
+	public boolean existsBySelectOne() {
+		boolean exists = this.billDao.existsByAppointmentId(randomAppointmentId());
+		this.session.clear();
+		return exists;
+	}
+
+	@Benchmark
+	public Optional<BillResponse> billByLoadingEntity() {
+		Optional<BillResponse> response = this.session.createQuery("from Bill where id = :billId", Bill.class)
+				.setParameter("billId", randomBillId())
+				.getResultList().stream().findFirst()
+				.map(this.billingMapper::toResponse);
+		this.session.clear();
+		return response;
+	}
+
+	@Benchmark
+	public Optional<BillResponse> billByProjection() {
+		Optional<BillResponse> response = this.billDao.findResponseByBillId(randomBillId());
+		this.session.clear();
+		return response;
+	}
+
+	@Benchmark
+	public Optional<PaymentResponse> paymentByLoadingEntity() {
+		Optional<PaymentResponse> response = this.session
+				.createQuery("from Payment where idempotencyKey = :idempotencyKey", Payment.class)
+				.setParameter("idempotencyKey", randomIdempotencyKey())
+				.getResultList().stream().findFirst()
+				.map(this.paymentMapper::toResponse);
+		this.session.clear();
+		return response;
+	}
+
+	@Benchmark
+	public Optional<PaymentResponse> paymentByProjection() {
+		Optional<PaymentResponse> response = this.paymentDao.findResponseByIdempotencyKey(randomIdempotencyKey());
+		this.session.clear();
+		return response;
+	}
+
+	private long randomAppointmentId() {
+		return this.appointmentIds[ThreadLocalRandom.current().nextInt(BILLS)];
+	}
+
+	private long randomBillId() {
+		return this.billIds[ThreadLocalRandom.current().nextInt(BILLS)];
+	}
+
+	private static String randomIdempotencyKey() {
+		return "jmh-" + ThreadLocalRandom.current().nextInt(BILLS);
+	}
+
+	private void execute(String sql) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(this.jdbcUrl, this.user, this.password);
+				Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
+	private static String env(String name, String defaultValue) {
+		String value = System.getenv(name);
+		return value == null || value.isBlank() ? defaultValue : value;
+	}
+}
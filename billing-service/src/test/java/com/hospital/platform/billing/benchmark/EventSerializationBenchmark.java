@@ -0,0 +1,143 @@
+package com.hospital.platform.billing.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.hospital.platform.events.AppointmentBookedEvent;
+import com.hospital.platform.events.BillGeneratedEvent;
+import com.hospital.platform.events.EventContracts;
+import com.hospital.platform.events.PaymentCompletedEvent;
+import com.hospital.platform.events.codec.EventCodec;
+
+/**
+ * Schema-prefixed binary events against the Spring {@code JsonSerializer} /
+ * {@code JsonDeserializer} path they replaced, per event type. Payload sizes
+ * for both formats are printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+	@Param({ "appointment.booked", "bill.generated", "payment.completed" })
+	public String topic;
+
+	private Object event;
+
+	private JsonSerializer<Object> jsonSerializer;
+	private Deserializer<?> jsonDeserializer;
+	private Serializer<Object> binarySerializer;
+	private Deserializer<?> binaryDeserializer;
+
+	private byte[] jsonPayload;
+	private byte[] binaryPayload;
+
+	@Setup
+	public void setUp() {
+		EventContracts contracts = new EventContracts();
+		LocalDateTime now = LocalDateTime.of(2026, 10, 17, 9, 12, 44);
+
+		EventCodec<?> codec = switch (this.topic) {
+			case "appointment.booked" -> {
+				this.event = AppointmentBookedEvent.builder()
+						.eventId("2b7f3c1e-9a55-4b8e-8d2c-0f4e6d1a7b90")
+						.appointmentNumber("APT-2026-1A2B3C4D")
+						.appointmentId(42L)
+						.patientId(1001L)
+						.patientName("Mary O'Neil")
+						.doctorId(17L)
+						.doctorName("Dr. Rao")
+						.department("Cardiology")
+						.appointmentTime(now.plusDays(7).withMinute(30).withSecond(0))
+						.consultationFee(new BigDecimal("750.00"))
+						.reasonForVisit("Follow-up")
+						.eventTimestamp(now)
+						.createdBy("receptionist-1")
+						.build();
+				yield contracts.appointmentBooked();
+			}
+			case "bill.generated" -> {
+				this.event = BillGeneratedEvent.builder()
+						.eventId("6f1d2a8c-3b4e-4c5d-9e0f-1a2b3c4d5e6f")
+						.billNumber("BILL-2026-9F8E7D6C")
+						.billId(314L)
+						.appointmentId(42L)
+						.patientId(1001L)
+						.totalAmount(new BigDecimal("1285.50"))
+						.eventTimestamp(now)
+						.build();
+				yield contracts.billGenerated();
+			}
+			case "payment.completed" -> {
+				this.event = PaymentCompletedEvent.builder()
+						.eventId("0c9b8a7d-6e5f-4a3b-2c1d-0e9f8a7b6c5d")
+						.paymentReference("PAY-2026-4E5F6A7B8C9D")
+						.billId(314L)
+						.billNumber("BILL-2026-9F8E7D6C")
+						.amount(new BigDecimal("500.00"))
+						.paymentMethod("CARD")
+						.eventTimestamp(now)
+						.build();
+				yield contracts.paymentCompleted();
+			}
+			default -> throw new IllegalArgumentException(this.topic);
+		};
+
+		this.jsonSerializer = new JsonSerializer<>();
+		this.jsonSerializer.setAddTypeInfo(false);
+		JsonDeserializer<?> json = new JsonDeserializer<>(codec.type(), false);
+		json.addTrustedPackages("*");
+		this.jsonDeserializer = json;
+
+		this.binarySerializer = contracts.serializer();
+		this.binaryDeserializer = contracts.deserializer(codec.type());
+
+		this.jsonPayload = this.jsonSerializer.serialize(this.topic, this.event);
+		this.binaryPayload = this.binarySerializer.serialize(this.topic, this.event);
+		if (!this.event.equals(this.binaryDeserializer.deserialize(this.topic, this.binaryPayload))) {
+			throw new IllegalStateException(this.topic + " does not survive a binary round trip");
+		}
+		System.out.printf("%n%s payload: json %d bytes, binary %d bytes%n", this.topic, this.jsonPayload.length,
+				this.binaryPayload.length);
+	}
+
+	@Benchmark
+	public byte[] serializeJson() {
+		return this.jsonSerializer.serialize(this.topic, this.event);
+	}
+
+	@Benchmark
+	public byte[] serializeBinary() {
+		return this.binarySerializer.serialize(this.topic, this.event);
+	}
+
+	@Benchmark
+	public Object deserializeJson() {
+		return this.jsonDeserializer.deserialize(this.topic, this.jsonPayload);
+	}
+
+	@Benchmark
+	public Object deserializeBinary() {
+		return this.binaryDeserializer.deserialize(this.topic, this.binaryPayload);
+	}
+}
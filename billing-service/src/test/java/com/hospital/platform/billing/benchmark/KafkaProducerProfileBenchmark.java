@@ -0,0 +1,122 @@
+package com.hospital.platform.billing.benchmark;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.util.unit.DataSize;
+
+import com.hospital.platform.events.BillGeneratedEvent;
+import com.hospital.platform.events.EventContracts;
+import com.hospital.platform.kafka.KafkaProducerProperties;
+import com.hospital.platform.kafka.ProfiledKafkaTemplates;
+
+/**
+ * Records per second each producer profile sustains against an embedded
+ * single-node broker, using the same idempotent base config as
+ * {@code KafkaConfig}. Every invocation sends a burst and waits for all acks,
+ * so the figure includes broker round trips and compression, not just buffering.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaProducerProfileBenchmark {
+
+	private static final String TOPIC = "bill.generated";
+	private static final int BURST = 5_000;
+	private static final int PARTITIONS = 3;
+
+	@Param({ "low-latency", "bulk-lz4", "bulk-zstd" })
+	public String profile;
+
+	private EmbeddedKafkaKraftBroker broker;
+	private ProfiledKafkaTemplates templates;
+	private KafkaTemplate<String, Object> template;
+	private BillGeneratedEvent[] events;
+
+	@Setup
+	public void setUp() {
+		this.broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+		this.broker.afterPropertiesSet();
+
+		KafkaProducerProperties properties = new KafkaProducerProperties();
+		properties.getProfiles().put("low-latency", profile(Duration.ZERO, 16, "none"));
+		properties.getProfiles().put("bulk-lz4", profile(Duration.ofMillis(20), 256, "lz4"));
+		properties.getProfiles().put("bulk-zstd", profile(Duration.ofMillis(20), 256, "zstd"));
+		properties.setDefaultProfile(this.profile);
+
+		Map<String, Object> config = new HashMap<>();
+		config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, this.broker.getBrokersAsString());
+		config.put(ProducerConfig.ACKS_CONFIG, "all");
+		config.put(ProducerConfig.RETRIES_CONFIG, 3);
+		config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+
+		this.templates = new ProfiledKafkaTemplates(config,
+				new EventContracts().serializer(), properties);
+		this.template = this.templates.forTopic(TOPIC);
+
+		this.events = new BillGeneratedEvent[BURST];
+		for (int i = 0; i < BURST; i++) {
+			this.events[i] = BillGeneratedEvent.builder()
+					.eventId(UUID.randomUUID().toString())
+					.billNumber("BILL-2026-" + String.format("%08d", i))
+					.billId((long) i)
+					.appointmentId(10_000L + i)
+					.patientId(1_000L + i % 200)
+					.totalAmount(new BigDecimal("885.00"))
+					.eventTimestamp(LocalDateTime.of(2026, 10, 17, 9, 0))
+					.build();
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.templates.destroy();
+		this.broker.destroy();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BURST)
+	public void sendBurst() {
+		CompletableFuture<?>[] acks = new CompletableFuture<?>[BURST];
+		for (int i = 0; i < BURST; i++) {
+			BillGeneratedEvent event = this.events[i];
+			acks[i] = this.template.send(TOPIC, event.billNumber(), event);
+		}
+		// Don't let the tail of each burst sit out the linger; a steady stream never waits for it
+		this.template.flush();
+		CompletableFuture.allOf(acks).join();
+	}
+
+	private static KafkaProducerProperties.Profile profile(Duration linger, int batchKilobytes, String compression) {
+		KafkaProducerProperties.Profile profile = new KafkaProducerProperties.Profile();
+		profile.setLinger(linger);
+		profile.setBatchSize(DataSize.ofKilobytes(batchKilobytes));
+		profile.setCompressionType(compression);
+		return profile;
+	}
+}
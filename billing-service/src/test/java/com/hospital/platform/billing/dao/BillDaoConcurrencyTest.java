@@ -0,0 +1,145 @@
+package com.hospital.platform.billing.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import com.hospital.billing.dao.BillDao;
+import com.hospital.billing.dao.BillDao.BillBalance;
+import com.hospital.billing.entity.Bill;
+
+/**
+ * Races reservations and settlements against one bill on a real PostgreSQL,
+ * created from {@code docker/init.sql}. Every reservation is a single
+ * conditional UPDATE, so the bill must never be over-reserved or overpaid no
+ * matter how the statements interleave. Skipped when Docker is unavailable.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class BillDaoConcurrencyTest {
+
+	private static final int THREADS = 16;
+	private static final int REQUESTS = 40;
+	private static final BigDecimal DUE = new BigDecimal("1000.00");
+	private static final BigDecimal INSTALMENT = new BigDecimal("75.00");
+
+	@Container
+	private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15")
+			.withDatabaseName("hospital_billing_db")
+			.withCopyFileToContainer(MountableFile.forHostPath("docker/init.sql"),
+					"/docker-entrypoint-initdb.d/init.sql");
+
+	private static JdbcTemplate jdbcTemplate;
+	private static BillDao billDao;
+
+	private static long nextAppointmentId = 1;
+
+	@BeforeAll
+	static void setUp() {
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+				POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+		billDao = new BillDao(jdbcTemplate);
+	}
+
+	@Test
+	void concurrentReservationsNeverExceedTheDueAmount() throws Exception {
+		long billId = insertBill();
+
+		List<Optional<BillBalance>> results = race(() -> billDao.reserve(billId, INSTALMENT));
+
+		// 13 instalments of 75.00 fit into 1000.00, the 14th would need 1050.00
+		long reserved = results.stream().filter(Optional::isPresent).count();
+		assertThat(reserved).isEqualTo(13);
+		assertThat(reservedAmount(billId)).isEqualByComparingTo("975.00");
+		assertThat(dueAmount(billId)).isEqualByComparingTo(DUE);
+	}
+
+	@Test
+	void concurrentSettlementsMoveEachReservationIntoPaidExactlyOnce() throws Exception {
+		long billId = insertBill();
+		List<Optional<BillBalance>> reservations = race(() -> billDao.reserve(billId, INSTALMENT));
+		int reserved = (int) reservations.stream().filter(Optional::isPresent).count();
+
+		List<Optional<BillBalance>> settlements = race(reserved,
+				() -> billDao.settleReservation(billId, INSTALMENT));
+
+		assertThat(settlements).allMatch(Optional::isPresent);
+		assertThat(reservedAmount(billId)).isEqualByComparingTo("0.00");
+		assertThat(dueAmount(billId)).isEqualByComparingTo("25.00");
+		assertThat(jdbcTemplate.queryForObject("SELECT paid_amount FROM bills WHERE id = ?", BigDecimal.class, billId))
+				.isEqualByComparingTo("975.00");
+		assertThat(jdbcTemplate.queryForObject("SELECT status FROM bills WHERE id = ?", String.class, billId))
+				.isEqualTo("PARTIALLY_PAID");
+	}
+
+	private static <T> List<T> race(Callable<T> call) throws Exception {
+		return race(REQUESTS, call);
+	}
+
+	/** Runs {@code call} the given number of times from {@link #THREADS} threads released together. */
+	private static <T> List<T> race(int times, Callable<T> call) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<T>> futures = new ArrayList<>(times);
+			for (int i = 0; i < times; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return call.call();
+				}));
+			}
+			start.countDown();
+
+			List<T> results = new ArrayList<>(times);
+			for (Future<T> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static long insertBill() {
+		long appointmentId = nextAppointmentId++;
+		billDao.insertBatch(List.of(Bill.builder()
+				.billNumber("BILL-TEST-" + appointmentId)
+				.appointmentId(appointmentId)
+				.patientId(1001L)
+				.patientName("Mary O'Neil")
+				.consultationFee(DUE)
+				.labCharges(BigDecimal.ZERO)
+				.pharmacyCharges(BigDecimal.ZERO)
+				.totalAmount(DUE)
+				.paidAmount(BigDecimal.ZERO)
+				.dueAmount(DUE)
+				.status(Bill.BillStatus.PENDING)
+				.build()));
+		return jdbcTemplate.queryForObject("SELECT id FROM bills WHERE appointment_id = ?", Long.class,
+				appointmentId);
+	}
+
+	private static BigDecimal reservedAmount(long billId) {
+		return jdbcTemplate.queryForObject("SELECT reserved_amount FROM bills WHERE id = ?", BigDecimal.class, billId);
+	}
+
+	private static BigDecimal dueAmount(long billId) {
+		return jdbcTemplate.queryForObject("SELECT due_amount FROM bills WHERE id = ?", BigDecimal.class, billId);
+	}
+}
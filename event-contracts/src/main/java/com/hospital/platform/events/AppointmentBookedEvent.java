@@ -0,0 +1,24 @@
+package com.hospital.platform.events;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+
+/** Published by appointment-service on {@code appointment.booked} once a booking commits. */
+@Builder
+public record AppointmentBookedEvent(
+		String eventId,
+		String appointmentNumber,
+		Long appointmentId,
+		Long patientId,
+		String patientName,
+		Long doctorId,
+		String doctorName,
+		String department,
+		LocalDateTime appointmentTime,
+		BigDecimal consultationFee,
+		String reasonForVisit,
+		LocalDateTime eventTimestamp,
+		String createdBy) {
+}
@@ -0,0 +1,18 @@
+package com.hospital.platform.events;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+
+/** Published by billing-service on {@code bill.generated} after a bill is committed. */
+@Builder
+public record BillGeneratedEvent(
+		String eventId,
+		String billNumber,
+		Long billId,
+		Long appointmentId,
+		Long patientId,
+		BigDecimal totalAmount,
+		LocalDateTime eventTimestamp) {
+}
@@ -0,0 +1,153 @@
+package com.hospital.platform.events;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hospital.platform.events.AppointmentBookedEvent.AppointmentBookedEventBuilder;
+import com.hospital.platform.events.BillGeneratedEvent.BillGeneratedEventBuilder;
+import com.hospital.platform.events.PaymentCompletedEvent.PaymentCompletedEventBuilder;
+import com.hospital.platform.events.PaymentFailedEvent.PaymentFailedEventBuilder;
+import com.hospital.platform.events.codec.EventCodec;
+import com.hospital.platform.events.codec.EventDeserializer;
+import com.hospital.platform.events.codec.EventSerializer;
+import com.hospital.platform.events.codec.FileSchemaRegistry;
+
+/**
+ * Entry point for the platform's Kafka events: the binary codec of every
+ * event record, bound to the schemas under {@code event-schemas/}, plus JSON
+ * readers and writers built once for places that store events as text.
+ * <p>
+ * A field added to a codec must exist in the latest schema of its subject; a
+ * schema field a codec leaves out must be nullable.
+ */
+public class EventContracts {
+
+	public static final String DEFAULT_SCHEMA_LOCATION = "classpath*:event-schemas/";
+
+	private final FileSchemaRegistry registry;
+	private final List<EventCodec<?>> codecs;
+	private final ObjectWriter jsonWriter;
+	private final Map<Class<?>, ObjectReader> jsonReaders = new HashMap<>();
+
+	private final EventCodec<AppointmentBookedEvent> appointmentBooked;
+	private final EventCodec<BillGeneratedEvent> billGenerated;
+	private final EventCodec<PaymentCompletedEvent> paymentCompleted;
+	private final EventCodec<PaymentFailedEvent> paymentFailed;
+
+	public EventContracts() {
+		this(new FileSchemaRegistry(DEFAULT_SCHEMA_LOCATION));
+	}
+
+	public EventContracts(FileSchemaRegistry registry) {
+		this.registry = registry;
+
+		this.appointmentBooked = EventCodec.builder(AppointmentBookedEvent.class, "appointment.booked",
+						AppointmentBookedEvent::builder, AppointmentBookedEventBuilder::build)
+				.field("eventId", AppointmentBookedEvent::eventId, AppointmentBookedEventBuilder::eventId)
+				.field("appointmentNumber", AppointmentBookedEvent::appointmentNumber, AppointmentBookedEventBuilder::appointmentNumber)
+				.field("appointmentId", AppointmentBookedEvent::appointmentId, AppointmentBookedEventBuilder::appointmentId)
+				.field("patientId", AppointmentBookedEvent::patientId, AppointmentBookedEventBuilder::patientId)
+				.field("patientName", AppointmentBookedEvent::patientName, AppointmentBookedEventBuilder::patientName)
+				.field("doctorId", AppointmentBookedEvent::doctorId, AppointmentBookedEventBuilder::doctorId)
+				.field("doctorName", AppointmentBookedEvent::doctorName, AppointmentBookedEventBuilder::doctorName)
+				.field("department", AppointmentBookedEvent::department, AppointmentBookedEventBuilder::department)
+				.field("appointmentTime", AppointmentBookedEvent::appointmentTime, AppointmentBookedEventBuilder::appointmentTime)
+				.field("consultationFee", AppointmentBookedEvent::consultationFee, AppointmentBookedEventBuilder::consultationFee)
+				.field("reasonForVisit", AppointmentBookedEvent::reasonForVisit, AppointmentBookedEventBuilder::reasonForVisit)
+				.field("eventTimestamp", AppointmentBookedEvent::eventTimestamp, AppointmentBookedEventBuilder::eventTimestamp)
+				.field("createdBy", AppointmentBookedEvent::createdBy, AppointmentBookedEventBuilder::createdBy)
+				.build(registry);
+
+		this.billGenerated = EventCodec.builder(BillGeneratedEvent.class, "bill.generated",
+						BillGeneratedEvent::builder, BillGeneratedEventBuilder::build)
+				.field("eventId", BillGeneratedEvent::eventId, BillGeneratedEventBuilder::eventId)
+				.field("billNumber", BillGeneratedEvent::billNumber, BillGeneratedEventBuilder::billNumber)
+				.field("billId", BillGeneratedEvent::billId, BillGeneratedEventBuilder::billId)
+				.field("appointmentId", BillGeneratedEvent::appointmentId, BillGeneratedEventBuilder::appointmentId)
+				.field("patientId", BillGeneratedEvent::patientId, BillGeneratedEventBuilder::patientId)
+				.field("totalAmount", BillGeneratedEvent::totalAmount, BillGeneratedEventBuilder::totalAmount)
+				.field("eventTimestamp", BillGeneratedEvent::eventTimestamp, BillGeneratedEventBuilder::eventTimestamp)
+				.build(registry);
+
+		this.paymentCompleted = EventCodec.builder(PaymentCompletedEvent.class, "payment.completed",
+						PaymentCompletedEvent::builder, PaymentCompletedEventBuilder::build)
+				.field("eventId", PaymentCompletedEvent::eventId, PaymentCompletedEventBuilder::eventId)
+				.field("paymentReference", PaymentCompletedEvent::paymentReference, PaymentCompletedEventBuilder::paymentReference)
+				.field("billId", PaymentCompletedEvent::billId, PaymentCompletedEventBuilder::billId)
+				.field("billNumber", PaymentCompletedEvent::billNumber, PaymentCompletedEventBuilder::billNumber)
+				.field("amount", PaymentCompletedEvent::amount, PaymentCompletedEventBuilder::amount)
+				.field("paymentMethod", PaymentCompletedEvent::paymentMethod, PaymentCompletedEventBuilder::paymentMethod)
+				.field("eventTimestamp", PaymentCompletedEvent::eventTimestamp, PaymentCompletedEventBuilder::eventTimestamp)
+				.build(registry);
+
+		this.paymentFailed = EventCodec.builder(PaymentFailedEvent.class, "payment.failed",
+						PaymentFailedEvent::builder, PaymentFailedEventBuilder::build)
+				.field("eventId", PaymentFailedEvent::eventId, PaymentFailedEventBuilder::eventId)
+				.field("billId", PaymentFailedEvent::billId, PaymentFailedEventBuilder::billId)
+				.field("amount", PaymentFailedEvent::amount, PaymentFailedEventBuilder::amount)
+				.field("reason", PaymentFailedEvent::reason, PaymentFailedEventBuilder::reason)
+				.field("eventTimestamp", PaymentFailedEvent::eventTimestamp, PaymentFailedEventBuilder::eventTimestamp)
+				.build(registry);
+
+		this.codecs = List.of(this.appointmentBooked, this.billGenerated, this.paymentCompleted, this.paymentFailed);
+
+		ObjectMapper objectMapper = new ObjectMapper()
+				.registerModule(new JavaTimeModule())
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+				.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+		this.jsonWriter = objectMapper.writer();
+		this.codecs.forEach(codec -> this.jsonReaders.put(codec.type(), objectMapper.readerFor(codec.type())));
+	}
+
+	public EventCodec<AppointmentBookedEvent> appointmentBooked() {
+		return this.appointmentBooked;
+	}
+
+	public EventCodec<BillGeneratedEvent> billGenerated() {
+		return this.billGenerated;
+	}
+
+	public EventCodec<PaymentCompletedEvent> paymentCompleted() {
+		return this.paymentCompleted;
+	}
+
+	public EventCodec<PaymentFailedEvent> paymentFailed() {
+		return this.paymentFailed;
+	}
+
+	/** Value serializer for any event record; the codec is chosen by the event's class. */
+	public <T> Serializer<T> serializer() {
+		return new EventSerializer<>(this.codecs);
+	}
+
+	/**
+	 * Value deserializer that accepts any registered event assignable to
+	 * {@code type}; pass {@code Object.class} for topics carrying several event
+	 * types. A concrete event type also accepts that event's legacy JSON form.
+	 */
+	public <T> Deserializer<T> deserializer(Class<T> type) {
+		return new EventDeserializer<>(this.registry, this.codecs, type, this.jsonReaders.get(type));
+	}
+
+	public ObjectWriter jsonWriter() {
+		return this.jsonWriter;
+	}
+
+	public ObjectReader jsonReader(Class<?> type) {
+		ObjectReader reader = this.jsonReaders.get(type);
+		if (reader == null) {
+			throw new IllegalArgumentException(type.getName() + " is not an event contract");
+		}
+		return reader;
+	}
+}
@@ -0,0 +1,13 @@
+package com.hospital.platform.events;
+
+/** Kafka topics the event records are published to; dead letters go to {@code <topic>.dlt}. */
+public final class EventTopics {
+
+	public static final String APPOINTMENT_BOOKED = "appointment.booked";
+	public static final String BILL_GENERATED = "bill.generated";
+	public static final String PAYMENT_COMPLETED = "payment.completed";
+	public static final String PAYMENT_FAILED = "payment.failed";
+
+	private EventTopics() {
+	}
+}
@@ -0,0 +1,18 @@
+package com.hospital.platform.events;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+
+/** Published by billing-service on {@code payment.completed} after a successful payment. */
+@Builder
+public record PaymentCompletedEvent(
+		String eventId,
+		String paymentReference,
+		Long billId,
+		String billNumber,
+		BigDecimal amount,
+		String paymentMethod,
+		LocalDateTime eventTimestamp) {
+}
@@ -0,0 +1,16 @@
+package com.hospital.platform.events;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+
+/** Published by billing-service on {@code payment.failed} after a declined or failed payment. */
+@Builder
+public record PaymentFailedEvent(
+		String eventId,
+		Long billId,
+		BigDecimal amount,
+		String reason,
+		LocalDateTime eventTimestamp) {
+}
@@ -0,0 +1,87 @@
+package com.hospital.platform.events.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * Reads what {@link BinaryWriter} writes. Truncated or corrupt input surfaces
+ * as a {@link SerializationException} rather than an index error.
+ */
+final class BinaryReader {
+
+	private final byte[] data;
+	private int position;
+
+	BinaryReader(byte[] data) {
+		this.data = data;
+	}
+
+	int readByte() {
+		require(1);
+		return this.data[this.position++] & 0xFF;
+	}
+
+	int readFixedInt() {
+		require(4);
+		return (this.data[this.position++] & 0xFF) << 24
+				| (this.data[this.position++] & 0xFF) << 16
+				| (this.data[this.position++] & 0xFF) << 8
+				| (this.data[this.position++] & 0xFF);
+	}
+
+	long readLong() {
+		long zigZag = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = readByte();
+			zigZag |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return (zigZag >>> 1) ^ -(zigZag & 1);
+			}
+		}
+		throw new SerializationException("Malformed varint at offset " + this.position);
+	}
+
+	String readString() {
+		int length = readLength();
+		String value = new String(this.data, this.position, length, StandardCharsets.UTF_8);
+		this.position += length;
+		return value;
+	}
+
+	BigDecimal readDecimal(int scale) {
+		int length = readLength();
+		byte[] unscaled = new byte[length];
+		System.arraycopy(this.data, this.position, unscaled, 0, length);
+		this.position += length;
+		return new BigDecimal(new BigInteger(unscaled), scale);
+	}
+
+	LocalDateTime readTimestamp() {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(readLong()), ZoneOffset.UTC);
+	}
+
+	void skipBytes() {
+		int length = readLength();
+		this.position += length;
+	}
+
+	private int readLength() {
+		long length = readLong();
+		if (length < 0 || length > this.data.length - this.position) {
+			throw new SerializationException("Invalid length " + length + " at offset " + this.position);
+		}
+		return (int) length;
+	}
+
+	private void require(int count) {
+		if (this.position + count > this.data.length) {
+			throw new SerializationException("Unexpected end of event payload at offset " + this.position);
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package com.hospital.platform.events.codec;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Avro binary encoding of the primitives {@link EventSchema} supports: zig-zag
+ * varint longs, length-prefixed UTF-8 strings and bytes.
+ */
+final class BinaryWriter {
+
+	private byte[] buffer;
+	private int position;
+
+	BinaryWriter(int initialCapacity) {
+		this.buffer = new byte[initialCapacity];
+	}
+
+	void writeByte(int value) {
+		ensureCapacity(1);
+		this.buffer[this.position++] = (byte) value;
+	}
+
+	void writeFixedInt(int value) {
+		ensureCapacity(4);
+		this.buffer[this.position++] = (byte) (value >>> 24);
+		this.buffer[this.position++] = (byte) (value >>> 16);
+		this.buffer[this.position++] = (byte) (value >>> 8);
+		this.buffer[this.position++] = (byte) value;
+	}
+
+	void writeLong(long value) {
+		ensureCapacity(10);
+		long zigZag = (value << 1) ^ (value >> 63);
+		while ((zigZag & ~0x7FL) != 0) {
+			this.buffer[this.position++] = (byte) ((zigZag & 0x7F) | 0x80);
+			zigZag >>>= 7;
+		}
+		this.buffer[this.position++] = (byte) zigZag;
+	}
+
+	void writeBytes(byte[] bytes) {
+		writeLong(bytes.length);
+		ensureCapacity(bytes.length);
+		System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+		this.position += bytes.length;
+	}
+
+	void writeString(String value) {
+		writeBytes(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/** Unscaled two's-complement value; the scale is fixed by the schema. */
+	void writeDecimal(BigDecimal value, int scale) {
+		writeBytes(value.setScale(scale, RoundingMode.UNNECESSARY).unscaledValue().toByteArray());
+	}
+
+	void writeTimestamp(LocalDateTime value) {
+		writeLong(value.toInstant(ZoneOffset.UTC).toEpochMilli());
+	}
+
+	byte[] toByteArray() {
+		return Arrays.copyOf(this.buffer, this.position);
+	}
+
+	private void ensureCapacity(int extra) {
+		if (this.position + extra > this.buffer.length) {
+			this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.position + extra));
+		}
+	}
+}
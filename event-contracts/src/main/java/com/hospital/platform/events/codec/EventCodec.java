@@ -0,0 +1,231 @@
+package com.hospital.platform.events.codec;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import com.hospital.platform.events.codec.EventSchema.Field;
+
+/**
+ * Encodes one event class with the latest registered schema of its subject and
+ * decodes payloads written with any registered version of that subject.
+ * <p>
+ * Wire format: magic byte {@code 0}, the 4-byte big-endian schema id, then the
+ * fields in Avro binary encoding. Nullable fields are {@code ["null", T]}
+ * unions. When reading an older or newer version, fields the reader does not
+ * know are skipped and fields the writer did not send stay {@code null}.
+ */
+public final class EventCodec<T> {
+
+	public static final byte MAGIC_BYTE = 0;
+
+	private static final int HEADER_LENGTH = 5;
+
+	private final Class<T> type;
+	private final Supplier<Object> newBuilder;
+	private final Function<Object, T> build;
+	private final EventSchema schema;
+	private final FileSchemaRegistry registry;
+	private final Accessor<T>[] writePlan;
+	private final Map<String, Accessor<T>> accessors;
+	private final Map<Integer, ReadStep[]> readPlans = new ConcurrentHashMap<>();
+
+	private EventCodec(Class<T> type, Supplier<Object> newBuilder, Function<Object, T> build, EventSchema schema,
+			FileSchemaRegistry registry, Map<String, Accessor<T>> accessors) {
+		this.type = type;
+		this.newBuilder = newBuilder;
+		this.build = build;
+		this.schema = schema;
+		this.registry = registry;
+		this.accessors = accessors;
+		this.writePlan = writePlan(schema, accessors, type);
+	}
+
+	/**
+	 * Events are immutable, so decoding fills a builder of type {@code B} and
+	 * calls {@code build} once every field has been read.
+	 */
+	public static <T, B> Builder<T, B> builder(Class<T> type, String subject, Supplier<B> newBuilder,
+			Function<B, T> build) {
+		return new Builder<>(type, subject, newBuilder, build);
+	}
+
+	/** Schema id of a schema-prefixed payload, or {@code -1} if {@code data} is not one. */
+	public static int schemaId(byte[] data) {
+		if (data == null || data.length < HEADER_LENGTH || data[0] != MAGIC_BYTE) {
+			return -1;
+		}
+		return (data[1] & 0xFF) << 24 | (data[2] & 0xFF) << 16 | (data[3] & 0xFF) << 8 | (data[4] & 0xFF);
+	}
+
+	public Class<T> type() {
+		return this.type;
+	}
+
+	public EventSchema schema() {
+		return this.schema;
+	}
+
+	public byte[] encode(T event) {
+		BinaryWriter writer = new BinaryWriter(128);
+		writer.writeByte(MAGIC_BYTE);
+		writer.writeFixedInt(this.schema.id());
+
+		List<Field> fields = this.schema.fields();
+		for (int i = 0; i < fields.size(); i++) {
+			Field field = fields.get(i);
+			Accessor<T> accessor = this.writePlan[i];
+			Object value = accessor == null ? null : accessor.getter().apply(event);
+
+			if (field.nullable()) {
+				writer.writeLong(value == null ? 0 : 1);
+			}
+			if (value == null) {
+				if (!field.nullable()) {
+					throw new SerializationException(this.schema.subject() + "." + field.name() + " is required");
+				}
+				continue;
+			}
+
+			try {
+				writeValue(writer, field, value);
+			} catch (ArithmeticException | ClassCastException ex) {
+				throw new SerializationException("Cannot encode " + this.schema.subject() + "." + field.name(), ex);
+			}
+		}
+		return writer.toByteArray();
+	}
+
+	public T decode(byte[] data) {
+		BinaryReader reader = new BinaryReader(data);
+		if (data.length < HEADER_LENGTH || reader.readByte() != MAGIC_BYTE) {
+			throw new SerializationException("Not a schema-prefixed " + this.schema.subject() + " payload");
+		}
+
+		ReadStep[] plan = this.readPlans.computeIfAbsent(reader.readFixedInt(), this::readPlan);
+		Object builder = this.newBuilder.get();
+		for (ReadStep step : plan) {
+			if (step.field().nullable() && reader.readLong() == 0) {
+				continue;
+			}
+			if (step.setter() == null) {
+				skipValue(reader, step.field());
+			} else {
+				step.setter().accept(builder, readValue(reader, step.field()));
+			}
+		}
+		return this.build.apply(builder);
+	}
+
+	private ReadStep[] readPlan(int schemaId) {
+		EventSchema writerSchema = this.registry.byId(schemaId);
+		if (!writerSchema.subject().equals(this.schema.subject())) {
+			throw new SerializationException("Schema id " + schemaId + " belongs to " + writerSchema.subject()
+					+ ", expected " + this.schema.subject());
+		}
+
+		List<Field> fields = writerSchema.fields();
+		ReadStep[] plan = new ReadStep[fields.size()];
+		for (int i = 0; i < fields.size(); i++) {
+			Field written = fields.get(i);
+			Field known = this.schema.field(written.name());
+			Accessor<T> accessor = this.accessors.get(written.name());
+
+			if (known != null && (known.type() != written.type() || known.scale() != written.scale())) {
+				throw new SerializationException(this.schema.subject() + "." + written.name() + " changed type between v"
+						+ writerSchema.version() + " and v" + this.schema.version());
+			}
+			plan[i] = new ReadStep(written, known == null || accessor == null ? null : accessor.setter());
+		}
+		return plan;
+	}
+
+	private static void writeValue(BinaryWriter writer, Field field, Object value) {
+		switch (field.type()) {
+			case STRING -> writer.writeString((String) value);
+			case LONG -> writer.writeLong((Long) value);
+			case DECIMAL -> writer.writeDecimal((BigDecimal) value, field.scale());
+			case TIMESTAMP -> writer.writeTimestamp((LocalDateTime) value);
+		}
+	}
+
+	private static Object readValue(BinaryReader reader, Field field) {
+		return switch (field.type()) {
+			case STRING -> reader.readString();
+			case LONG -> reader.readLong();
+			case DECIMAL -> reader.readDecimal(field.scale());
+			case TIMESTAMP -> reader.readTimestamp();
+		};
+	}
+
+	private static void skipValue(BinaryReader reader, Field field) {
+		switch (field.type()) {
+			case STRING, DECIMAL -> reader.skipBytes();
+			case LONG, TIMESTAMP -> reader.readLong();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Accessor<T>[] writePlan(EventSchema schema, Map<String, Accessor<T>> accessors, Class<T> type) {
+		for (String name : accessors.keySet()) {
+			if (schema.field(name) == null) {
+				throw new IllegalStateException(type.getSimpleName() + "." + name + " is not in " + schema.subject()
+						+ " v" + schema.version());
+			}
+		}
+
+		List<Field> fields = schema.fields();
+		Accessor<T>[] plan = new Accessor[fields.size()];
+		for (int i = 0; i < fields.size(); i++) {
+			Field field = fields.get(i);
+			plan[i] = accessors.get(field.name());
+			if (plan[i] == null && !field.nullable()) {
+				throw new IllegalStateException(type.getSimpleName() + " has no accessor for required field "
+						+ schema.subject() + "." + field.name());
+			}
+		}
+		return plan;
+	}
+
+	private record Accessor<T>(Function<T, Object> getter, BiConsumer<Object, Object> setter) {
+	}
+
+	private record ReadStep(Field field, BiConsumer<Object, Object> setter) {
+	}
+
+	public static final class Builder<T, B> {
+
+		private final Class<T> type;
+		private final String subject;
+		private final Supplier<B> newBuilder;
+		private final Function<B, T> build;
+		private final Map<String, Accessor<T>> accessors = new LinkedHashMap<>();
+
+		private Builder(Class<T> type, String subject, Supplier<B> newBuilder, Function<B, T> build) {
+			this.type = type;
+			this.subject = subject;
+			this.newBuilder = newBuilder;
+			this.build = build;
+		}
+
+		@SuppressWarnings("unchecked")
+		public <V> Builder<T, B> field(String name, Function<T, V> getter, BiConsumer<B, V> setter) {
+			this.accessors.put(name, new Accessor<>((Function<T, Object>) getter, (BiConsumer<Object, Object>) setter));
+			return this;
+		}
+
+		@SuppressWarnings("unchecked")
+		public EventCodec<T> build(FileSchemaRegistry registry) {
+			return new EventCodec<>(this.type, (Supplier<Object>) this.newBuilder, (Function<Object, T>) this.build,
+					registry.latest(this.subject), registry, Map.copyOf(this.accessors));
+		}
+	}
+}
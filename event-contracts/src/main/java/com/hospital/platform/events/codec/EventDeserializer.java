@@ -0,0 +1,69 @@
+package com.hospital.platform.events.codec;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Decodes schema-prefixed binary events. The schema id in the payload names
+ * the subject, and the subject picks the codec, so one topic can carry several
+ * event types without type headers or a default type.
+ * <p>
+ * When a legacy JSON reader is given, JSON payloads written before the switch
+ * to binary are still read so records already on the topic drain normally.
+ */
+public class EventDeserializer<T> implements Deserializer<T> {
+
+	private final FileSchemaRegistry registry;
+	private final Map<String, EventCodec<?>> codecsBySubject = new HashMap<>();
+	private final Class<T> expectedType;
+	private final ObjectReader legacyJsonReader;
+
+	public EventDeserializer(FileSchemaRegistry registry, List<EventCodec<?>> codecs, Class<T> expectedType,
+			ObjectReader legacyJsonReader) {
+		this.registry = registry;
+		this.expectedType = expectedType;
+		this.legacyJsonReader = legacyJsonReader;
+		codecs.forEach(codec -> this.codecsBySubject.put(codec.schema().subject(), codec));
+	}
+
+	@Override
+	public T deserialize(String topic, byte[] data) {
+		if (data == null || data.length == 0) {
+			return null;
+		}
+
+		int schemaId = EventCodec.schemaId(data);
+		if (schemaId >= 0) {
+			String subject = this.registry.byId(schemaId).subject();
+			EventCodec<?> codec = this.codecsBySubject.get(subject);
+			if (codec == null) {
+				throw new SerializationException("No event codec for subject " + subject + " on " + topic);
+			}
+			return expected(codec.decode(data), topic);
+		}
+
+		if (data[0] == '{' && this.legacyJsonReader != null) {
+			try {
+				return expected(this.legacyJsonReader.readValue(data), topic);
+			} catch (IOException ex) {
+				throw new SerializationException("Cannot read JSON " + this.expectedType.getSimpleName() + " from " + topic, ex);
+			}
+		}
+		throw new SerializationException("Unrecognised payload format on " + topic);
+	}
+
+	private T expected(Object event, String topic) {
+		if (!this.expectedType.isInstance(event)) {
+			throw new SerializationException("Got " + event.getClass().getSimpleName() + " on " + topic + ", expected "
+					+ this.expectedType.getSimpleName());
+		}
+		return this.expectedType.cast(event);
+	}
+}
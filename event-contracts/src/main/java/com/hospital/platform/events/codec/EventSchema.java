@@ -0,0 +1,86 @@
+package com.hospital.platform.events.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * One registered version of an event schema, read from an Avro {@code .avsc}
+ * record definition with {@code schemaId}, {@code subject} and {@code version}
+ * attributes. Only the field types the platform's events use are supported.
+ */
+public record EventSchema(int id, String subject, int version, List<Field> fields) {
+
+	public enum Type {
+		STRING, LONG, DECIMAL, TIMESTAMP
+	}
+
+	public record Field(String name, Type type, boolean nullable, int scale) {
+	}
+
+	public Field field(String name) {
+		for (Field field : this.fields) {
+			if (field.name().equals(name)) {
+				return field;
+			}
+		}
+		return null;
+	}
+
+	static EventSchema parse(JsonNode root, String source) {
+		if (!"record".equals(root.path("type").asText())) {
+			throw new IllegalStateException(source + ": only record schemas are supported");
+		}
+		int id = requiredInt(root, "schemaId", source);
+		String subject = root.path("subject").asText(null);
+		if (subject == null) {
+			throw new IllegalStateException(source + ": missing subject");
+		}
+
+		List<Field> fields = new ArrayList<>();
+		for (JsonNode field : root.path("fields")) {
+			fields.add(parseField(field, source));
+		}
+		return new EventSchema(id, subject, requiredInt(root, "version", source), List.copyOf(fields));
+	}
+
+	private static Field parseField(JsonNode field, String source) {
+		String name = field.path("name").asText();
+		JsonNode type = field.path("type");
+		boolean nullable = false;
+
+		if (type.isArray()) {
+			if (type.size() != 2 || !"null".equals(type.get(0).asText())) {
+				throw new IllegalStateException(source + ": field " + name + " must be a [\"null\", type] union");
+			}
+			nullable = true;
+			type = type.get(1);
+		}
+
+		String primitive = type.isObject() ? type.path("type").asText() : type.asText();
+		String logicalType = type.path("logicalType").asText(null);
+
+		if ("decimal".equals(logicalType) && "bytes".equals(primitive)) {
+			return new Field(name, Type.DECIMAL, nullable, type.path("scale").asInt(0));
+		}
+		if ("local-timestamp-millis".equals(logicalType) && "long".equals(primitive)) {
+			return new Field(name, Type.TIMESTAMP, nullable, 0);
+		}
+		if (logicalType == null && "string".equals(primitive)) {
+			return new Field(name, Type.STRING, nullable, 0);
+		}
+		if (logicalType == null && "long".equals(primitive)) {
+			return new Field(name, Type.LONG, nullable, 0);
+		}
+		throw new IllegalStateException(source + ": unsupported type for field " + name + ": " + type);
+	}
+
+	private static int requiredInt(JsonNode root, String attribute, String source) {
+		JsonNode value = root.path(attribute);
+		if (!value.isInt()) {
+			throw new IllegalStateException(source + ": missing integer " + attribute);
+		}
+		return value.intValue();
+	}
+}
@@ -0,0 +1,35 @@
+package com.hospital.platform.events.codec;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka value serializer that picks the {@link EventCodec} by the event's class,
+ * so one producer can carry every event type the service publishes.
+ */
+public class EventSerializer<T> implements Serializer<T> {
+
+	private final Map<Class<?>, EventCodec<?>> codecs = new HashMap<>();
+
+	public EventSerializer(List<EventCodec<?>> codecs) {
+		codecs.forEach(codec -> this.codecs.put(codec.type(), codec));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public byte[] serialize(String topic, T data) {
+		if (data == null) {
+			return null;
+		}
+
+		EventCodec<Object> codec = (EventCodec<Object>) this.codecs.get(data.getClass());
+		if (codec == null) {
+			throw new SerializationException("No event codec for " + data.getClass().getName() + " on " + topic);
+		}
+		return codec.encode(data);
+	}
+}
@@ -0,0 +1,82 @@
+package com.hospital.platform.events.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stand-in for a schema registry: every {@code *.avsc} file under a directory
+ * (classpath or filesystem) is one schema version, identified by the globally
+ * unique {@code schemaId} that producers write in front of each payload.
+ */
+@Slf4j
+public class FileSchemaRegistry {
+
+	private final Map<Integer, EventSchema> byId = new HashMap<>();
+	private final Map<String, EventSchema> latestBySubject = new HashMap<>();
+
+	public FileSchemaRegistry(String location) {
+		String pattern = (location.endsWith("/") ? location : location + "/") + "*.avsc";
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		Resource[] resources;
+		try {
+			resources = new PathMatchingResourcePatternResolver().getResources(pattern);
+		} catch (IOException ex) {
+			throw new IllegalStateException("Cannot list event schemas at " + pattern, ex);
+		}
+
+		for (Resource resource : resources) {
+			try (InputStream in = resource.getInputStream()) {
+				register(EventSchema.parse(objectMapper.readTree(in), resource.getDescription()));
+			} catch (IOException ex) {
+				throw new IllegalStateException("Cannot read event schema " + resource.getDescription(), ex);
+			}
+		}
+
+		if (this.byId.isEmpty()) {
+			throw new IllegalStateException("No event schemas found at " + pattern);
+		}
+		log.info("Loaded {} event schemas for subjects {}", this.byId.size(), this.latestBySubject.keySet());
+	}
+
+	public EventSchema byId(int id) {
+		EventSchema schema = this.byId.get(id);
+		if (schema == null) {
+			throw new SerializationException("Unknown event schema id " + id);
+		}
+		return schema;
+	}
+
+	public EventSchema latest(String subject) {
+		EventSchema schema = this.latestBySubject.get(subject);
+		if (schema == null) {
+			throw new IllegalStateException("No event schema registered for subject " + subject);
+		}
+		return schema;
+	}
+
+	private void register(EventSchema schema) {
+		EventSchema existing = this.byId.putIfAbsent(schema.id(), schema);
+		if (existing != null) {
+			throw new IllegalStateException("Schema id " + schema.id() + " is used by both " + existing.subject()
+					+ " v" + existing.version() + " and " + schema.subject() + " v" + schema.version());
+		}
+
+		this.latestBySubject.merge(schema.subject(), schema, (current, candidate) -> {
+			if (current.version() == candidate.version()) {
+				throw new IllegalStateException("Duplicate version " + candidate.version() + " for " + candidate.subject());
+			}
+			return candidate.version() > current.version() ? candidate : current;
+		});
+	}
+}
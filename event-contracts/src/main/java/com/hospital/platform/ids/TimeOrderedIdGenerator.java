@@ -0,0 +1,118 @@
+package com.hospital.platform.ids;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake-style 64-bit ids: milliseconds since {@link #EPOCH} (41 bits, good
+ * until 2093), the node id (10 bits) and a per-millisecond sequence (12 bits).
+ * Ids from one generator strictly increase, and generators with different node
+ * ids never collide.
+ * <p>
+ * Issuing is a single compare-and-set with no lock and no random source. More
+ * than 4096 ids in a millisecond borrow from the next one, and a clock that
+ * steps back is ignored until it catches up, so neither blocks nor repeats.
+ * <p>
+ * {@link #nextReference(String)} renders ids as {@code PREFIX-YYYY-XXXXXXXXXXXXX}:
+ * the UTC year of issue and the id in 13 Crockford base32 characters, which
+ * sort in issue order and avoid easily confused letters.
+ */
+public final class TimeOrderedIdGenerator {
+
+	public static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+	public static final int MAX_NODE_ID = (1 << 10) - 1;
+
+	private static final int NODE_BITS = 10;
+	private static final int SEQUENCE_BITS = 12;
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+	private static final long EPOCH_MILLIS = EPOCH.toEpochMilli();
+	private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+	private static final int RENDERED_LENGTH = 13;
+
+	private final long nodeBits;
+	// Last issued (timestamp << SEQUENCE_BITS | sequence)
+	private final AtomicLong last = new AtomicLong();
+	private volatile IssueYear issueYear = IssueYear.containing(EPOCH_MILLIS);
+
+	public TimeOrderedIdGenerator(int nodeId) {
+		if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+			throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+		}
+		this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+	}
+
+	public long nextId() {
+		long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+		long previous;
+		long next;
+		do {
+			previous = this.last.get();
+			next = Math.max(previous + 1, now);
+		} while (!this.last.compareAndSet(previous, next));
+
+		return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS) | this.nodeBits | (next & SEQUENCE_MASK);
+	}
+
+	public String nextReference(String prefix) {
+		long id = nextId();
+		long issuedAt = timestampMillis(id);
+
+		IssueYear year = this.issueYear;
+		if (!year.contains(issuedAt)) {
+			year = IssueYear.containing(issuedAt);
+			this.issueYear = year;
+		}
+
+		char[] rendered = new char[prefix.length() + 6 + RENDERED_LENGTH];
+		prefix.getChars(0, prefix.length(), rendered, 0);
+		int pos = prefix.length();
+		rendered[pos++] = '-';
+		year.label.getChars(0, 4, rendered, pos);
+		pos += 4;
+		rendered[pos++] = '-';
+		for (int i = RENDERED_LENGTH - 1; i >= 0; i--) {
+			rendered[pos + i] = CROCKFORD[(int) (id & 31)];
+			id >>>= 5;
+		}
+		return new String(rendered);
+	}
+
+	public static long timestampMillis(long id) {
+		return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+	}
+
+	public static int nodeId(long id) {
+		return (int) (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+	}
+
+	/**
+	 * A node id derived from the host name, for deployments that do not assign
+	 * one. Two hosts share it with probability 1/1024, so replicas of a scaled
+	 * service should be given distinct ids explicitly.
+	 */
+	public static int nodeIdFromHostName() {
+		try {
+			return Math.floorMod(InetAddress.getLocalHost().getHostName().hashCode(), MAX_NODE_ID + 1);
+		} catch (UnknownHostException ex) {
+			return 0;
+		}
+	}
+
+	private record IssueYear(String label, long startMillis, long endMillis) {
+
+		static IssueYear containing(long epochMillis) {
+			ZonedDateTime start = Instant.ofEpochMilli(epochMillis).atZone(ZoneOffset.UTC)
+					.withDayOfYear(1).toLocalDate().atStartOfDay(ZoneOffset.UTC);
+			return new IssueYear(String.valueOf(start.getYear()), start.toInstant().toEpochMilli(),
+					start.plusYears(1).toInstant().toEpochMilli());
+		}
+
+		boolean contains(long epochMillis) {
+			return epochMillis >= this.startMillis && epochMillis < this.endMillis;
+		}
+	}
+}
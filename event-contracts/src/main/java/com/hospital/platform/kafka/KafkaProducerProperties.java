@@ -0,0 +1,68 @@
+package com.hospital.platform.kafka;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+/**
+ * Producer profiles for {@link ProfiledKafkaTemplates}. Each service binds
+ * its own instance under its prefix, e.g. {@code billing.kafka.producer}.
+ */
+@Data
+public class KafkaProducerProperties {
+
+	/** Idempotent producers keep ordering only with at most this many in-flight requests. */
+	public static final int MAX_IN_FLIGHT_WITH_IDEMPOTENCE = 5;
+
+	/** How long send() may block the caller on missing metadata or a full buffer. */
+	private Duration maxBlock = Duration.ofSeconds(2);
+
+	/** Profile used for topic families without an entry in {@code topicProfiles}. */
+	private String defaultProfile = "low-latency";
+
+	/** Batching and compression settings keyed by profile name. */
+	private Map<String, Profile> profiles = new HashMap<>();
+
+	/** Profile name keyed by topic family, the topic name up to its first dot. */
+	private Map<String, String> topicProfiles = new HashMap<>();
+
+	public String profileFor(String topic) {
+		int dot = topic.indexOf('.');
+		String family = dot < 0 ? topic : topic.substring(0, dot);
+		return this.topicProfiles.getOrDefault(family, this.defaultProfile);
+	}
+
+	@Data
+	public static class Profile {
+
+		/** How long the producer waits to fill a batch before sending it. */
+		private Duration linger = Duration.ZERO;
+
+		/** Upper bound on a per-partition batch. */
+		private DataSize batchSize = DataSize.ofKilobytes(16);
+
+		/** none, gzip, snappy, lz4 or zstd. */
+		private String compressionType = "none";
+
+		private int maxInFlight = MAX_IN_FLIGHT_WITH_IDEMPOTENCE;
+
+		public Map<String, Object> toProducerConfig() {
+			if (this.maxInFlight < 1 || this.maxInFlight > MAX_IN_FLIGHT_WITH_IDEMPOTENCE) {
+				throw new IllegalStateException("max-in-flight must be between 1 and "
+						+ MAX_IN_FLIGHT_WITH_IDEMPOTENCE + " for an idempotent producer, was " + this.maxInFlight);
+			}
+
+			Map<String, Object> config = new HashMap<>();
+			config.put(ProducerConfig.LINGER_MS_CONFIG, (int) this.linger.toMillis());
+			config.put(ProducerConfig.BATCH_SIZE_CONFIG, (int) this.batchSize.toBytes());
+			config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, this.compressionType);
+			config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, this.maxInFlight);
+			return config;
+		}
+	}
+}
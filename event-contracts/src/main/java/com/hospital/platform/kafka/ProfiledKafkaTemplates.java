@@ -0,0 +1,60 @@
+package com.hospital.platform.kafka;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+/**
+ * One producer per configured profile, so each topic family gets its own
+ * batching and compression settings. Producers are closed on shutdown, which
+ * flushes any batch still lingering.
+ */
+public class ProfiledKafkaTemplates implements DisposableBean {
+
+	private final KafkaProducerProperties properties;
+	private final Map<String, DefaultKafkaProducerFactory<String, Object>> factories = new HashMap<>();
+	private final Map<String, KafkaTemplate<String, Object>> templates = new HashMap<>();
+
+	public ProfiledKafkaTemplates(Map<String, Object> baseConfig, Serializer<Object> valueSerializer,
+			KafkaProducerProperties properties) {
+		this.properties = properties;
+
+		properties.getProfiles().forEach((name, profile) -> {
+			Map<String, Object> config = new HashMap<>(baseConfig);
+			config.putAll(profile.toProducerConfig());
+
+			DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(config,
+					new StringSerializer(), valueSerializer);
+			factory.setBeanName("kafkaProducerFactory-" + name);
+			this.factories.put(name, factory);
+			this.templates.put(name, new KafkaTemplate<>(factory));
+		});
+
+		requireProfile(properties.getDefaultProfile(), "default-profile");
+		properties.getTopicProfiles().forEach((family, name) -> requireProfile(name, "topic-profiles." + family));
+	}
+
+	public KafkaTemplate<String, Object> forTopic(String topic) {
+		return this.templates.get(this.properties.profileFor(topic));
+	}
+
+	public KafkaTemplate<String, Object> defaultTemplate() {
+		return this.templates.get(this.properties.getDefaultProfile());
+	}
+
+	@Override
+	public void destroy() {
+		this.factories.values().forEach(DefaultKafkaProducerFactory::destroy);
+	}
+
+	private void requireProfile(String name, String property) {
+		if (!this.templates.containsKey(name)) {
+			throw new IllegalStateException("Kafka producer " + property + " refers to unknown profile " + name);
+		}
+	}
+}
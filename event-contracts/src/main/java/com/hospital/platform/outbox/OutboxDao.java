@@ -0,0 +1,113 @@
+package com.hospital.platform.outbox;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JDBC access to an outbox table. Plain JDBC keeps the table name
+ * configurable and lets inserts join whatever transaction the caller's
+ * transaction manager has bound to the data source, JPA included.
+ */
+public class OutboxDao {
+
+	private static final Pattern TABLE_NAME = Pattern.compile("[a-z_][a-z0-9_]*(\\.[a-z_][a-z0-9_]*)?");
+
+	/** Number of pending events and when the oldest of them was written. */
+	public record Backlog(long pending, Optional<LocalDateTime> oldestCreatedAt) {
+	}
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final String insertSql;
+	private final String lockNextBatchSql;
+	private final String markPublishedSql;
+	private final String scheduleRetrySql;
+	private final String markFailedSql;
+	private final String backlogSql;
+	private final String purgePublishedSql;
+
+	public OutboxDao(JdbcTemplate jdbcTemplate, String table) {
+		if (!TABLE_NAME.matcher(table).matches()) {
+			throw new IllegalArgumentException("Invalid outbox table name: " + table);
+		}
+		this.jdbcTemplate = jdbcTemplate;
+
+		this.insertSql = "INSERT INTO " + table + " (topic, event_key, event_type, payload, status, attempts,"
+				+ " created_at, next_attempt_at) VALUES (?, ?, ?, ?, 'PENDING', 0, ?, ?)";
+		// SKIP LOCKED lets several relay instances drain the table without handing out the same row
+		this.lockNextBatchSql = "SELECT id, topic, event_key, event_type, payload, attempts FROM " + table
+				+ " WHERE status = 'PENDING' AND next_attempt_at <= ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+		this.markPublishedSql = "UPDATE " + table
+				+ " SET status = 'PUBLISHED', published_at = ?, attempts = attempts + 1 WHERE id = ANY (?)";
+		this.scheduleRetrySql = "UPDATE " + table + " SET attempts = ?, last_error = ?, next_attempt_at = ? WHERE id = ?";
+		this.markFailedSql = "UPDATE " + table + " SET status = 'FAILED', attempts = ?, last_error = ? WHERE id = ?";
+		this.backlogSql = "SELECT count(*), min(created_at) FROM " + table + " WHERE status = 'PENDING'";
+		this.purgePublishedSql = "DELETE FROM " + table + " WHERE id IN (SELECT id FROM " + table
+				+ " WHERE status = 'PUBLISHED' AND published_at < ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED)";
+	}
+
+	public void insert(String topic, String key, String eventType, String payload) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		this.jdbcTemplate.update(this.insertSql, topic, key, eventType, payload, now, now);
+	}
+
+	public List<OutboxEvent> lockNextBatch(int batchSize) {
+		return this.jdbcTemplate.query(this.lockNextBatchSql, OutboxDao::toEvent,
+				Timestamp.valueOf(LocalDateTime.now()), batchSize);
+	}
+
+	public int markPublished(Collection<Long> ids, LocalDateTime publishedAt) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+
+		return this.jdbcTemplate.update(connection -> {
+			PreparedStatement ps = connection.prepareStatement(this.markPublishedSql);
+			ps.setTimestamp(1, Timestamp.valueOf(publishedAt));
+			ps.setArray(2, connection.createArrayOf("bigint", ids.toArray()));
+			return ps;
+		});
+	}
+
+	public void scheduleRetry(long id, int attempts, String lastError, LocalDateTime nextAttemptAt) {
+		this.jdbcTemplate.update(this.scheduleRetrySql, attempts, lastError, Timestamp.valueOf(nextAttemptAt), id);
+	}
+
+	public void markFailed(long id, int attempts, String lastError) {
+		this.jdbcTemplate.update(this.markFailedSql, attempts, lastError, id);
+	}
+
+	public Backlog backlog() {
+		return this.jdbcTemplate.queryForObject(this.backlogSql, (rs, rowNum) -> {
+			Timestamp oldest = rs.getTimestamp(2);
+			return new Backlog(rs.getLong(1), Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime));
+		});
+	}
+
+	/**
+	 * Deletes up to {@code limit} rows published before {@code cutoff}.
+	 * FAILED rows are kept so they can still be replayed.
+	 */
+	public int purgePublished(LocalDateTime cutoff, int limit) {
+		return this.jdbcTemplate.update(this.purgePublishedSql, Timestamp.valueOf(cutoff), limit);
+	}
+
+	private static OutboxEvent toEvent(ResultSet rs, int rowNum) throws SQLException {
+		return new OutboxEvent(
+				rs.getLong("id"),
+				rs.getString("topic"),
+				rs.getString("event_key"),
+				rs.getString("event_type"),
+				rs.getString("payload"),
+				rs.getInt("attempts"));
+	}
+}
@@ -0,0 +1,5 @@
+package com.hospital.platform.outbox;
+
+/** An outbox row as the relay needs it; {@code eventType} selects the payload's JSON reader. */
+public record OutboxEvent(long id, String topic, String eventKey, String eventType, String payload, int attempts) {
+}
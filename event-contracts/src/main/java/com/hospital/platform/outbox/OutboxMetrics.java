@@ -0,0 +1,94 @@
+package com.hospital.platform.outbox;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Relay meters, named after the owning service, e.g.
+ * {@code billing_outbox_published_total}. Per-topic meters are cached by topic.
+ */
+public class OutboxMetrics {
+
+	private final MeterRegistry meterRegistry;
+	private final String prefix;
+
+	private final Counter published;
+	private final Counter purged;
+	private final Timer batchTimer;
+	private final DistributionSummary batchSize;
+	private final ConcurrentHashMap<String, Timer> publishTimers = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Counter> sendFailures = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Counter> deadLettered = new ConcurrentHashMap<>();
+	private final AtomicLong pending = new AtomicLong();
+	private final AtomicLong lagSeconds = new AtomicLong();
+
+	public OutboxMetrics(MeterRegistry meterRegistry, String prefix) {
+		this.meterRegistry = meterRegistry;
+		this.prefix = prefix;
+
+		this.published = Counter.builder(prefix + "_outbox_published_total")
+				.description("Outbox events acknowledged by Kafka")
+				.register(meterRegistry);
+		this.purged = Counter.builder(prefix + "_outbox_purged_total")
+				.description("Published outbox events deleted after the retention period")
+				.register(meterRegistry);
+		this.batchTimer = Timer.builder(prefix + "_outbox_batch_duration")
+				.description("Time to lock, send and commit one outbox batch")
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+		this.batchSize = DistributionSummary.builder(prefix + "_outbox_batch_size")
+				.description("Events relayed per outbox batch")
+				.register(meterRegistry);
+		Gauge.builder(prefix + "_outbox_pending", this.pending, AtomicLong::get)
+				.description("Outbox events waiting to be published")
+				.register(meterRegistry);
+		Gauge.builder(prefix + "_outbox_lag_seconds", this.lagSeconds, AtomicLong::get)
+				.description("Age of the oldest unpublished outbox event")
+				.register(meterRegistry);
+	}
+
+	public Timer publishTimer(String topic) {
+		return this.publishTimers.computeIfAbsent(topic, t -> Timer.builder(this.prefix + "_kafka_publish_duration")
+				.description("Time from send until the broker acknowledges the event")
+				.tag("topic", t)
+				.publishPercentileHistogram()
+				.register(this.meterRegistry));
+	}
+
+	public void batchRelayed(int size, int publishedCount, Timer.Sample sample) {
+		this.published.increment(publishedCount);
+		this.batchSize.record(size);
+		sample.stop(this.batchTimer);
+	}
+
+	public void sendFailed(String topic) {
+		this.sendFailures.computeIfAbsent(topic, t -> Counter.builder(this.prefix + "_outbox_failed_total")
+				.description("Outbox send attempts that failed and will be retried or dead-lettered")
+				.tag("topic", t)
+				.register(this.meterRegistry))
+				.increment();
+	}
+
+	public void deadLettered(String topic) {
+		this.deadLettered.computeIfAbsent(topic, t -> Counter.builder(this.prefix + "_outbox_dead_lettered_total")
+				.description("Outbox events moved to the dead letter topic after exhausting retries")
+				.tag("topic", t)
+				.register(this.meterRegistry))
+				.increment();
+	}
+
+	public void purged(long count) {
+		this.purged.increment(count);
+	}
+
+	public void backlog(long pendingCount, long lag) {
+		this.pending.set(pendingCount);
+		this.lagSeconds.set(lag);
+	}
+}
@@ -0,0 +1,41 @@
+package com.hospital.platform.outbox;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+/**
+ * Settings of one service's outbox. Each service binds its own instance under
+ * its prefix, e.g. {@code billing.outbox}.
+ */
+@Data
+public class OutboxProperties {
+
+	/** Table holding the events, laid out as in {@code db/outbox-schema.sql}. */
+	private String table = "outbox_events";
+
+	/** Pause between relay runs once the table has been drained. */
+	private Duration pollInterval = Duration.ofMillis(200);
+
+	private int batchSize = 200;
+
+	/** Sends a batch may have outstanding at once. */
+	private int maxInFlight = 50;
+
+	/** Failed attempts after which an event is marked FAILED and dead-lettered. */
+	private int maxAttempts = 5;
+
+	/** How long a batch waits for acknowledgements before counting the rest as failed. */
+	private Duration sendTimeout = Duration.ofSeconds(10);
+
+	/** How often the pending count and lag gauges are recomputed. */
+	private Duration backlogRefreshInterval = Duration.ofSeconds(5);
+
+	/** How long PUBLISHED rows are kept before the purge deletes them. */
+	private Duration retention = Duration.ofDays(7);
+
+	private Duration purgeInterval = Duration.ofMinutes(1);
+
+	/** Rows deleted per purge statement, so no single delete holds locks for long. */
+	private int purgeBatchSize = 1000;
+}
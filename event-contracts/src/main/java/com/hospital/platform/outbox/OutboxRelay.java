@@ -0,0 +1,226 @@
+package com.hospital.platform.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.hospital.platform.events.EventContracts;
+import com.hospital.platform.kafka.ProfiledKafkaTemplates;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains an outbox table to Kafka. Each batch is locked with SKIP LOCKED, sent
+ * asynchronously with at most {@code max-in-flight} outstanding sends, and
+ * committed once every send in the batch has been acknowledged or given up on.
+ * Failed events are retried with exponential backoff and, after
+ * {@code max-attempts}, marked FAILED and sent to {@code <topic>.dlt}. A FAILED
+ * row keeps its payload, so an event whose DLT send also fails can still be
+ * replayed from the table.
+ * <p>
+ * Registers itself with the service's scheduler, so the service only needs
+ * {@code @EnableScheduling} and a bean of this class. Besides the relay loop
+ * it schedules the backlog gauge refresh, which counts the pending rows and so
+ * runs on its own slower interval, and the purge of PUBLISHED rows older than
+ * {@code retention}.
+ */
+@Slf4j
+public class OutboxRelay implements SchedulingConfigurer {
+
+	private static final String DEAD_LETTER_SUFFIX = ".dlt";
+	private static final long MAX_BACKOFF_SECONDS = 300;
+	private static final int MAX_ERROR_LENGTH = 1000;
+
+	private final OutboxDao outboxDao;
+	private final ProfiledKafkaTemplates kafkaTemplates;
+	private final Map<String, ObjectReader> payloadReaders = new HashMap<>();
+	private final TransactionTemplate transactionTemplate;
+	private final OutboxMetrics metrics;
+	private final OutboxProperties properties;
+	private final Semaphore inFlight;
+
+	/**
+	 * @param payloadTypes the event records this service writes to the outbox;
+	 *                     rows are matched to them by simple class name
+	 */
+	public OutboxRelay(OutboxDao outboxDao, ProfiledKafkaTemplates kafkaTemplates, EventContracts eventContracts,
+			Collection<Class<?>> payloadTypes, PlatformTransactionManager transactionManager, OutboxMetrics metrics,
+			OutboxProperties properties) {
+		this.outboxDao = outboxDao;
+		this.kafkaTemplates = kafkaTemplates;
+		payloadTypes.forEach(type -> this.payloadReaders.put(type.getSimpleName(), eventContracts.jsonReader(type)));
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.metrics = metrics;
+		this.properties = properties;
+		this.inFlight = new Semaphore(properties.getMaxInFlight());
+	}
+
+	@Override
+	public void configureTasks(ScheduledTaskRegistrar registrar) {
+		registrar.addFixedDelayTask(this::relayPendingEvents, this.properties.getPollInterval());
+		registrar.addFixedDelayTask(this::refreshBacklogGauges, this.properties.getBacklogRefreshInterval());
+		registrar.addFixedDelayTask(this::purgePublishedEvents, this.properties.getPurgeInterval());
+	}
+
+	public void relayPendingEvents() {
+		int relayed;
+		do {
+			relayed = this.transactionTemplate.execute(status -> relayBatch());
+		} while (relayed == this.properties.getBatchSize());
+	}
+
+	public void purgePublishedEvents() {
+		LocalDateTime cutoff = LocalDateTime.now().minus(this.properties.getRetention());
+		int batchSize = this.properties.getPurgeBatchSize();
+		long purged = 0;
+		try {
+			int deleted;
+			do {
+				deleted = this.outboxDao.purgePublished(cutoff, batchSize);
+				purged += deleted;
+			} while (deleted == batchSize);
+		} catch (Exception ex) {
+			log.warn("Outbox purge stopped after {} rows: {}", purged, ex.getMessage());
+		}
+
+		if (purged > 0) {
+			this.metrics.purged(purged);
+			log.info("Purged {} published outbox events older than {}", purged, cutoff);
+		}
+	}
+
+	private int relayBatch() {
+		List<OutboxEvent> batch = this.outboxDao.lockNextBatch(this.properties.getBatchSize());
+		if (batch.isEmpty()) {
+			return 0;
+		}
+
+		Timer.Sample sample = Timer.start();
+
+		List<CompletableFuture<?>> sends = new ArrayList<>(batch.size());
+		for (OutboxEvent event : batch) {
+			sends.add(send(event));
+		}
+
+		Duration sendTimeout = this.properties.getSendTimeout();
+		long deadline = System.nanoTime() + sendTimeout.toNanos();
+		List<Long> publishedIds = new ArrayList<>(batch.size());
+		for (int i = 0; i < batch.size(); i++) {
+			OutboxEvent event = batch.get(i);
+			try {
+				sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				publishedIds.add(event.id());
+			} catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+				recordFailure(event, ie);
+			} catch (TimeoutException te) {
+				recordFailure(event, new TimeoutException("Kafka publish timeout after " + sendTimeout));
+			} catch (Exception ex) {
+				recordFailure(event, ex.getCause() != null ? ex.getCause() : ex);
+			}
+		}
+
+		this.outboxDao.markPublished(publishedIds, LocalDateTime.now());
+		this.metrics.batchRelayed(batch.size(), publishedIds.size(), sample);
+
+		log.debug("Relayed outbox batch: {} published, {} failed", publishedIds.size(), batch.size() - publishedIds.size());
+		return batch.size();
+	}
+
+	private CompletableFuture<?> send(OutboxEvent event) {
+		try {
+			this.inFlight.acquire();
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+			return CompletableFuture.failedFuture(ie);
+		}
+
+		Timer.Sample sample = Timer.start();
+		try {
+			return this.kafkaTemplates.forTopic(event.topic())
+					.send(event.topic(), event.eventKey(), readPayload(event))
+					.whenComplete((result, ex) -> {
+						this.inFlight.release();
+						sample.stop(this.metrics.publishTimer(event.topic()));
+					});
+		} catch (Exception ex) {
+			this.inFlight.release();
+			return CompletableFuture.failedFuture(ex);
+		}
+	}
+
+	private void recordFailure(OutboxEvent event, Throwable cause) {
+		this.metrics.sendFailed(event.topic());
+
+		int attempts = event.attempts() + 1;
+		String lastError = truncate(String.valueOf(cause.getMessage()));
+
+		if (attempts >= this.properties.getMaxAttempts()) {
+			log.error("Outbox event {} for {} failed after {} attempts", event.id(), event.eventKey(), attempts, cause);
+			this.outboxDao.markFailed(event.id(), attempts, lastError);
+			deadLetter(event, lastError);
+			return;
+		}
+
+		long backoffSeconds = Math.min(MAX_BACKOFF_SECONDS, 1L << attempts);
+		this.outboxDao.scheduleRetry(event.id(), attempts, lastError, LocalDateTime.now().plusSeconds(backoffSeconds));
+		log.warn("Outbox event {} for {} failed (attempt {}), retrying in {}s: {}",
+				event.id(), event.eventKey(), attempts, backoffSeconds, cause.getMessage());
+	}
+
+	private void deadLetter(OutboxEvent event, String reason) {
+		String deadLetterTopic = event.topic() + DEAD_LETTER_SUFFIX;
+		try {
+			this.kafkaTemplates.forTopic(deadLetterTopic).send(deadLetterTopic, event.eventKey(), readPayload(event))
+					.whenComplete((result, ex) -> {
+						if (ex != null) {
+							log.error("DLT publish ALSO FAILED for {}", event.eventKey(), ex);
+						} else {
+							this.metrics.deadLettered(event.topic());
+							log.error("Sent event to DLT {}: {} due to {}", deadLetterTopic, event.eventKey(), reason);
+						}
+					});
+		} catch (Exception ex) {
+			log.error("Could not dead-letter outbox event {}", event.id(), ex);
+		}
+	}
+
+	private Object readPayload(OutboxEvent event) throws Exception {
+		ObjectReader reader = this.payloadReaders.get(event.eventType());
+		if (reader == null) {
+			throw new IllegalStateException("No reader for outbox event type " + event.eventType());
+		}
+		return reader.readValue(event.payload());
+	}
+
+	public void refreshBacklogGauges() {
+		try {
+			OutboxDao.Backlog backlog = this.outboxDao.backlog();
+			long lagSeconds = backlog.oldestCreatedAt()
+					.map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()))
+					.orElse(0L);
+			this.metrics.backlog(backlog.pending(), lagSeconds);
+		} catch (Exception ex) {
+			log.warn("Could not refresh outbox backlog metrics: {}", ex.getMessage());
+		}
+	}
+
+	private static String truncate(String message) {
+		return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+	}
+}
@@ -0,0 +1,45 @@
+package com.hospital.platform.outbox;
+
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hospital.platform.events.EventContracts;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records events in the outbox table as part of the caller's transaction, so
+ * an event exists if and only if the change that produced it committed.
+ * Publishing to Kafka is left to {@link OutboxRelay}.
+ */
+@Slf4j
+public class OutboxWriter {
+
+	private final OutboxDao outboxDao;
+	private final ObjectWriter jsonWriter;
+
+	public OutboxWriter(OutboxDao outboxDao, EventContracts eventContracts) {
+		this.outboxDao = outboxDao;
+		this.jsonWriter = eventContracts.jsonWriter();
+	}
+
+	public void enqueue(String topic, String key, Object event) {
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			throw new IllegalTransactionStateException("Outbox events must be written in the transaction of their change");
+		}
+
+		String eventType = event.getClass().getSimpleName();
+		this.outboxDao.insert(topic, key, eventType, toJson(event));
+		log.debug("Queued {} for topic {} with key {}", eventType, topic, key);
+	}
+
+	private String toJson(Object event) {
+		try {
+			return this.jsonWriter.writeValueAsString(event);
+		} catch (JsonProcessingException ex) {
+			throw new IllegalArgumentException("Failed to serialize " + event.getClass().getSimpleName() + " for the outbox", ex);
+		}
+	}
+}
@@ -0,0 +1,23 @@
+-- Outbox table drained by com.hospital.platform.outbox.OutboxRelay. Listed in a service's
+-- spring.sql.init.schema-locations; statements are separated by ';;' like the services' scripts and
+-- indexes are built CONCURRENTLY, since the table may already hold rows.
+-- A service that configures another table name creates that table itself.
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    event_key VARCHAR(100) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP
+);;
+
+-- Keeps the relay's batch lookup cheap once published rows accumulate
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_outbox_pending ON outbox_events (next_attempt_at, id) WHERE status = 'PENDING';;
+
+-- Lets the retention purge find old published rows without scanning the table
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_outbox_published ON outbox_events (published_at) WHERE status = 'PUBLISHED';;
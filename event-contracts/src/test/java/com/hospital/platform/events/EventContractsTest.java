@@ -0,0 +1,239 @@
+package com.hospital.platform.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.Test;
+
+import com.hospital.platform.events.codec.EventCodec;
+
+class EventContractsTest {
+
+	// Timestamps travel as epoch milliseconds
+	private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+	private final EventContracts contracts = new EventContracts();
+
+	@Test
+	void appointmentBookedRoundTrips() {
+		AppointmentBookedEvent event = AppointmentBookedEvent.builder()
+				.eventId("evt-1")
+				.appointmentNumber("APT-2026-0A8KK85QM0W00")
+				.appointmentId(42L)
+				.patientId(7L)
+				.patientName("Asha Rao")
+				.doctorId(3L)
+				.doctorName("Dr. Mehta")
+				.department("Cardiology")
+				.appointmentTime(NOW.plusDays(2))
+				.consultationFee(new BigDecimal("750.00"))
+				.reasonForVisit("Follow-up — ECG review")
+				.eventTimestamp(NOW)
+				.createdBy("reception")
+				.build();
+
+		assertThat(roundTrip(this.contracts.appointmentBooked(), event)).isEqualTo(event);
+	}
+
+	@Test
+	void billGeneratedRoundTrips() {
+		BillGeneratedEvent event = BillGeneratedEvent.builder()
+				.eventId("evt-2")
+				.billNumber("BILL-2026-0A8KK85QM0W01")
+				.billId(Long.MAX_VALUE)
+				.appointmentId(42L)
+				.patientId(7L)
+				.totalAmount(new BigDecimal("12345678.90"))
+				.eventTimestamp(NOW)
+				.build();
+
+		assertThat(roundTrip(this.contracts.billGenerated(), event)).isEqualTo(event);
+	}
+
+	@Test
+	void paymentCompletedRoundTrips() {
+		PaymentCompletedEvent event = PaymentCompletedEvent.builder()
+				.eventId("evt-3")
+				.paymentReference("PAY-1")
+				.billId(11L)
+				.billNumber("BILL-2026-0A8KK85QM0W01")
+				.amount(new BigDecimal("0.01"))
+				.paymentMethod("CARD")
+				.eventTimestamp(NOW)
+				.build();
+
+		assertThat(roundTrip(this.contracts.paymentCompleted(), event)).isEqualTo(event);
+	}
+
+	@Test
+	void paymentFailedRoundTrips() {
+		PaymentFailedEvent event = PaymentFailedEvent.builder()
+				.eventId("evt-4")
+				.billId(11L)
+				.amount(new BigDecimal("-5.25"))
+				.reason("Card declined")
+				.eventTimestamp(NOW)
+				.build();
+
+		assertThat(roundTrip(this.contracts.paymentFailed(), event)).isEqualTo(event);
+	}
+
+	@Test
+	void nullableFieldsRoundTripAsNull() {
+		AppointmentBookedEvent event = AppointmentBookedEvent.builder()
+				.eventId("evt-5")
+				.appointmentNumber("APT-2026-0A8KK85QM0W02")
+				.appointmentId(43L)
+				.patientId(8L)
+				.consultationFee(new BigDecimal("500.00"))
+				.eventTimestamp(NOW)
+				.build();
+
+		AppointmentBookedEvent decoded = roundTrip(this.contracts.appointmentBooked(), event);
+
+		assertThat(decoded).isEqualTo(event);
+		assertThat(decoded.patientName()).isNull();
+		assertThat(decoded.appointmentTime()).isNull();
+	}
+
+	@Test
+	void requiredFieldMustNotBeNull() {
+		PaymentFailedEvent event = PaymentFailedEvent.builder()
+				.eventId("evt-6")
+				.billId(11L)
+				.eventTimestamp(NOW)
+				.build();
+
+		assertThatThrownBy(() -> this.contracts.paymentFailed().encode(event))
+				.isInstanceOf(SerializationException.class)
+				.hasMessageContaining("payment.failed.amount");
+	}
+
+	@Test
+	void decimalsAreWrittenAtTheSchemaScale() {
+		BillGeneratedEvent event = BillGeneratedEvent.builder()
+				.eventId("evt-7")
+				.billNumber("BILL-1")
+				.billId(1L)
+				.appointmentId(1L)
+				.patientId(1L)
+				.totalAmount(new BigDecimal("99.5"))
+				.eventTimestamp(NOW)
+				.build();
+
+		BigDecimal decoded = roundTrip(this.contracts.billGenerated(), event).totalAmount();
+
+		assertThat(decoded).isEqualTo(new BigDecimal("99.50"));
+		assertThat(decoded.scale()).isEqualTo(2);
+	}
+
+	@Test
+	void decimalThatWouldLoseDigitsIsRejected() {
+		BillGeneratedEvent event = BillGeneratedEvent.builder()
+				.eventId("evt-8")
+				.billNumber("BILL-1")
+				.billId(1L)
+				.appointmentId(1L)
+				.patientId(1L)
+				.totalAmount(new BigDecimal("99.995"))
+				.eventTimestamp(NOW)
+				.build();
+
+		assertThatThrownBy(() -> this.contracts.billGenerated().encode(event))
+				.isInstanceOf(SerializationException.class)
+				.hasMessageContaining("bill.generated.totalAmount");
+	}
+
+	@Test
+	void deserializerPicksTheCodecFromTheSchemaId() {
+		Serializer<Object> serializer = this.contracts.serializer();
+		Deserializer<Object> deserializer = this.contracts.deserializer(Object.class);
+		PaymentFailedEvent failed = PaymentFailedEvent.builder()
+				.eventId("evt-9")
+				.billId(12L)
+				.amount(new BigDecimal("10.00"))
+				.eventTimestamp(NOW)
+				.build();
+
+		assertThat(deserializer.deserialize("payments", serializer.serialize("payments", failed))).isEqualTo(failed);
+	}
+
+	@Test
+	void deserializerReadsLegacyJson() {
+		String json = """
+				{"eventId":"evt-10","billNumber":"BILL-2","billId":5,"appointmentId":6,"patientId":7,
+				 "totalAmount":250.00,"eventTimestamp":"2026-03-01T10:15:30","legacyOnly":"ignored"}
+				""";
+
+		BillGeneratedEvent event = this.contracts.deserializer(BillGeneratedEvent.class)
+				.deserialize("bill.generated", json.getBytes(StandardCharsets.UTF_8));
+
+		assertThat(event.billId()).isEqualTo(5L);
+		assertThat(event.totalAmount()).isEqualByComparingTo("250.00");
+		assertThat(event.eventTimestamp()).isEqualTo(LocalDateTime.of(2026, 3, 1, 10, 15, 30));
+	}
+
+	@Test
+	void deserializerWithoutLegacyReaderRejectsJson() {
+		byte[] json = "{\"eventId\":\"evt-11\"}".getBytes(StandardCharsets.UTF_8);
+
+		assertThatThrownBy(() -> this.contracts.deserializer(Object.class).deserialize("mixed", json))
+				.isInstanceOf(SerializationException.class)
+				.hasMessageContaining("Unrecognised payload format");
+	}
+
+	@Test
+	void deserializerRejectsAnotherEventType() {
+		byte[] payload = this.contracts.paymentFailed().encode(PaymentFailedEvent.builder()
+				.eventId("evt-12")
+				.billId(12L)
+				.amount(new BigDecimal("10.00"))
+				.eventTimestamp(NOW)
+				.build());
+
+		assertThatThrownBy(() -> this.contracts.deserializer(PaymentCompletedEvent.class).deserialize("payments", payload))
+				.isInstanceOf(SerializationException.class)
+				.hasMessageContaining("expected PaymentCompletedEvent");
+	}
+
+	@Test
+	void unknownSchemaIdIsRejected() {
+		byte[] payload = ByteBuffer.allocate(6).put(EventCodec.MAGIC_BYTE).putInt(999).put((byte) 0).array();
+
+		assertThatThrownBy(() -> this.contracts.deserializer(Object.class).deserialize("mixed", payload))
+				.isInstanceOf(SerializationException.class)
+				.hasMessageContaining("Unknown event schema id 999");
+		assertThatThrownBy(() -> this.contracts.appointmentBooked().decode(payload))
+				.isInstanceOf(SerializationException.class)
+				.hasMessageContaining("Unknown event schema id 999");
+	}
+
+	@Test
+	void schemaIdOfAnotherSubjectIsRejectedByACodec() {
+		byte[] payload = this.contracts.paymentFailed().encode(PaymentFailedEvent.builder()
+				.eventId("evt-13")
+				.billId(12L)
+				.amount(new BigDecimal("10.00"))
+				.eventTimestamp(NOW)
+				.build());
+
+		assertThatThrownBy(() -> this.contracts.billGenerated().decode(payload))
+				.isInstanceOf(SerializationException.class)
+				.hasMessageContaining("belongs to payment.failed");
+	}
+
+	private static <T> T roundTrip(EventCodec<T> codec, T event) {
+		byte[] payload = codec.encode(event);
+		assertThat(EventCodec.schemaId(payload)).isEqualTo(codec.schema().id());
+		return codec.decode(payload);
+	}
+}
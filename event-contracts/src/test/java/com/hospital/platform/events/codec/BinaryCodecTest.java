@@ -0,0 +1,107 @@
+package com.hospital.platform.events.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+class BinaryCodecTest {
+
+	@Test
+	void longsUseZigZagVarints() {
+		long[] values = { 0, -1, 1, 63, -64, 64, Integer.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE };
+		BinaryWriter writer = new BinaryWriter(1);
+		for (long value : values) {
+			writer.writeLong(value);
+		}
+
+		BinaryReader reader = new BinaryReader(writer.toByteArray());
+		for (long value : values) {
+			assertThat(reader.readLong()).isEqualTo(value);
+		}
+	}
+
+	@Test
+	void smallLongsTakeOneByte() {
+		BinaryWriter writer = new BinaryWriter(16);
+		writer.writeLong(-1);
+		writer.writeLong(63);
+
+		// Avro zig-zag: -1 -> 1, 63 -> 126
+		assertThat(writer.toByteArray()).containsExactly(1, 126);
+	}
+
+	@Test
+	void stringsAreLengthPrefixedUtf8() {
+		BinaryWriter writer = new BinaryWriter(4);
+		writer.writeString("");
+		writer.writeString("Zoë — 診察");
+
+		BinaryReader reader = new BinaryReader(writer.toByteArray());
+		assertThat(reader.readString()).isEmpty();
+		assertThat(reader.readString()).isEqualTo("Zoë — 診察");
+	}
+
+	@Test
+	void decimalsKeepTheSchemaScale() {
+		BinaryWriter writer = new BinaryWriter(16);
+		writer.writeDecimal(new BigDecimal("7"), 2);
+		writer.writeDecimal(new BigDecimal("-1234.5"), 2);
+		writer.writeDecimal(new BigDecimal("0.10"), 3);
+
+		BinaryReader reader = new BinaryReader(writer.toByteArray());
+		assertThat(reader.readDecimal(2)).isEqualTo(new BigDecimal("7.00"));
+		assertThat(reader.readDecimal(2)).isEqualTo(new BigDecimal("-1234.50"));
+		assertThat(reader.readDecimal(3)).isEqualTo(new BigDecimal("0.100"));
+	}
+
+	@Test
+	void decimalWithMoreDigitsThanTheScaleIsRejected() {
+		BinaryWriter writer = new BinaryWriter(16);
+
+		assertThatThrownBy(() -> writer.writeDecimal(new BigDecimal("1.005"), 2))
+				.isInstanceOf(ArithmeticException.class);
+	}
+
+	@Test
+	void timestampsKeepMilliseconds() {
+		LocalDateTime time = LocalDateTime.of(2026, 10, 17, 9, 30, 15, 123_000_000);
+		BinaryWriter writer = new BinaryWriter(16);
+		writer.writeTimestamp(time);
+
+		assertThat(new BinaryReader(writer.toByteArray()).readTimestamp()).isEqualTo(time);
+	}
+
+	@Test
+	void skipBytesMovesPastAValue() {
+		BinaryWriter writer = new BinaryWriter(16);
+		writer.writeString("skipped");
+		writer.writeLong(42);
+
+		BinaryReader reader = new BinaryReader(writer.toByteArray());
+		reader.skipBytes();
+		assertThat(reader.readLong()).isEqualTo(42);
+	}
+
+	@Test
+	void truncatedInputIsASerializationError() {
+		BinaryWriter writer = new BinaryWriter(16);
+		writer.writeString("truncated");
+		byte[] data = writer.toByteArray();
+		byte[] truncated = Arrays.copyOf(data, data.length - 1);
+
+		assertThatThrownBy(() -> new BinaryReader(truncated).readString())
+				.isInstanceOf(SerializationException.class)
+				.hasMessageContaining("Invalid length");
+		assertThatThrownBy(() -> new BinaryReader(new byte[] { (byte) 0x80 }).readLong())
+				.isInstanceOf(SerializationException.class)
+				.hasMessageContaining("Unexpected end");
+		assertThatThrownBy(() -> new BinaryReader(new byte[] { 0, 0 }).readFixedInt())
+				.isInstanceOf(SerializationException.class);
+	}
+}
@@ -0,0 +1,106 @@
+package com.hospital.platform.events.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.hospital.platform.events.EventContracts;
+import com.hospital.platform.events.codec.EventSchema.Type;
+
+class FileSchemaRegistryTest {
+
+	@TempDir
+	Path schemas;
+
+	@Test
+	void loadsTheBundledSchemas() {
+		FileSchemaRegistry registry = new FileSchemaRegistry(EventContracts.DEFAULT_SCHEMA_LOCATION);
+
+		EventSchema paymentFailed = registry.latest("payment.failed");
+		assertThat(registry.byId(paymentFailed.id())).isSameAs(paymentFailed);
+		assertThat(paymentFailed.field("amount")).isEqualTo(new EventSchema.Field("amount", Type.DECIMAL, false, 2));
+		assertThat(paymentFailed.field("reason")).isEqualTo(new EventSchema.Field("reason", Type.STRING, true, 0));
+	}
+
+	@Test
+	void latestIsTheHighestVersion() throws IOException {
+		write("sample-v1.avsc", schema(10, 1));
+		write("sample-v2.avsc", schema(11, 2));
+
+		FileSchemaRegistry registry = new FileSchemaRegistry(location());
+
+		assertThat(registry.latest("sample").version()).isEqualTo(2);
+		assertThat(registry.byId(10).version()).isEqualTo(1);
+	}
+
+	@Test
+	void unknownSchemaIdIsASerializationError() throws IOException {
+		write("sample-v1.avsc", schema(10, 1));
+
+		FileSchemaRegistry registry = new FileSchemaRegistry(location());
+
+		assertThatThrownBy(() -> registry.byId(12))
+				.isInstanceOf(SerializationException.class)
+				.hasMessage("Unknown event schema id 12");
+		assertThatThrownBy(() -> registry.latest("other"))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void schemaIdsMustBeUnique() throws IOException {
+		write("sample-v1.avsc", schema(10, 1));
+		write("sample-v2.avsc", schema(10, 2));
+
+		assertThatThrownBy(() -> new FileSchemaRegistry(location()))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("Schema id 10 is used by both");
+	}
+
+	@Test
+	void versionsMustBeUnique() throws IOException {
+		write("sample-v1.avsc", schema(10, 1));
+		write("sample-v1-copy.avsc", schema(11, 1));
+
+		assertThatThrownBy(() -> new FileSchemaRegistry(location()))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("Duplicate version 1 for sample");
+	}
+
+	@Test
+	void emptyLocationIsRejected() {
+		assertThatThrownBy(() -> new FileSchemaRegistry(location()))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("No event schemas found");
+	}
+
+	private String location() {
+		return this.schemas.toUri().toString();
+	}
+
+	private void write(String name, String content) throws IOException {
+		Files.writeString(this.schemas.resolve(name), content);
+	}
+
+	private static String schema(int id, int version) {
+		return """
+				{
+				  "type": "record",
+				  "name": "SampleEvent",
+				  "schemaId": %d,
+				  "subject": "sample",
+				  "version": %d,
+				  "fields": [
+				    { "name": "eventId", "type": "string" },
+				    { "name": "note", "type": ["null", "string"], "default": null }
+				  ]
+				}
+				""".formatted(id, version);
+	}
+}
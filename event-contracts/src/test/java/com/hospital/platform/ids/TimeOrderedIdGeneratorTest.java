@@ -0,0 +1,82 @@
+package com.hospital.platform.ids;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedIdGeneratorTest {
+
+	private static final int THREADS_PER_GENERATOR = 4;
+	private static final int IDS_PER_THREAD = 50_000;
+
+	@Test
+	void concurrentIdsFromTwoNodesAreUniqueAndIncreasePerThread() throws Exception {
+		List<TimeOrderedIdGenerator> generators = List.of(new TimeOrderedIdGenerator(1), new TimeOrderedIdGenerator(2));
+
+		ExecutorService executor = Executors.newFixedThreadPool(generators.size() * THREADS_PER_GENERATOR);
+		List<long[]> issued = new ArrayList<>();
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<long[]>> futures = new ArrayList<>();
+			for (TimeOrderedIdGenerator generator : generators) {
+				for (int t = 0; t < THREADS_PER_GENERATOR; t++) {
+					futures.add(executor.submit(() -> {
+						start.await();
+						long[] ids = new long[IDS_PER_THREAD];
+						for (int i = 0; i < ids.length; i++) {
+							ids[i] = generator.nextId();
+						}
+						return ids;
+					}));
+				}
+			}
+			start.countDown();
+			for (Future<long[]> future : futures) {
+				issued.add(future.get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		Set<Long> unique = new HashSet<>();
+		for (long[] ids : issued) {
+			for (int i = 0; i < ids.length; i++) {
+				assertThat(unique.add(ids[i])).as("id %d issued twice", ids[i]).isTrue();
+				if (i > 0) {
+					assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+				}
+			}
+		}
+		assertThat(unique).hasSize(generators.size() * THREADS_PER_GENERATOR * IDS_PER_THREAD);
+	}
+
+	@Test
+	void idsCarryTheirNodeIdAndIssueTime() {
+		long before = System.currentTimeMillis();
+		long id = new TimeOrderedIdGenerator(2).nextId();
+
+		assertThat(TimeOrderedIdGenerator.nodeId(id)).isEqualTo(2);
+		assertThat(TimeOrderedIdGenerator.timestampMillis(id)).isGreaterThanOrEqualTo(before);
+	}
+
+	@Test
+	void referencesSortInIssueOrder() {
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1);
+
+		String previous = generator.nextReference("PAY");
+		for (int i = 0; i < 10_000; i++) {
+			String next = generator.nextReference("PAY");
+			assertThat(next).startsWith("PAY-").isGreaterThan(previous);
+			previous = next;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+// Clinic-opening booking storm: arrivals ramp well past what the database pool can serve, all
+// aimed at the first hours of tomorrow for a handful of doctors. Admission control should shed
+// the excess with 503 + Retry-After while admitted bookings stay fast, e.g.
+//   k6 run -e PEAK_RATE=1500 -e DOCTORS=20 load-test/k6/booking-storm.js
+// Watch appointment_booking_concurrency_limit and appointment_bookings_shed_total meanwhile.
+
+import http from 'k6/http';
+import crypto from 'k6/crypto';
+import encoding from 'k6/encoding';
+import { check } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+const APPOINTMENT_URL = __ENV.APPOINTMENT_URL || 'http://localhost:8082';
+const JWT_SECRET = __ENV.JWT_SECRET || 'my-super-secure-jwt-secret-key-256-bit-long!!';
+const PEAK_RATE = Number(__ENV.PEAK_RATE || 1500);
+const DOCTORS = Number(__ENV.DOCTORS || 20);
+const SLOTS = 20;
+
+const booked = new Counter('storm_booked');
+const conflicts = new Counter('storm_conflicts');
+const shed = new Counter('storm_shed');
+const shedDuration = new Trend('storm_shed_duration', true);
+const admittedDuration = new Trend('storm_admitted_duration', true);
+
+export const options = {
+	scenarios: {
+		storm: {
+			executor: 'ramping-arrival-rate',
+			startRate: 10,
+			timeUnit: '1s',
+			stages: [
+				{ target: PEAK_RATE, duration: '20s' },
+				{ target: PEAK_RATE, duration: '40s' },
+				{ target: 10, duration: '10s' },
+			],
+			preAllocatedVUs: 200,
+			maxVUs: 2000,
+		},
+	},
+	thresholds: {
+		checks: ['rate==1.0'],
+		// Shed requests must be cheap, and admitted ones must not queue behind the storm
+		storm_shed_duration: ['p(95)<50'],
+		storm_admitted_duration: ['p(95)<1000'],
+	},
+};
+
+function base64url(text) {
+	return encoding.b64encode(text, 'rawurl');
+}
+
+function token() {
+	const now = Math.floor(Date.now() / 1000);
+	const header = base64url(JSON.stringify({ alg: 'HS256', typ: 'JWT' }));
+	const payload = base64url(JSON.stringify({
+		sub: 'load-test',
+		roles: ['ROLE_ADMIN', 'ROLE_RECEPTIONIST'],
+		iat: now,
+		exp: now + 3600,
+	}));
+	const signature = crypto.hmac('sha256', JWT_SECRET, `${header}.${payload}`, 'base64rawurl');
+	return `${header}.${payload}.${signature}`;
+}
+
+export function setup() {
+	return { runId: Date.now() };
+}
+
+export default function (data) {
+	const tomorrow = new Date(Date.now() + 86400000).toISOString().substring(0, 10);
+	const slot = Math.floor(Math.random() * SLOTS);
+	const time = `${String(8 + Math.floor(slot / 2)).padStart(2, '0')}:${slot % 2 === 0 ? '00' : '30'}:00`;
+
+	// 201: booked; 409: someone else got the slot; 503: shed by admission control
+	const response = http.post(`${APPOINTMENT_URL}/api/v1/appointments`, JSON.stringify({
+		patientId: 1,
+		patientName: 'Storm Patient',
+		// Doctor ids are offset per run so repeated runs start from empty schedules
+		doctorId: data.runId * 1000 + Math.floor(Math.random() * DOCTORS),
+		doctorName: 'Dr. Storm',
+		department: 'General',
+		appointmentTime: `${tomorrow}T${time}`,
+		durationMinutes: 30,
+		consultationFee: 500.00,
+	}), {
+		headers: { Authorization: `Bearer ${token()}`, 'Content-Type': 'application/json' },
+		responseCallback: http.expectedStatuses(201, 409, 503),
+	});
+
+	check(response, {
+		'booked, conflicting or shed': r => [201, 409, 503].includes(r.status),
+		'shed responses carry Retry-After': r => r.status !== 503 || Number(r.headers['Retry-After']) >= 1,
+	});
+
+	if (response.status === 503) {
+		shed.add(1);
+		shedDuration.add(response.timings.duration);
+		return;
+	}
+	admittedDuration.add(response.timings.duration);
+	if (response.status === 201) {
+		booked.add(1);
+	} else {
+		conflicts.add(1);
+	}
+}
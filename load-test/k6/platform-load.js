@@ -0,0 +1,141 @@
+// Mixed read/write load across the three services at a fixed arrival rate.
+// Run once per thread mode and compare the exported summaries, e.g.
+//   VIRTUAL_THREADS_ENABLED=false docker compose up -d
+//   k6 run -e MODE=platform --summary-export=platform.json load-test/k6/platform-load.js
+//   VIRTUAL_THREADS_ENABLED=true docker compose up -d --force-recreate patient-service appointment-service billing-service
+//   k6 run -e MODE=virtual --summary-export=virtual.json load-test/k6/platform-load.js
+
+import http from 'k6/http';
+import crypto from 'k6/crypto';
+import encoding from 'k6/encoding';
+import { check } from 'k6';
+
+const PATIENT_URL = __ENV.PATIENT_URL || 'http://localhost:8081';
+const APPOINTMENT_URL = __ENV.APPOINTMENT_URL || 'http://localhost:8082';
+const BILLING_URL = __ENV.BILLING_URL || 'http://localhost:8083';
+const JWT_SECRET = __ENV.JWT_SECRET || 'my-super-secure-jwt-secret-key-256-bit-long!!';
+const RATE = Number(__ENV.RATE || 300);
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+	tags: { mode: __ENV.MODE || 'unspecified' },
+	scenarios: {
+		patientLookups: {
+			executor: 'constant-arrival-rate',
+			exec: 'lookupPatient',
+			rate: RATE,
+			timeUnit: '1s',
+			duration: DURATION,
+			preAllocatedVUs: 100,
+			maxVUs: 1000,
+		},
+		bookings: {
+			executor: 'constant-arrival-rate',
+			exec: 'bookAppointment',
+			rate: Math.ceil(RATE / 3),
+			timeUnit: '1s',
+			duration: DURATION,
+			preAllocatedVUs: 100,
+			maxVUs: 1000,
+		},
+		payments: {
+			executor: 'constant-arrival-rate',
+			exec: 'billAndPay',
+			rate: Math.ceil(RATE / 3),
+			timeUnit: '1s',
+			duration: DURATION,
+			preAllocatedVUs: 100,
+			maxVUs: 1000,
+		},
+	},
+	thresholds: {
+		http_req_failed: ['rate<0.01'],
+		'http_req_duration{scenario:patientLookups}': ['p(95)<200'],
+		'http_req_duration{scenario:bookings}': ['p(95)<500'],
+		'http_req_duration{scenario:payments}': ['p(95)<1000'],
+	},
+};
+
+function base64url(text) {
+	return encoding.b64encode(text, 'rawurl');
+}
+
+function token() {
+	const now = Math.floor(Date.now() / 1000);
+	const header = base64url(JSON.stringify({ alg: 'HS256', typ: 'JWT' }));
+	const payload = base64url(JSON.stringify({
+		sub: 'load-test',
+		roles: ['ROLE_ADMIN', 'ROLE_RECEPTIONIST'],
+		iat: now,
+		exp: now + 3600,
+	}));
+	const signature = crypto.hmac('sha256', JWT_SECRET, `${header}.${payload}`, 'base64rawurl');
+	return `${header}.${payload}.${signature}`;
+}
+
+// Unique per run, VU and iteration while staying inside Number.MAX_SAFE_INTEGER
+function uniqueId() {
+	return (Math.floor(Date.now() / 1000) % 100000) * 1e9 + __VU * 1e6 + __ITER;
+}
+
+function params() {
+	return { headers: { Authorization: `Bearer ${token()}`, 'Content-Type': 'application/json' } };
+}
+
+export function setup() {
+	const response = http.post(`${PATIENT_URL}/api/v1/patients`, JSON.stringify({
+		firstName: 'Load',
+		lastName: 'Test',
+		dateOfBirth: '1985-04-12',
+		gender: 'F',
+		mobile: '9876543210',
+	}), params());
+	// Later runs find the seed patient already registered and reuse it
+	if (response.status === 409) {
+		return { patientId: response.json('candidates.0.hospitalPatientId') };
+	}
+	check(response, { 'seed patient created': r => r.status === 201 });
+	return { patientId: response.json('hospitalPatientId') };
+}
+
+export function lookupPatient(data) {
+	const response = http.get(`${PATIENT_URL}/api/v1/patients/${data.patientId}`, params());
+	check(response, { 'patient found': r => r.status === 200 });
+}
+
+export function bookAppointment(data) {
+	const tomorrow = new Date(Date.now() + 86400000).toISOString().substring(0, 10);
+	const response = http.post(`${APPOINTMENT_URL}/api/v1/appointments`, JSON.stringify({
+		patientId: data.patientId,
+		patientName: 'Load Test',
+		// A fresh doctor per booking keeps the run free of slot conflicts
+		doctorId: uniqueId(),
+		doctorName: 'Dr. Load',
+		department: 'General',
+		appointmentTime: `${tomorrow}T09:00:00`,
+		durationMinutes: 30,
+		consultationFee: 500.00,
+	}), params());
+	check(response, { 'appointment booked': r => r.status === 201 });
+}
+
+export function billAndPay(data) {
+	const bill = http.post(`${BILLING_URL}/api/v1/bills`, JSON.stringify({
+		appointmentId: uniqueId(),
+		patientId: data.patientId,
+		patientName: 'Load Test',
+		consultationFee: 500.00,
+	}), params());
+	if (!check(bill, { 'bill created': r => r.status === 201 })) {
+		return;
+	}
+
+	// The stub gateway declines a configurable share of payments with 400 PAYMENT_FAILED
+	const payment = http.post(`${BILLING_URL}/api/v1/payments`, JSON.stringify({
+		billId: bill.json('id'),
+		amount: 500.00,
+		paymentMethod: 'UPI',
+		idempotencyKey: `load-${uniqueId()}`,
+	}), Object.assign(params(), { responseCallback: http.expectedStatuses(201, 400) }));
+	check(payment, { 'payment processed': r => r.status === 201 || r.status === 400 });
+}
@@ -0,0 +1,93 @@
+// Many split payments against one bill at the same instant. More is offered than the bill is
+// worth, so exactly SPLITS payments must be accepted and the bill must end fully paid, never
+// overpaid. Run against a fresh stack with the stub gateway's decline rate left at 0:
+//   k6 run -e SPLITS=50 -e OVERSUBSCRIBE=1.6 load-test/k6/split-payments.js
+
+import http from 'k6/http';
+import crypto from 'k6/crypto';
+import encoding from 'k6/encoding';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BILLING_URL = __ENV.BILLING_URL || 'http://localhost:8083';
+const JWT_SECRET = __ENV.JWT_SECRET || 'my-super-secure-jwt-secret-key-256-bit-long!!';
+const SPLITS = Number(__ENV.SPLITS || 50);
+const SPLIT_AMOUNT = Number(__ENV.SPLIT_AMOUNT || 10);
+const PAYMENTS = Math.ceil(SPLITS * Number(__ENV.OVERSUBSCRIBE || 1.6));
+
+const accepted = new Counter('split_payments_accepted');
+const refused = new Counter('split_payments_refused');
+
+export const options = {
+	scenarios: {
+		splitPayments: {
+			executor: 'per-vu-iterations',
+			vus: PAYMENTS,
+			iterations: 1,
+			maxDuration: '1m',
+		},
+	},
+	thresholds: {
+		checks: ['rate==1.0'],
+		split_payments_accepted: [`count==${SPLITS}`],
+		split_payments_refused: [`count==${PAYMENTS - SPLITS}`],
+	},
+};
+
+function base64url(text) {
+	return encoding.b64encode(text, 'rawurl');
+}
+
+function token() {
+	const now = Math.floor(Date.now() / 1000);
+	const header = base64url(JSON.stringify({ alg: 'HS256', typ: 'JWT' }));
+	const payload = base64url(JSON.stringify({
+		sub: 'load-test',
+		roles: ['ROLE_ADMIN', 'ROLE_RECEPTIONIST'],
+		iat: now,
+		exp: now + 3600,
+	}));
+	const signature = crypto.hmac('sha256', JWT_SECRET, `${header}.${payload}`, 'base64rawurl');
+	return `${header}.${payload}.${signature}`;
+}
+
+function params() {
+	return { headers: { Authorization: `Bearer ${token()}`, 'Content-Type': 'application/json' } };
+}
+
+export function setup() {
+	const bill = http.post(`${BILLING_URL}/api/v1/bills`, JSON.stringify({
+		appointmentId: Date.now(),
+		patientId: 1,
+		patientName: 'Split Payment',
+		consultationFee: SPLITS * SPLIT_AMOUNT,
+	}), params());
+	check(bill, { 'bill created': r => r.status === 201 });
+	return { billId: bill.json('id'), runId: Date.now() };
+}
+
+export default function (data) {
+	// 409: the rest of the bill is reserved by in-flight payments; 400: the bill is already paid
+	const payment = http.post(`${BILLING_URL}/api/v1/payments`, JSON.stringify({
+		billId: data.billId,
+		amount: SPLIT_AMOUNT,
+		paymentMethod: 'UPI',
+		idempotencyKey: `split-${data.runId}-${__VU}`,
+	}), Object.assign(params(), { responseCallback: http.expectedStatuses(201, 400, 409) }));
+
+	check(payment, { 'payment accepted or refused cleanly': r => [201, 400, 409].includes(r.status) });
+	if (payment.status === 201) {
+		accepted.add(1);
+	} else {
+		refused.add(1);
+	}
+}
+
+export function teardown(data) {
+	const bill = http.get(`${BILLING_URL}/api/v1/bills/${data.billId}`, params());
+	check(bill, {
+		'bill fully paid': r => r.json('status') === 'PAID',
+		'bill not overpaid': r => Number(r.json('paidAmount')) === SPLITS * SPLIT_AMOUNT,
+		'nothing left due': r => Number(r.json('dueAmount')) === 0,
+	});
+}
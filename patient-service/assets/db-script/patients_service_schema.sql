@@ -12,8 +12,28 @@ CREATE TABLE patients (
     mobile VARCHAR(15) NOT NULL,
     address TEXT,
     emergency_mobile VARCHAR(15),
+    identity_key BIGINT,
     is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
     created_on TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_on TIMESTAMP
 );
 	CREATE INDEX idx_hospital_patient_id ON patients(hospital_patient_id);
+
+-- Patient search (also applied at startup from src/main/resources/db/patient-indexes.sql)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_patients_mobile_prefix ON patients ((mobile COLLATE "C")) WHERE is_deleted = FALSE;
+CREATE INDEX idx_patients_first_name_prefix ON patients ((lower(first_name) COLLATE "C")) WHERE is_deleted = FALSE;
+CREATE INDEX idx_patients_last_name_prefix ON patients ((lower(last_name) COLLATE "C")) WHERE is_deleted = FALSE;
+CREATE INDEX idx_patients_mobile_trgm ON patients USING gin (mobile gin_trgm_ops) WHERE is_deleted = FALSE;
+CREATE INDEX idx_patients_full_name_trgm ON patients
+    USING gin ((lower(first_name || ' ' || last_name)) gin_trgm_ops) WHERE is_deleted = FALSE;
+
+-- Duplicate detection; existing rows get identity_key when the service starts
+CREATE INDEX idx_patients_identity_key ON patients USING hash (identity_key) WHERE is_deleted = FALSE;
+CREATE INDEX idx_patients_unkeyed ON patients (hospital_patient_id) WHERE identity_key IS NULL;
+
+-- hospital_patient_id is assigned by Hibernate from a pooled sequence (blocks of 50)
+-- so inserts can be JDBC-batched. The service moves an existing database onto it at
+-- startup (src/main/resources/db/patient-indexes.sql).
+CREATE SEQUENCE IF NOT EXISTS patient_hospital_id_seq INCREMENT BY 50;
+ALTER TABLE patients ALTER COLUMN hospital_patient_id SET DEFAULT nextval('patient_hospital_id_seq');
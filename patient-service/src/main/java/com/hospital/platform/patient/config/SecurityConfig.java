@@ -2,6 +2,7 @@ package com.hospital.platform.patient.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -13,12 +14,15 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 import com.hospital.platform.patient.security.JwtAuthenticationEntryPoint;
 import com.hospital.platform.patient.security.JwtAuthenticationFilter;
+import com.hospital.platform.security.JwtClaimsCache;
+import com.hospital.platform.security.JwtTokenProvider;
 
 import lombok.RequiredArgsConstructor;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@Import({ JwtTokenProvider.class, JwtClaimsCache.class })
 @RequiredArgsConstructor
 public class SecurityConfig {
 
@@ -1,6 +1,12 @@
 package com.hospital.platform.patient.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -9,12 +15,22 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hospital.platform.patient.dto.BulkImportRowResult;
+import com.hospital.platform.patient.dto.DuplicateScanReport;
 import com.hospital.platform.patient.dto.PatientRequestDTO;
 import com.hospital.platform.patient.dto.PatientResponseDTO;
+import com.hospital.platform.patient.dto.PatientSearchResultDTO;
+import com.hospital.platform.patient.service.PatientBulkImportService;
 import com.hospital.platform.patient.service.PatientService;
+import com.hospital.platform.patient.service.dedupe.PatientDedupeJob;
+import com.hospital.platform.patient.service.search.PatientSearchService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,22 +40,84 @@ import lombok.extern.slf4j.Slf4j;
 public class PatientController {
 
 	private final PatientService patientService;
+	private final PatientBulkImportService bulkImportService;
+	private final PatientSearchService searchService;
+	private final PatientDedupeJob dedupeJob;
+	private final ObjectMapper objectMapper;
 
-	public PatientController(PatientService patientService) {
+	public PatientController(PatientService patientService, PatientBulkImportService bulkImportService,
+			PatientSearchService searchService, PatientDedupeJob dedupeJob, ObjectMapper objectMapper) {
 		this.patientService = patientService;
+		this.bulkImportService = bulkImportService;
+		this.searchService = searchService;
+		this.dedupeJob = dedupeJob;
+		this.objectMapper = objectMapper;
 	}
 
+	/**
+	 * Answers 409 with the matching patients when the same person looks to be
+	 * registered already; repeat with {@code confirmNew=true} to register anyway.
+	 */
 	@PostMapping
 	@PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST')")
-	public ResponseEntity<PatientResponseDTO> registerPatient(@Valid @RequestBody PatientRequestDTO request) {
-		log.info("POST /patients registration request received");
+	public ResponseEntity<PatientResponseDTO> registerPatient(@Valid @RequestBody PatientRequestDTO request,
+			@RequestParam(defaultValue = "false") boolean confirmNew) {
+		log.info("POST /patients registration request received confirmNew={}", confirmNew);
 
-		PatientResponseDTO response = this.patientService.registerPatient(request);
+		PatientResponseDTO response = this.patientService.registerPatient(request, confirmNew);
 		log.info("Patient registered with hospitalPatientId={}", response.getHospitalPatientId());
 
 		return ResponseEntity.status(HttpStatus.CREATED).body(response);
 	}
 
+	/**
+	 * Accepts {@code application/x-ndjson} or {@code text/csv} and streams one
+	 * NDJSON result per row back as each chunk is committed.
+	 */
+	@PostMapping(value = "/bulk", consumes = { "application/x-ndjson", "text/csv" })
+	@PreAuthorize("hasRole('ADMIN')")
+	public void bulkRegisterPatients(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		log.info("POST /patients/bulk request received");
+
+		MediaType contentType = MediaType.parseMediaType(request.getContentType());
+		OutputStream out = response.getOutputStream();
+
+		this.bulkImportService.importPatients(contentType, request.getInputStream(), results -> {
+			try {
+				if (!response.isCommitted()) {
+					response.setStatus(HttpStatus.OK.value());
+					response.setContentType(PatientBulkImportService.NDJSON.toString());
+				}
+				for (BulkImportRowResult result : results) {
+					out.write(this.objectMapper.writeValueAsBytes(result));
+					out.write('\n');
+				}
+				out.flush();
+			} catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		});
+	}
+
+	/** Searches active patients by mobile number or name prefix, falling back to typo-tolerant matches. */
+	@GetMapping("/search")
+	@PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'DOCTOR')")
+	public ResponseEntity<List<PatientSearchResultDTO>> searchPatients(@RequestParam("q") String query,
+			@RequestParam(defaultValue = "20") int limit) {
+		log.info("GET /patients/search limit={}", limit);
+
+		return ResponseEntity.ok(this.searchService.search(query, limit));
+	}
+
+	/** Backfills identity keys for older patients, then lists groups of likely duplicates for review. */
+	@PostMapping("/duplicates/scan")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<DuplicateScanReport> scanDuplicates(@RequestParam(defaultValue = "100") int limit) {
+		log.info("POST /patients/duplicates/scan limit={}", limit);
+
+		return ResponseEntity.ok(this.dedupeJob.scan(limit));
+	}
+
 	@GetMapping("/{hospitalPatientId}")
 	@PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'DOCTOR')")
 	public ResponseEntity<PatientResponseDTO> getPatientByHospitalPatientId(@PathVariable Integer hospitalPatientId) {
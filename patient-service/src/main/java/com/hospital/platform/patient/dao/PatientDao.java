@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import org.springframework.stereotype.Repository;
 
+import com.hospital.platform.patient.dto.PatientResponseDTO;
 import com.hospital.platform.patient.entity.PatientEntity;
 
 import jakarta.persistence.EntityManager;
@@ -21,17 +22,46 @@ public class PatientDao {
 		return entity;
 	}
 
+	/**
+	 * Persists the chunk and flushes it as JDBC batches, then detaches it so a
+	 * long import does not grow the persistence context.
+	 */
+	public void saveAll(List<PatientEntity> entities) {
+		for (PatientEntity entity : entities) {
+			this.em.persist(entity);
+		}
+		this.em.flush();
+		this.em.clear();
+	}
+
 	public Optional<PatientEntity> findByHospitalPatientId(Integer hospitalPatientId) {
 
 		List<PatientEntity> result = this.em.createQuery(
 				"from PatientEntity where hospitalPatientId = :id and isDeleted = false",
 				PatientEntity.class)
 				.setParameter("id", hospitalPatientId)
+				.setMaxResults(1)
 				.getResultList();
 
 		return result.stream().findFirst();
 	}
 
+	/** Read path for lookups: selects the response columns only, with no managed entity. */
+	public Optional<PatientResponseDTO> findResponseByHospitalPatientId(Integer hospitalPatientId) {
+		String jpql = """
+				SELECT new com.hospital.platform.patient.dto.PatientResponseDTO(
+				    p.hospitalPatientId, p.firstName, p.lastName, p.dateOfBirth, p.gender,
+				    p.email, p.mobile, p.address, p.emergencyMobile)
+				FROM PatientEntity p
+				WHERE p.hospitalPatientId = :id AND p.isDeleted = false
+				""";
+
+		return this.em.createQuery(jpql, PatientResponseDTO.class)
+				.setParameter("id", hospitalPatientId)
+				.setMaxResults(1)
+				.getResultList().stream().findFirst();
+	}
+
 	public void softDelete(PatientEntity entity) {
 		entity.setIsDeleted(true);
 		this.em.merge(entity);
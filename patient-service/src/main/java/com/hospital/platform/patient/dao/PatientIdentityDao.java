@@ -0,0 +1,89 @@
+package com.hospital.platform.patient.dao;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.hospital.platform.patient.dto.PatientSearchResultDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Lookups on {@code patients.identity_key}, the hashed identity computed by
+ * {@link com.hospital.platform.patient.service.dedupe.PatientIdentityKey}. The
+ * hash index in {@code db/patient-indexes.sql} covers active patients only.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PatientIdentityDao {
+
+	public static final String IDENTITY_MATCH = "identity";
+
+	private static final String FIND_BY_KEY_SQL = """
+			SELECT hospital_patient_id, first_name, last_name, date_of_birth, gender, mobile
+			FROM patients
+			WHERE is_deleted = FALSE AND identity_key = ?
+			ORDER BY hospital_patient_id
+			""";
+
+	private static final String FIND_UNKEYED_SQL = """
+			SELECT hospital_patient_id, first_name, last_name, date_of_birth, mobile
+			FROM patients
+			WHERE identity_key IS NULL AND hospital_patient_id > ?
+			ORDER BY hospital_patient_id
+			LIMIT ?
+			""";
+
+	private static final String SET_KEY_SQL = """
+			UPDATE patients SET identity_key = ?
+			WHERE hospital_patient_id = ? AND identity_key IS NULL
+			""";
+
+	private static final String DUPLICATE_KEYS_SQL = """
+			SELECT identity_key
+			FROM patients
+			WHERE is_deleted = FALSE AND identity_key IS NOT NULL
+			GROUP BY identity_key
+			HAVING count(*) > 1
+			ORDER BY min(hospital_patient_id)
+			LIMIT ?
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public List<PatientSearchResultDTO> findByIdentityKey(long identityKey) {
+		return this.jdbcTemplate.query(FIND_BY_KEY_SQL, (rs, rowNum) -> new PatientSearchResultDTO(
+				rs.getLong("hospital_patient_id"),
+				rs.getString("first_name"),
+				rs.getString("last_name"),
+				rs.getObject("date_of_birth", LocalDate.class),
+				rs.getString("gender"),
+				rs.getString("mobile"),
+				IDENTITY_MATCH), identityKey);
+	}
+
+	/** Patients stored before identity keys existed, in id order after {@code afterId}. */
+	public List<UnkeyedPatient> findUnkeyed(long afterId, int limit) {
+		return this.jdbcTemplate.query(FIND_UNKEYED_SQL, (rs, rowNum) -> new UnkeyedPatient(
+				rs.getLong("hospital_patient_id"),
+				rs.getString("first_name"),
+				rs.getString("last_name"),
+				rs.getObject("date_of_birth", LocalDate.class),
+				rs.getString("mobile")), afterId, limit);
+	}
+
+	public void setIdentityKeys(List<Object[]> keyAndIdPairs) {
+		this.jdbcTemplate.batchUpdate(SET_KEY_SQL, keyAndIdPairs);
+	}
+
+	/** Keys shared by more than one active patient, oldest registration first. Scans the whole table. */
+	public List<Long> findDuplicateKeys(int limit) {
+		return this.jdbcTemplate.queryForList(DUPLICATE_KEYS_SQL, Long.class, limit);
+	}
+
+	public record UnkeyedPatient(long hospitalPatientId, String firstName, String lastName, LocalDate dateOfBirth,
+			String mobile) {
+	}
+}
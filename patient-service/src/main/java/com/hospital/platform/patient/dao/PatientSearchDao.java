@@ -0,0 +1,122 @@
+package com.hospital.platform.patient.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.hospital.platform.patient.dto.PatientSearchResultDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Search queries over active patients, each shaped for one index in
+ * {@code db/patient-indexes.sql}: prefix lookups seek on the {@code COLLATE "C"}
+ * btree indexes and read them in order, fuzzy lookups use the pg_trgm GIN
+ * indexes. All of those indexes are partial on {@code is_deleted = FALSE}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PatientSearchDao {
+
+	public static final String PREFIX_MATCH = "prefix";
+	public static final String FUZZY_MATCH = "fuzzy";
+
+	private static final String MOBILE_PREFIX_SQL = """
+			SELECT hospital_patient_id, first_name, last_name, date_of_birth, gender, mobile
+			FROM patients
+			WHERE is_deleted = FALSE AND mobile COLLATE "C" LIKE ?
+			ORDER BY mobile COLLATE "C"
+			LIMIT ?
+			""";
+
+	private static final String MOBILE_FUZZY_SQL = """
+			SELECT hospital_patient_id, first_name, last_name, date_of_birth, gender, mobile
+			FROM patients
+			WHERE is_deleted = FALSE AND mobile % ?
+			ORDER BY similarity(mobile, ?) DESC, hospital_patient_id
+			LIMIT ?
+			""";
+
+	// Either term may be the first name; each branch walks one name index in order
+	private static final String NAME_PREFIX_SQL = """
+			SELECT * FROM (
+			    (SELECT hospital_patient_id, first_name, last_name, date_of_birth, gender, mobile
+			     FROM patients
+			     WHERE is_deleted = FALSE AND lower(first_name) COLLATE "C" LIKE ? AND lower(last_name) LIKE ?
+			     ORDER BY lower(first_name) COLLATE "C"
+			     LIMIT ?)
+			    UNION
+			    (SELECT hospital_patient_id, first_name, last_name, date_of_birth, gender, mobile
+			     FROM patients
+			     WHERE is_deleted = FALSE AND lower(last_name) COLLATE "C" LIKE ? AND lower(first_name) LIKE ?
+			     ORDER BY lower(last_name) COLLATE "C"
+			     LIMIT ?)
+			) matches
+			ORDER BY lower(last_name), lower(first_name), hospital_patient_id
+			LIMIT ?
+			""";
+
+	// A single term is compared with the closest part of the full name, a full name with all of it
+	private static final String NAME_TERM_FUZZY_SQL = """
+			SELECT hospital_patient_id, first_name, last_name, date_of_birth, gender, mobile
+			FROM patients
+			WHERE is_deleted = FALSE AND ? <% lower(first_name || ' ' || last_name)
+			ORDER BY word_similarity(?, lower(first_name || ' ' || last_name)) DESC, hospital_patient_id
+			LIMIT ?
+			""";
+
+	private static final String FULL_NAME_FUZZY_SQL = """
+			SELECT hospital_patient_id, first_name, last_name, date_of_birth, gender, mobile
+			FROM patients
+			WHERE is_deleted = FALSE AND lower(first_name || ' ' || last_name) % ?
+			ORDER BY similarity(lower(first_name || ' ' || last_name), ?) DESC, hospital_patient_id
+			LIMIT ?
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public List<PatientSearchResultDTO> findByMobilePrefix(String digits, int limit) {
+		return this.jdbcTemplate.query(MOBILE_PREFIX_SQL, (rs, rowNum) -> toResult(rs, PREFIX_MATCH),
+				escapeLike(digits) + "%", limit);
+	}
+
+	public List<PatientSearchResultDTO> findByMobileSimilarity(String digits, int limit) {
+		return this.jdbcTemplate.query(MOBILE_FUZZY_SQL, (rs, rowNum) -> toResult(rs, FUZZY_MATCH),
+				digits, digits, limit);
+	}
+
+	/**
+	 * Patients whose first name starts with one term and last name with the
+	 * other, in either order. An empty {@code otherTerm} matches any name.
+	 */
+	public List<PatientSearchResultDTO> findByNamePrefix(String term, String otherTerm, int limit) {
+		String termPattern = escapeLike(term) + "%";
+		String otherPattern = escapeLike(otherTerm) + "%";
+		return this.jdbcTemplate.query(NAME_PREFIX_SQL, (rs, rowNum) -> toResult(rs, PREFIX_MATCH),
+				termPattern, otherPattern, limit, termPattern, otherPattern, limit, limit);
+	}
+
+	public List<PatientSearchResultDTO> findByNameSimilarity(String name, boolean singleTerm, int limit) {
+		return this.jdbcTemplate.query(singleTerm ? NAME_TERM_FUZZY_SQL : FULL_NAME_FUZZY_SQL,
+				(rs, rowNum) -> toResult(rs, FUZZY_MATCH), name, name, limit);
+	}
+
+	private static PatientSearchResultDTO toResult(ResultSet rs, String match) throws SQLException {
+		return new PatientSearchResultDTO(
+				rs.getLong("hospital_patient_id"),
+				rs.getString("first_name"),
+				rs.getString("last_name"),
+				rs.getObject("date_of_birth", LocalDate.class),
+				rs.getString("gender"),
+				rs.getString("mobile"),
+				match);
+	}
+
+	private static String escapeLike(String value) {
+		return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+}
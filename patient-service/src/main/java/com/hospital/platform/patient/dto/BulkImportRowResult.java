@@ -0,0 +1,38 @@
+package com.hospital.platform.patient.dto;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkImportRowResult {
+
+	public enum Status {
+		CREATED, INVALID, FAILED
+	}
+
+	private int line;
+	private Status status;
+	private Long hospitalPatientId;
+	private String message;
+	private Map<String, String> validationErrors;
+
+	public static BulkImportRowResult created(int line, Long hospitalPatientId) {
+		return new BulkImportRowResult(line, Status.CREATED, hospitalPatientId, null, null);
+	}
+
+	public static BulkImportRowResult invalid(int line, String message, Map<String, String> validationErrors) {
+		return new BulkImportRowResult(line, Status.INVALID, null, message, validationErrors);
+	}
+
+	public static BulkImportRowResult failed(int line, String message) {
+		return new BulkImportRowResult(line, Status.FAILED, null, message, null);
+	}
+}
@@ -0,0 +1,20 @@
+package com.hospital.platform.patient.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateScanReport {
+
+	/** Existing patients given an identity key by this scan. */
+	private int keysBackfilled;
+
+	/** Active patients that look like the same person, each group oldest registration first. */
+	private List<List<PatientSearchResultDTO>> groups;
+
+}
@@ -2,9 +2,13 @@ package com.hospital.platform.patient.dto;
 
 import java.time.LocalDate;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class PatientResponseDTO {
 
 	private Long hospitalPatientId;
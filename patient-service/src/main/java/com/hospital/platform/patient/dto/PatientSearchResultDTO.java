@@ -0,0 +1,25 @@
+package com.hospital.platform.patient.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientSearchResultDTO {
+
+	private Long hospitalPatientId;
+
+	private String firstName;
+	private String lastName;
+	private LocalDate dateOfBirth;
+	private String gender;
+	private String mobile;
+
+	/** {@code prefix}, {@code fuzzy} or {@code identity}: how the query matched this patient. */
+	private String match;
+
+}
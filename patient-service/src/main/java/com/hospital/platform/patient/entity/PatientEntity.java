@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Data;
 
@@ -17,7 +18,8 @@ import lombok.Data;
 public class PatientEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "patient_hospital_id_seq")
+	@SequenceGenerator(name = "patient_hospital_id_seq", sequenceName = "patient_hospital_id_seq", allocationSize = 50)
 	@Column(name = "hospital_patient_id", length = 50, nullable = false, updatable = false)
 	private Long hospitalPatientId;
 
@@ -48,6 +50,10 @@ public class PatientEntity {
 	@Column(name = "emergency_mobile", length = 15)
 	private String emergencyMobile;
 
+	// Hashed PatientIdentityKey; null only for rows registered before it existed
+	@Column(name = "identity_key")
+	private Long identityKey;
+
 	@Column(name = "is_deleted", nullable = false)
 	private Boolean isDeleted = false;
 
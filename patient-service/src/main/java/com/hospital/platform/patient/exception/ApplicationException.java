@@ -1,20 +1,33 @@
 package com.hospital.platform.patient.exception;
 
+import java.util.Map;
+
 public class ApplicationException extends RuntimeException {
 
 	private static final long serialVersionUID = 1L;
 
 	private final ErrorCode errorCode;
+	private final Map<String, String> validationErrors;
 
 	public ApplicationException(ErrorCode errorCode) {
 		super(errorCode.getDefaultMessage());
 		this.errorCode = errorCode;
+		this.validationErrors = null;
 	}
 
 	public ApplicationException(ErrorCode errorCode, String customMessage) {
 		super(customMessage);
 		this.errorCode = errorCode;
+		this.validationErrors = null;
+	}
+
+	public ApplicationException(ErrorCode errorCode, String customMessage, Map<String, String> validationErrors) {
+		super(customMessage);
+		this.errorCode = errorCode;
+		this.validationErrors = validationErrors;
 	}
 
 	public ErrorCode getErrorCode() { return errorCode; }
+
+	public Map<String, String> getValidationErrors() { return validationErrors; }
 }
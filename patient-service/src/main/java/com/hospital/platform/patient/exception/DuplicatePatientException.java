@@ -0,0 +1,24 @@
+package com.hospital.platform.patient.exception;
+
+import java.util.List;
+
+import com.hospital.platform.patient.dto.PatientSearchResultDTO;
+
+/**
+ * A registration whose identity matches patients already on file. The caller
+ * either picks one of {@link #getCandidates()} or repeats the registration
+ * with {@code confirmNew=true}.
+ */
+public class DuplicatePatientException extends ApplicationException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient List<PatientSearchResultDTO> candidates;
+
+	public DuplicatePatientException(List<PatientSearchResultDTO> candidates) {
+		super(ErrorCode.POSSIBLE_DUPLICATE_PATIENT);
+		this.candidates = candidates;
+	}
+
+	public List<PatientSearchResultDTO> getCandidates() { return this.candidates; }
+}
@@ -6,6 +6,7 @@ public enum ErrorCode {
 
 	PATIENT_NOT_FOUND(HttpStatus.NOT_FOUND, "Patient not found"),
 	PATIENT_ALREADY_DELETED(HttpStatus.CONFLICT, "Patient already deleted"),
+	POSSIBLE_DUPLICATE_PATIENT(HttpStatus.CONFLICT, "Patient may already be registered"),
 	VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "Validation error"),
 	UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "Unauthorized"),
 	INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error");
@@ -1,10 +1,12 @@
 package com.hospital.platform.patient.exception;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hospital.platform.patient.dto.PatientSearchResultDTO;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,4 +27,5 @@ public class ErrorResponse {
 	private String error;
 	private String message;
 	private Map<String, String> validationErrors;
+	private List<PatientSearchResultDTO> candidates;
 }
\ No newline at end of file
@@ -30,6 +30,7 @@ public class GlobalExceptionHandler {
 				.status(code.getHttpStatus().value())
 				.error(code.name())
 				.message(ex.getMessage())
+				.validationErrors(ex.getValidationErrors())
 				.build();
 
 		log.error("ApplicationException [{}]: {}", code.name(), ex.getMessage());
@@ -39,6 +40,27 @@ public class GlobalExceptionHandler {
 				.body(error);
 	}
 
+	@ExceptionHandler(DuplicatePatientException.class)
+	public ResponseEntity<ErrorResponse> handleDuplicatePatient(
+			DuplicatePatientException ex) {
+
+		ErrorCode code = ex.getErrorCode();
+
+		ErrorResponse error = ErrorResponse.builder()
+				.timestamp(LocalDateTime.now())
+				.status(code.getHttpStatus().value())
+				.error(code.name())
+				.message(ex.getMessage())
+				.candidates(ex.getCandidates())
+				.build();
+
+		log.info("Registration matches {} existing patient(s), awaiting confirmation", ex.getCandidates().size());
+
+		return ResponseEntity
+				.status(code.getHttpStatus())
+				.body(error);
+	}
+
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<ErrorResponse> handleValidationExceptions(
 			MethodArgumentNotValidException ex) {
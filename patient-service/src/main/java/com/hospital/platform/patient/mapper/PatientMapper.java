@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 import com.hospital.platform.patient.dto.PatientRequestDTO;
 import com.hospital.platform.patient.dto.PatientResponseDTO;
 import com.hospital.platform.patient.entity.PatientEntity;
+import com.hospital.platform.patient.service.dedupe.PatientIdentityKey;
 
 @Component
 public class PatientMapper {
@@ -23,6 +24,8 @@ public class PatientMapper {
 		entity.setMobile(request.getMobile());
 		entity.setAddress(request.getAddress());
 		entity.setEmergencyMobile(request.getEmergencyMobile());
+		entity.setIdentityKey(PatientIdentityKey.of(request.getFirstName(), request.getLastName(),
+				request.getDateOfBirth(), request.getMobile()));
 		entity.setCreatedOn(LocalDateTime.now());
 		return entity;
 	}
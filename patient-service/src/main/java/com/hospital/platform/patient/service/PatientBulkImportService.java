@@ -0,0 +1,182 @@
+package com.hospital.platform.patient.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hospital.platform.patient.dao.PatientDao;
+import com.hospital.platform.patient.dto.BulkImportRowResult;
+import com.hospital.platform.patient.dto.PatientRequestDTO;
+import com.hospital.platform.patient.entity.PatientEntity;
+import com.hospital.platform.patient.exception.ApplicationException;
+import com.hospital.platform.patient.exception.ErrorCode;
+import com.hospital.platform.patient.mapper.PatientMapper;
+import com.hospital.platform.patient.service.bulk.CsvPatientRowReader;
+import com.hospital.platform.patient.service.bulk.NdjsonPatientRowReader;
+import com.hospital.platform.patient.service.bulk.ParsedPatientRow;
+import com.hospital.platform.patient.service.bulk.PatientRowReader;
+import com.hospital.platform.patient.service.validator.PatientValidationService;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams an NDJSON or CSV upload through validation and inserts valid rows in
+ * chunks of {@code patient.bulk.chunk-size}, one transaction per chunk. Row
+ * results are handed to the caller chunk by chunk, in upload order. A chunk
+ * that fails to commit is retried row by row so one bad row does not reject
+ * its neighbours.
+ */
+@Service
+@Slf4j
+public class PatientBulkImportService {
+
+	public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+	private final PatientDao patientDao;
+	private final PatientMapper patientMapper;
+	private final PatientValidationService validationService;
+	private final Validator validator;
+	private final PatientCache patientCache;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectMapper objectMapper;
+	private final int chunkSize;
+
+	public PatientBulkImportService(PatientDao patientDao, PatientMapper patientMapper,
+			PatientValidationService validationService, Validator validator, PatientCache patientCache,
+			TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+			@Value("${patient.bulk.chunk-size:500}") int chunkSize) {
+		this.patientDao = patientDao;
+		this.patientMapper = patientMapper;
+		this.validationService = validationService;
+		this.validator = validator;
+		this.patientCache = patientCache;
+		this.transactionTemplate = transactionTemplate;
+		this.objectMapper = objectMapper;
+		this.chunkSize = chunkSize;
+	}
+
+	public void importPatients(MediaType contentType, InputStream body, Consumer<List<BulkImportRowResult>> sink)
+			throws IOException {
+
+		PatientRowReader rows = openReader(contentType, body);
+		List<BulkImportRowResult> results = new ArrayList<>(this.chunkSize);
+		List<PendingPatient> pending = new ArrayList<>(this.chunkSize);
+		int created = 0;
+		int rejected = 0;
+
+		ParsedPatientRow row;
+		while ((row = rows.next()) != null) {
+			BulkImportRowResult invalid = validate(row);
+			if (invalid != null) {
+				results.add(invalid);
+				rejected++;
+			} else {
+				// Keeps the row's place in the output; persist fills it in
+				pending.add(new PendingPatient(row.line(), this.patientMapper.fromRequestDTO(row.request()), results.size()));
+				results.add(null);
+			}
+
+			if (pending.size() >= this.chunkSize || results.size() >= this.chunkSize) {
+				created += persist(pending, results);
+				sink.accept(results);
+				pending.clear();
+				results = new ArrayList<>(this.chunkSize);
+			}
+		}
+
+		created += persist(pending, results);
+		if (!results.isEmpty()) {
+			sink.accept(results);
+		}
+		log.info("Bulk patient import finished: {} created, {} rejected", created, rejected);
+	}
+
+	private PatientRowReader openReader(MediaType contentType, InputStream body) {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(body,
+				contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8));
+
+		if (NDJSON.isCompatibleWith(contentType)) {
+			return new NdjsonPatientRowReader(reader, this.objectMapper.reader());
+		}
+		if (MediaType.parseMediaType("text/csv").isCompatibleWith(contentType)) {
+			return new CsvPatientRowReader(reader);
+		}
+		throw new ApplicationException(ErrorCode.VALIDATION_ERROR, "Unsupported content type: " + contentType);
+	}
+
+	private BulkImportRowResult validate(ParsedPatientRow row) {
+		if (row.parseError() != null) {
+			return BulkImportRowResult.invalid(row.line(), row.parseError(), null);
+		}
+
+		Set<ConstraintViolation<PatientRequestDTO>> violations = this.validator.validate(row.request());
+		if (!violations.isEmpty()) {
+			Map<String, String> violationErrors = new HashMap<>();
+			violations.forEach(v -> violationErrors.put(v.getPropertyPath().toString(), v.getMessage()));
+			return BulkImportRowResult.invalid(row.line(), "Invalid input parameters", violationErrors);
+		}
+
+		Map<String, String> errors = this.validationService.collectErrors(row.request());
+		if (!errors.isEmpty()) {
+			return BulkImportRowResult.invalid(row.line(), "Invalid input parameters", errors);
+		}
+		return null;
+	}
+
+	private int persist(List<PendingPatient> pending, List<BulkImportRowResult> results) {
+		if (pending.isEmpty()) {
+			return 0;
+		}
+
+		try {
+			List<PatientEntity> entities = pending.stream().map(PendingPatient::entity).toList();
+			this.transactionTemplate.executeWithoutResult(status -> this.patientDao.saveAll(entities));
+			pending.forEach(p -> results.set(p.resultIndex(), p.created()));
+			pending.forEach(p -> this.patientCache.evict(p.entity().getHospitalPatientId().intValue()));
+			return pending.size();
+		} catch (DataAccessException | TransactionException ex) {
+			log.warn("Bulk chunk of {} patients failed, retrying row by row: {}", pending.size(), ex.getMessage());
+		}
+
+		int created = 0;
+		for (PendingPatient patient : pending) {
+			// The rolled-back attempt already assigned an id; persist needs a transient entity
+			patient.entity().setHospitalPatientId(null);
+			try {
+				this.transactionTemplate.executeWithoutResult(status -> this.patientDao.saveAll(List.of(patient.entity())));
+				results.set(patient.resultIndex(), patient.created());
+				this.patientCache.evict(patient.entity().getHospitalPatientId().intValue());
+				created++;
+			} catch (DataAccessException | TransactionException ex) {
+				log.warn("Bulk import line {} failed: {}", patient.line(), ex.getMessage());
+				results.set(patient.resultIndex(), BulkImportRowResult.failed(patient.line(), "Patient could not be stored"));
+			}
+		}
+		return created;
+	}
+
+	private record PendingPatient(int line, PatientEntity entity, int resultIndex) {
+
+		BulkImportRowResult created() {
+			return BulkImportRowResult.created(this.line, this.entity.getHospitalPatientId());
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package com.hospital.platform.patient.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hospital.platform.patient.dto.PatientResponseDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Read-through cache of patient responses keyed by hospitalPatientId. Ids that
+ * resolve to no active patient are remembered for a shorter TTL when the
+ * negative cache is enabled. Published as {@code cache_*} meters tagged
+ * {@code cache=patients} and {@code cache=patients_not_found}.
+ */
+@Component
+public class PatientCache {
+
+	private final Cache<Integer, PatientResponseDTO> patients;
+	private final Cache<Integer, Boolean> notFound;
+
+	public PatientCache(
+			@Value("${patient.cache.max-size:10000}") long maxSize,
+			@Value("${patient.cache.ttl:PT10M}") Duration ttl,
+			@Value("${patient.cache.negative.enabled:true}") boolean negativeEnabled,
+			@Value("${patient.cache.negative.max-size:10000}") long negativeMaxSize,
+			@Value("${patient.cache.negative.ttl:PT30S}") Duration negativeTtl,
+			MeterRegistry meterRegistry) {
+
+		this.patients = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, this.patients, "patients");
+
+		if (negativeEnabled) {
+			this.notFound = Caffeine.newBuilder()
+					.maximumSize(negativeMaxSize)
+					.expireAfterWrite(negativeTtl)
+					.recordStats()
+					.build();
+			CaffeineCacheMetrics.monitor(meterRegistry, this.notFound, "patients_not_found");
+		} else {
+			this.notFound = null;
+		}
+	}
+
+	/**
+	 * Returns the cached patient or loads it; concurrent misses for the same id
+	 * share a single load.
+	 */
+	public Optional<PatientResponseDTO> getOrLoad(Integer hospitalPatientId,
+			Function<Integer, Optional<PatientResponseDTO>> loader) {
+
+		if (this.notFound != null && this.notFound.getIfPresent(hospitalPatientId) != null) {
+			return Optional.empty();
+		}
+
+		PatientResponseDTO patient = this.patients.get(hospitalPatientId, id -> loader.apply(id).orElse(null));
+		if (patient == null && this.notFound != null) {
+			this.notFound.put(hospitalPatientId, Boolean.TRUE);
+		}
+		return Optional.ofNullable(patient);
+	}
+
+	/**
+	 * Drops both the positive and negative entry once the surrounding
+	 * transaction commits, so readers never repopulate from uncommitted state.
+	 */
+	public void evictAfterCommit(Integer hospitalPatientId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evict(hospitalPatientId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evict(hospitalPatientId);
+			}
+		});
+	}
+
+	public void evict(Integer hospitalPatientId) {
+		this.patients.invalidate(hospitalPatientId);
+		if (this.notFound != null) {
+			this.notFound.invalidate(hospitalPatientId);
+		}
+	}
+}
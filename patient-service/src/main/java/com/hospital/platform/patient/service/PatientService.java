@@ -1,14 +1,19 @@
 package com.hospital.platform.patient.service;
 
+import java.util.List;
+
 import org.springframework.stereotype.Service;
 
 import com.hospital.platform.patient.dao.PatientDao;
 import com.hospital.platform.patient.dto.PatientRequestDTO;
 import com.hospital.platform.patient.dto.PatientResponseDTO;
+import com.hospital.platform.patient.dto.PatientSearchResultDTO;
 import com.hospital.platform.patient.entity.PatientEntity;
 import com.hospital.platform.patient.exception.ApplicationException;
+import com.hospital.platform.patient.exception.DuplicatePatientException;
 import com.hospital.platform.patient.exception.ErrorCode;
 import com.hospital.platform.patient.mapper.PatientMapper;
+import com.hospital.platform.patient.service.dedupe.DuplicatePatientDetector;
 import com.hospital.platform.patient.service.validator.PatientValidationService;
 
 import jakarta.transaction.Transactional;
@@ -21,28 +26,50 @@ public class PatientService {
 	private final PatientDao patientDao;
 	private final PatientMapper patientMapper;
 	private final PatientValidationService validationService;
+	private final PatientCache patientCache;
+	private final DuplicatePatientDetector duplicateDetector;
 
-	public PatientService(PatientDao patientDao, PatientMapper patientMapper, PatientValidationService validationService) {
+	public PatientService(PatientDao patientDao, PatientMapper patientMapper, PatientValidationService validationService,
+			PatientCache patientCache, DuplicatePatientDetector duplicateDetector) {
 		this.patientDao = patientDao;
 		this.patientMapper = patientMapper;
 		this.validationService = validationService;
+		this.patientCache = patientCache;
+		this.duplicateDetector = duplicateDetector;
 	}
 
+	/**
+	 * Registers the patient unless the same name, mobile and date of birth are
+	 * already on file, in which case the matches are returned to the caller
+	 * through {@link DuplicatePatientException}. {@code confirmNew} skips the
+	 * check once the caller has ruled those matches out.
+	 */
 	@Transactional
-	public PatientResponseDTO registerPatient(PatientRequestDTO request) {
+	public PatientResponseDTO registerPatient(PatientRequestDTO request, boolean confirmNew) {
 		log.info("Registering new patient");
 
 		this.validationService.validateForRegistration(request);
 
-		return this.patientMapper.fromPatientEntity(
-				this.patientDao.save(
-						this.patientMapper.fromRequestDTO(request)));
+		if (!confirmNew) {
+			List<PatientSearchResultDTO> candidates = this.duplicateDetector.findCandidates(request.getFirstName(),
+					request.getLastName(), request.getDateOfBirth(), request.getMobile());
+			if (!candidates.isEmpty()) {
+				throw new DuplicatePatientException(candidates);
+			}
+		}
+
+		PatientEntity saved = this.patientDao.save(this.patientMapper.fromRequestDTO(request));
+
+		// The id may already sit in the negative cache if a client probed it before it existed
+		this.patientCache.evictAfterCommit(saved.getHospitalPatientId().intValue());
+		return this.patientMapper.fromPatientEntity(saved);
 	}
 
 	public PatientResponseDTO getPatientByHospitalPatientId(Integer hospitalPatientId) {
 		log.info("Going to get pateint details with hospitalPatientId : {}", hospitalPatientId);
-		return this.patientMapper.fromPatientEntity(this.patientDao.findByHospitalPatientId(hospitalPatientId)
-				.orElseThrow(() -> new ApplicationException(ErrorCode.PATIENT_NOT_FOUND)));
+		return this.patientCache.getOrLoad(hospitalPatientId,
+				this.patientDao::findResponseByHospitalPatientId)
+				.orElseThrow(() -> new ApplicationException(ErrorCode.PATIENT_NOT_FOUND));
 	}
 
 	@Transactional
@@ -57,6 +84,7 @@ public class PatientService {
 		}
 
 		this.patientDao.softDelete(patient);
+		this.patientCache.evictAfterCommit(hospitalPatientId);
 		log.info("Patient with hospitalPatientId : {} is deleted successfully", hospitalPatientId);
 	}
 
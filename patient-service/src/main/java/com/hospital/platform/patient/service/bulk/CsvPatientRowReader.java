@@ -0,0 +1,146 @@
+package com.hospital.platform.patient.service.bulk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.hospital.platform.patient.dto.PatientRequestDTO;
+import com.hospital.platform.patient.exception.ApplicationException;
+import com.hospital.platform.patient.exception.ErrorCode;
+
+/**
+ * CSV with a header row naming {@link PatientRequestDTO} fields in any order
+ * (case-insensitive). Fields may be double-quoted, with {@code ""} as an
+ * escaped quote; quoted fields cannot span lines. Empty fields map to null.
+ */
+public class CsvPatientRowReader implements PatientRowReader {
+
+	private enum Column {
+		FIRSTNAME, LASTNAME, DATEOFBIRTH, GENDER, MOBILE, EMAIL, ADDRESS, EMERGENCYMOBILE
+	}
+
+	private final BufferedReader reader;
+	private Column[] columns;
+	private int line;
+
+	public CsvPatientRowReader(BufferedReader reader) {
+		this.reader = reader;
+	}
+
+	@Override
+	public ParsedPatientRow next() throws IOException {
+		if (this.columns == null) {
+			readHeader();
+		}
+
+		String text;
+		while ((text = this.reader.readLine()) != null) {
+			this.line++;
+			if (text.isBlank()) {
+				continue;
+			}
+			return parseRow(text);
+		}
+		return null;
+	}
+
+	private void readHeader() throws IOException {
+		String header = this.reader.readLine();
+		this.line++;
+		if (header == null) {
+			throw new ApplicationException(ErrorCode.VALIDATION_ERROR, "CSV header row is missing");
+		}
+		if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+			header = header.substring(1);
+		}
+
+		List<String> names = split(header);
+		if (names == null) {
+			throw new ApplicationException(ErrorCode.VALIDATION_ERROR, "CSV header row is malformed");
+		}
+
+		Column[] parsed = new Column[names.size()];
+		for (int i = 0; i < parsed.length; i++) {
+			String name = names.get(i).trim().toUpperCase(Locale.ROOT);
+			try {
+				parsed[i] = Column.valueOf(name);
+			} catch (IllegalArgumentException ex) {
+				throw new ApplicationException(ErrorCode.VALIDATION_ERROR, "Unknown CSV column: " + names.get(i).trim());
+			}
+		}
+		this.columns = parsed;
+	}
+
+	private ParsedPatientRow parseRow(String text) {
+		List<String> values = split(text);
+		if (values == null) {
+			return ParsedPatientRow.unparseable(this.line, "Unterminated quoted field");
+		}
+		if (values.size() != this.columns.length) {
+			return ParsedPatientRow.unparseable(this.line,
+					"Expected " + this.columns.length + " columns but found " + values.size());
+		}
+
+		PatientRequestDTO request = new PatientRequestDTO();
+		for (int i = 0; i < this.columns.length; i++) {
+			String value = values.get(i).isEmpty() ? null : values.get(i);
+			switch (this.columns[i]) {
+				case FIRSTNAME -> request.setFirstName(value);
+				case LASTNAME -> request.setLastName(value);
+				case GENDER -> request.setGender(value);
+				case MOBILE -> request.setMobile(value);
+				case EMAIL -> request.setEmail(value);
+				case ADDRESS -> request.setAddress(value);
+				case EMERGENCYMOBILE -> request.setEmergencyMobile(value);
+				case DATEOFBIRTH -> {
+					try {
+						request.setDateOfBirth(value == null ? null : LocalDate.parse(value));
+					} catch (DateTimeParseException ex) {
+						return ParsedPatientRow.unparseable(this.line, "dateOfBirth must be yyyy-MM-dd");
+					}
+				}
+			}
+		}
+		return ParsedPatientRow.parsed(this.line, request);
+	}
+
+	/**
+	 * @return the fields of one CSV line, or {@code null} if a quote is left open
+	 */
+	static List<String> split(String text) {
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (quoted) {
+				if (c != '"') {
+					field.append(c);
+				} else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+					field.append('"');
+					i++;
+				} else {
+					quoted = false;
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else {
+				field.append(c);
+			}
+		}
+
+		if (quoted) {
+			return null;
+		}
+		fields.add(field.toString());
+		return fields;
+	}
+}
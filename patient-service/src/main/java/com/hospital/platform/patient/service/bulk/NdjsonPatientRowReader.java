@@ -0,0 +1,40 @@
+package com.hospital.platform.patient.service.bulk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.hospital.platform.patient.dto.PatientRequestDTO;
+
+/**
+ * One JSON {@link PatientRequestDTO} per line; blank lines are skipped.
+ */
+public class NdjsonPatientRowReader implements PatientRowReader {
+
+	private final BufferedReader reader;
+	private final ObjectReader objectReader;
+	private int line;
+
+	public NdjsonPatientRowReader(BufferedReader reader, ObjectReader objectReader) {
+		this.reader = reader;
+		this.objectReader = objectReader.forType(PatientRequestDTO.class);
+	}
+
+	@Override
+	public ParsedPatientRow next() throws IOException {
+		String text;
+		while ((text = this.reader.readLine()) != null) {
+			this.line++;
+			if (text.isBlank()) {
+				continue;
+			}
+			try {
+				return ParsedPatientRow.parsed(this.line, this.objectReader.readValue(text));
+			} catch (JsonProcessingException ex) {
+				return ParsedPatientRow.unparseable(this.line, "Malformed JSON: " + ex.getOriginalMessage());
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,18 @@
+package com.hospital.platform.patient.service.bulk;
+
+import com.hospital.platform.patient.dto.PatientRequestDTO;
+
+/**
+ * A single upload row: either a parsed request or the reason it could not be
+ * parsed. {@code line} is the 1-based line number in the upload.
+ */
+public record ParsedPatientRow(int line, PatientRequestDTO request, String parseError) {
+
+	public static ParsedPatientRow parsed(int line, PatientRequestDTO request) {
+		return new ParsedPatientRow(line, request, null);
+	}
+
+	public static ParsedPatientRow unparseable(int line, String parseError) {
+		return new ParsedPatientRow(line, null, parseError);
+	}
+}
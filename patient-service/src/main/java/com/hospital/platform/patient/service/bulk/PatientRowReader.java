@@ -0,0 +1,15 @@
+package com.hospital.platform.patient.service.bulk;
+
+import java.io.IOException;
+
+/**
+ * Pulls one patient row at a time from a bulk upload so the payload is never
+ * held in memory as a whole.
+ */
+public interface PatientRowReader {
+
+	/**
+	 * @return the next row, or {@code null} once the input is exhausted
+	 */
+	ParsedPatientRow next() throws IOException;
+}
@@ -0,0 +1,31 @@
+package com.hospital.platform.patient.service.dedupe;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.hospital.platform.patient.dao.PatientIdentityDao;
+import com.hospital.platform.patient.dto.PatientSearchResultDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Finds active patients with the same identity as a registration: one probe of
+ * the identity key index, then an exact comparison of the canonical keys.
+ */
+@Component
+@RequiredArgsConstructor
+public class DuplicatePatientDetector {
+
+	private final PatientIdentityDao identityDao;
+
+	public List<PatientSearchResultDTO> findCandidates(String firstName, String lastName, LocalDate dateOfBirth,
+			String mobile) {
+		String canonical = PatientIdentityKey.canonical(firstName, lastName, dateOfBirth, mobile);
+		return this.identityDao.findByIdentityKey(PatientIdentityKey.hash(canonical)).stream()
+				.filter(p -> canonical.equals(PatientIdentityKey.canonical(p.getFirstName(), p.getLastName(),
+						p.getDateOfBirth(), p.getMobile())))
+				.toList();
+	}
+}
@@ -0,0 +1,44 @@
+package com.hospital.platform.patient.service.dedupe;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gives patients registered before identity keys existed their key once the
+ * service is up, so registration checks cover them from the first deploy
+ * without waiting for an admin to run a duplicate scan. Once every row has a
+ * key, later startups only pay for one probe of {@code idx_patients_unkeyed}.
+ */
+@Component
+@Slf4j
+public class IdentityKeyBackfill {
+
+	private final PatientDedupeJob dedupeJob;
+	private final boolean enabled;
+
+	public IdentityKeyBackfill(PatientDedupeJob dedupeJob,
+			@Value("${patient.dedupe.backfill-on-startup:true}") boolean enabled) {
+		this.dedupeJob = dedupeJob;
+		this.enabled = enabled;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillOnStartup() {
+		if (!this.enabled) {
+			return;
+		}
+
+		try {
+			int backfilled = this.dedupeJob.backfillIdentityKeys();
+			if (backfilled > 0) {
+				log.info("Backfilled identity keys for {} existing patients", backfilled);
+			}
+		} catch (RuntimeException ex) {
+			log.warn("Identity key backfill failed; it resumes on the next startup or duplicate scan", ex);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.hospital.platform.patient.service.dedupe;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.hospital.platform.patient.dao.PatientIdentityDao;
+import com.hospital.platform.patient.dao.PatientIdentityDao.UnkeyedPatient;
+import com.hospital.platform.patient.dto.DuplicateScanReport;
+import com.hospital.platform.patient.dto.PatientSearchResultDTO;
+import com.hospital.platform.patient.exception.ApplicationException;
+import com.hospital.platform.patient.exception.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Finds duplicates among patients already on file. It first gives every
+ * patient registered before identity keys existed its key, in batches of
+ * {@code patient.bulk.chunk-size}, so registration checks see them too. It
+ * then reports groups of active patients sharing an identity.
+ * <p>
+ * Groups are reported, not merged: appointments and bills in the other
+ * services refer to each patient id, so choosing a survivor is left to staff.
+ */
+@Service
+@Slf4j
+public class PatientDedupeJob {
+
+	public static final int MAX_GROUPS = 1000;
+
+	private final PatientIdentityDao identityDao;
+	private final int batchSize;
+
+	public PatientDedupeJob(PatientIdentityDao identityDao, @Value("${patient.bulk.chunk-size:500}") int batchSize) {
+		this.identityDao = identityDao;
+		this.batchSize = batchSize;
+	}
+
+	public DuplicateScanReport scan(int maxGroups) {
+		if (maxGroups < 1 || maxGroups > MAX_GROUPS) {
+			throw new ApplicationException(ErrorCode.VALIDATION_ERROR, "Limit must be between 1 and " + MAX_GROUPS);
+		}
+
+		int backfilled = backfillIdentityKeys();
+
+		List<List<PatientSearchResultDTO>> groups = new ArrayList<>();
+		for (Long identityKey : this.identityDao.findDuplicateKeys(maxGroups)) {
+			for (List<PatientSearchResultDTO> group : byCanonicalKey(this.identityDao.findByIdentityKey(identityKey))) {
+				if (group.size() > 1 && groups.size() < maxGroups) {
+					groups.add(group);
+				}
+			}
+		}
+
+		log.info("Duplicate scan finished: {} identity keys backfilled, {} duplicate groups", backfilled, groups.size());
+		return new DuplicateScanReport(backfilled, groups);
+	}
+
+	/** Each batch updates in its own statement; a scan interrupted midway resumes where it left off. */
+	public int backfillIdentityKeys() {
+		int backfilled = 0;
+		long afterId = 0;
+
+		List<UnkeyedPatient> batch;
+		while (!(batch = this.identityDao.findUnkeyed(afterId, this.batchSize)).isEmpty()) {
+			List<Object[]> updates = new ArrayList<>(batch.size());
+			for (UnkeyedPatient patient : batch) {
+				updates.add(new Object[] { PatientIdentityKey.of(patient.firstName(), patient.lastName(),
+						patient.dateOfBirth(), patient.mobile()), patient.hospitalPatientId() });
+			}
+			this.identityDao.setIdentityKeys(updates);
+			backfilled += batch.size();
+			afterId = batch.get(batch.size() - 1).hospitalPatientId();
+		}
+		return backfilled;
+	}
+
+	// Patients under one hashed key almost always share the canonical key; split the rare collision
+	private static Collection<List<PatientSearchResultDTO>> byCanonicalKey(List<PatientSearchResultDTO> patients) {
+		Map<String, List<PatientSearchResultDTO>> groups = new LinkedHashMap<>();
+		for (PatientSearchResultDTO patient : patients) {
+			groups.computeIfAbsent(PatientIdentityKey.canonical(patient.getFirstName(), patient.getLastName(),
+					patient.getDateOfBirth(), patient.getMobile()), key -> new ArrayList<>()).add(patient);
+		}
+		return groups.values();
+	}
+}
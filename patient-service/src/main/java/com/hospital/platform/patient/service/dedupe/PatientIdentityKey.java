@@ -0,0 +1,94 @@
+package com.hospital.platform.patient.service.dedupe;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Normalized identity of a patient: the Soundex codes of every name part,
+ * sorted so first and last name may be swapped, the last ten mobile digits
+ * and the date of birth. Patients with equal keys are likely the same person.
+ * <p>
+ * The key is stored as a 64-bit hash so its index stays small; callers compare
+ * {@link #canonical} forms to rule out the rare hash collision.
+ */
+public final class PatientIdentityKey {
+
+	// Soundex digit per letter a..z; '0' marks vowels and the letters Soundex drops
+	private static final String SOUNDEX_CODES = "01230120022455012623010202";
+	private static final int MOBILE_DIGITS = 10;
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private PatientIdentityKey() {
+	}
+
+	public static long of(String firstName, String lastName, LocalDate dateOfBirth, String mobile) {
+		return hash(canonical(firstName, lastName, dateOfBirth, mobile));
+	}
+
+	public static String canonical(String firstName, String lastName, LocalDate dateOfBirth, String mobile) {
+		List<String> codes = new ArrayList<>();
+		addNameCodes(firstName, codes);
+		addNameCodes(lastName, codes);
+		codes.sort(null);
+
+		String digits = mobile == null ? "" : mobile.replaceAll("[^0-9]", "");
+		if (digits.length() > MOBILE_DIGITS) {
+			// Drop the country code so +91 98... and 98... agree
+			digits = digits.substring(digits.length() - MOBILE_DIGITS);
+		}
+		return String.join(" ", codes) + "|" + digits + "|" + dateOfBirth;
+	}
+
+	static String soundex(String word) {
+		char first = word.charAt(0);
+		StringBuilder code = new StringBuilder(4).append(first);
+		char previous = SOUNDEX_CODES.charAt(first - 'a');
+
+		for (int i = 1; i < word.length() && code.length() < 4; i++) {
+			char c = word.charAt(i);
+			char digit = SOUNDEX_CODES.charAt(c - 'a');
+			if (digit != '0' && digit != previous) {
+				code.append(digit);
+			}
+			// h and w do not separate letters with the same code; vowels do
+			if (c != 'h' && c != 'w') {
+				previous = digit;
+			}
+		}
+		while (code.length() < 4) {
+			code.append('0');
+		}
+		return code.toString();
+	}
+
+	private static void addNameCodes(String name, List<String> codes) {
+		if (name == null) {
+			return;
+		}
+		String folded = Normalizer.normalize(name, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+		for (String part : folded.split("\\s+")) {
+			String letters = part.replaceAll("[^a-z]", "");
+			if (!letters.isEmpty()) {
+				codes.add(soundex(letters));
+			} else if (!part.isBlank()) {
+				// Soundex only codes Latin letters; other scripts are compared without their vowel signs
+				codes.add(part.replaceAll("\\p{M}", ""));
+			}
+		}
+	}
+
+	public static long hash(String canonical) {
+		long hash = FNV_OFFSET_BASIS;
+		for (int i = 0; i < canonical.length(); i++) {
+			char c = canonical.charAt(i);
+			hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+			hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+		}
+		return hash;
+	}
+}
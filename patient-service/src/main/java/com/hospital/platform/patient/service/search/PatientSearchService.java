@@ -0,0 +1,118 @@
+package com.hospital.platform.patient.service.search;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.hospital.platform.patient.dao.PatientSearchDao;
+import com.hospital.platform.patient.dto.PatientSearchResultDTO;
+import com.hospital.platform.patient.exception.ApplicationException;
+import com.hospital.platform.patient.exception.ErrorCode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Plans a free-text patient search. A query of digits is a mobile number,
+ * anything else a name. Prefix matches come first, each read in order from a
+ * btree index. When they do not fill the page and the query is long enough
+ * for trigrams to be meaningful, typo-tolerant matches fill the rest.
+ */
+@Service
+@Slf4j
+public class PatientSearchService {
+
+	public static final int MAX_LIMIT = 50;
+
+	private static final int MIN_MOBILE_DIGITS = 3;
+	private static final int MIN_NAME_LENGTH = 2;
+	private static final int MIN_FUZZY_MOBILE_DIGITS = 6;
+	private static final int MIN_FUZZY_NAME_LENGTH = 3;
+
+	private final PatientSearchDao searchDao;
+	private final boolean fuzzyEnabled;
+	private final Timer mobileSearchTimer;
+	private final Timer nameSearchTimer;
+
+	public PatientSearchService(PatientSearchDao searchDao,
+			@Value("${patient.search.fuzzy-enabled:true}") boolean fuzzyEnabled,
+			MeterRegistry meterRegistry) {
+		this.searchDao = searchDao;
+		this.fuzzyEnabled = fuzzyEnabled;
+		this.mobileSearchTimer = searchTimer(meterRegistry, "mobile");
+		this.nameSearchTimer = searchTimer(meterRegistry, "name");
+	}
+
+	public List<PatientSearchResultDTO> search(String query, int limit) {
+		if (limit < 1 || limit > MAX_LIMIT) {
+			throw new ApplicationException(ErrorCode.VALIDATION_ERROR, "Limit must be between 1 and " + MAX_LIMIT);
+		}
+		String normalized = query == null ? "" : query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+
+		if (normalized.matches("[0-9][0-9 -]*")) {
+			String digits = normalized.replaceAll("[^0-9]", "");
+			if (digits.length() < MIN_MOBILE_DIGITS) {
+				throw new ApplicationException(ErrorCode.VALIDATION_ERROR,
+						"Enter at least " + MIN_MOBILE_DIGITS + " digits of the mobile number");
+			}
+			return this.mobileSearchTimer.record(() -> searchMobile(digits, limit));
+		}
+
+		if (normalized.length() < MIN_NAME_LENGTH) {
+			throw new ApplicationException(ErrorCode.VALIDATION_ERROR,
+					"Enter at least " + MIN_NAME_LENGTH + " characters of the name");
+		}
+		return this.nameSearchTimer.record(() -> searchName(normalized, limit));
+	}
+
+	private List<PatientSearchResultDTO> searchMobile(String digits, int limit) {
+		List<PatientSearchResultDTO> results = this.searchDao.findByMobilePrefix(digits, limit);
+		if (results.size() < limit && this.fuzzyEnabled && digits.length() >= MIN_FUZZY_MOBILE_DIGITS) {
+			results = fill(results, this.searchDao.findByMobileSimilarity(digits, limit), limit);
+		}
+		return results;
+	}
+
+	private List<PatientSearchResultDTO> searchName(String name, int limit) {
+		String[] terms = name.split(" ");
+		boolean singleTerm = terms.length == 1;
+		String otherTerm = singleTerm ? "" : terms[terms.length - 1];
+
+		List<PatientSearchResultDTO> results = this.searchDao.findByNamePrefix(terms[0], otherTerm, limit);
+		if (results.size() < limit && this.fuzzyEnabled && name.length() >= MIN_FUZZY_NAME_LENGTH) {
+			results = fill(results, this.searchDao.findByNameSimilarity(name, singleTerm, limit), limit);
+		}
+		return results;
+	}
+
+	private static List<PatientSearchResultDTO> fill(List<PatientSearchResultDTO> prefixMatches,
+			List<PatientSearchResultDTO> fuzzyMatches, int limit) {
+
+		List<PatientSearchResultDTO> results = new ArrayList<>(prefixMatches);
+		Set<Long> seen = new HashSet<>();
+		prefixMatches.forEach(match -> seen.add(match.getHospitalPatientId()));
+		for (PatientSearchResultDTO match : fuzzyMatches) {
+			if (results.size() == limit) {
+				break;
+			}
+			if (seen.add(match.getHospitalPatientId())) {
+				results.add(match);
+			}
+		}
+		return results;
+	}
+
+	private static Timer searchTimer(MeterRegistry meterRegistry, String kind) {
+		return Timer.builder("patient_search_duration")
+				.description("Time to plan and run a patient search")
+				.tag("kind", kind)
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+}
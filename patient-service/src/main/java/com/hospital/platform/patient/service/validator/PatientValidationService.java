@@ -1,6 +1,8 @@
 package com.hospital.platform.patient.service.validator;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
@@ -10,64 +12,107 @@ import com.hospital.platform.patient.exception.ErrorCode;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Registration rules checked with hand-written character scanners instead of
+ * {@code String.matches}, so a check neither compiles a pattern nor allocates.
+ * Every field is checked and all failures are reported together.
+ */
 @Service
 @Slf4j
 public class PatientValidationService {
 
-	private static final String NAME_REGEX = "^[A-Za-z .'-]{2,50}$";
+	private static final int NAME_MIN_LENGTH = 2;
+	private static final int NAME_MAX_LENGTH = 50;
+	private static final int MOBILE_MIN_LENGTH = 10;
+	private static final int MOBILE_MAX_LENGTH = 15;
 
 	public void validateForRegistration(PatientRequestDTO request) {
-		log.info("Validating requestDTO for patient registration");
-		validateDateOfBirth(request.getDateOfBirth());
-		validateMobile(request.getMobile());
-		validateEmergencyMobile(request.getMobile(), request.getEmergencyMobile());
-		validateName(request.getFirstName(), "First Name");
-		validateName(request.getLastName(), "Last Name");
-		validateEmail(request.getEmail());
-	}
-
-	private void validateDateOfBirth(LocalDate dob) {
-		if (dob.isAfter(LocalDate.now())) {
-			log.warn("Invalid DOB provided");
-			throw new ApplicationException(ErrorCode.VALIDATION_ERROR, "Invalid DOB Provided");
+		Map<String, String> errors = collectErrors(request);
+		if (errors.isEmpty()) {
+			return;
 		}
+
+		log.warn("Patient registration rejected for fields {}", errors.keySet());
+		String message = errors.size() == 1 ? errors.values().iterator().next() : "Invalid input parameters";
+		throw new ApplicationException(ErrorCode.VALIDATION_ERROR, message, errors);
 	}
 
-	private void validateMobile(String mobile) {
-		if (!mobile.matches("^[1-9][0-9]{9,14}$")) {
-			log.warn("Invalid mobile number provided");
-			throw new ApplicationException(ErrorCode.VALIDATION_ERROR, "Invalid Mobile Provided");
+	/**
+	 * @return field name to message for every rule the request breaks, in field
+	 *         order; empty when the request is valid
+	 */
+	public Map<String, String> collectErrors(PatientRequestDTO request) {
+		Map<String, String> errors = new LinkedHashMap<>(4);
+
+		if (request.getDateOfBirth() == null || request.getDateOfBirth().isAfter(LocalDate.now())) {
+			errors.put("dateOfBirth", "Invalid DOB Provided");
+		}
+		if (!isValidMobile(request.getMobile())) {
+			errors.put("mobile", "Invalid Mobile Provided");
 		}
-	}
 
-	private void validateEmergencyMobile(String mobile, String emergencyMobile) {
+		String emergencyMobile = request.getEmergencyMobile();
 		if (emergencyMobile != null) {
-			if (!emergencyMobile.matches("^[1-9][0-9]{9,14}$")) {
-				log.warn("Invalid emergency mobile number provided as : {}", emergencyMobile);
-				throw new ApplicationException(ErrorCode.VALIDATION_ERROR, "Invalid emergency mobile number format");
-			}
-			if (emergencyMobile.equals(mobile)) {
-				log.warn("Emergency mobile number is same as primary mobile");
-				throw new ApplicationException(
-						ErrorCode.VALIDATION_ERROR, "Emergency mobile number must be different from primary mobile");
+			if (!isValidMobile(emergencyMobile)) {
+				errors.put("emergencyMobile", "Invalid emergency mobile number format");
+			} else if (emergencyMobile.equals(request.getMobile())) {
+				errors.put("emergencyMobile", "Emergency mobile number must be different from primary mobile");
 			}
 		}
-	}
 
-	private void validateName(String name, String field) {
-		if (!name.matches(NAME_REGEX)) {
-			log.warn("Invalid {} provided", field);
-			throw new ApplicationException(
-					ErrorCode.VALIDATION_ERROR, "Invalid input for " + field);
+		if (!isValidName(request.getFirstName())) {
+			errors.put("firstName", "Invalid input for First Name");
+		}
+		if (!isValidName(request.getLastName())) {
+			errors.put("lastName", "Invalid input for Last Name");
+		}
+		if (!isValidEmail(request.getEmail())) {
+			errors.put("email", "Invalid Email Provided");
 		}
+		return errors;
 	}
 
-	private void validateEmail(String email) {
-		if (email != null && (!email.contains("@") || email.endsWith("@"))) {
-			log.warn("Invalid email provided as : {}", email);
-			throw new ApplicationException(ErrorCode.VALIDATION_ERROR, "Invalid Email Provided");
+	/** Equivalent to {@code ^[1-9][0-9]{9,14}$}. */
+	static boolean isValidMobile(String mobile) {
+		if (mobile == null) {
+			return false;
 		}
+		int length = mobile.length();
+		if (length < MOBILE_MIN_LENGTH || length > MOBILE_MAX_LENGTH) {
+			return false;
+		}
+		if (mobile.charAt(0) < '1' || mobile.charAt(0) > '9') {
+			return false;
+		}
+		for (int i = 1; i < length; i++) {
+			char c = mobile.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+		return true;
+	}
 
+	/** Equivalent to {@code ^[A-Za-z .'-]{2,50}$}. */
+	static boolean isValidName(String name) {
+		if (name == null) {
+			return false;
+		}
+		int length = name.length();
+		if (length < NAME_MIN_LENGTH || length > NAME_MAX_LENGTH) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			char c = name.charAt(i);
+			boolean letter = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+			if (!letter && c != ' ' && c != '.' && c != '\'' && c != '-') {
+				return false;
+			}
+		}
+		return true;
 	}
 
+	static boolean isValidEmail(String email) {
+		return email == null || (email.indexOf('@') >= 0 && !email.endsWith("@"));
+	}
 }
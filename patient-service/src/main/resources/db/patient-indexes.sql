@@ -0,0 +1,29 @@
+-- Applied after Hibernate schema update (see spring.sql.init in application.yml).
+-- Statements are separated by ';;' like the appointment service's script, and indexes are built
+-- CONCURRENTLY for the same reason.
+
+-- Patient search: COLLATE "C" btree indexes serve prefix LIKE and read in order,
+-- trigram GIN indexes serve typo-tolerant matches. Deleted patients are left out.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_patients_mobile_prefix ON patients ((mobile COLLATE "C")) WHERE is_deleted = FALSE;;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_patients_first_name_prefix ON patients ((lower(first_name) COLLATE "C")) WHERE is_deleted = FALSE;;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_patients_last_name_prefix ON patients ((lower(last_name) COLLATE "C")) WHERE is_deleted = FALSE;;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_patients_mobile_trgm ON patients USING gin (mobile gin_trgm_ops) WHERE is_deleted = FALSE;;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_patients_full_name_trgm ON patients
+    USING gin ((lower(first_name || ' ' || last_name)) gin_trgm_ops) WHERE is_deleted = FALSE;;
+
+-- Duplicate detection: equality probes on the hashed identity key (phonetic name + mobile + DOB)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_patients_identity_key ON patients USING hash (identity_key) WHERE is_deleted = FALSE;;
+-- Rows still waiting for the startup backfill; empty once it has run, so the check at each startup is a single probe
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_patients_unkeyed ON patients (hospital_patient_id) WHERE identity_key IS NULL;;
+
+-- hospital_patient_id comes from a sequence in blocks of 50 (Hibernate's pooled optimizer) so inserts can be
+-- batched. A column created as serial or identity is moved onto it, and the sequence is only ever moved forward
+-- past existing ids, so running this again or on another instance is harmless.
+CREATE SEQUENCE IF NOT EXISTS patient_hospital_id_seq INCREMENT BY 50;;
+ALTER TABLE patients ALTER COLUMN hospital_patient_id DROP IDENTITY IF EXISTS;;
+ALTER TABLE patients ALTER COLUMN hospital_patient_id SET DEFAULT nextval('patient_hospital_id_seq');;
+SELECT setval('patient_hospital_id_seq', GREATEST((SELECT max(hospital_patient_id) FROM patients), 1))
+WHERE (SELECT max(hospital_patient_id) FROM patients) > (SELECT last_value FROM patient_hospital_id_seq)
+   OR NOT (SELECT is_called FROM patient_hospital_id_seq);;
@@ -0,0 +1,145 @@
+package com.hospital.platform.patient.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.hospital.platform.patient.dao.PatientIdentityDao;
+import com.hospital.platform.patient.dto.PatientSearchResultDTO;
+import com.hospital.platform.patient.service.dedupe.DuplicatePatientDetector;
+import com.hospital.platform.patient.service.dedupe.PatientDedupeJob;
+
+/**
+ * The registration-time duplicate check over a million patients: one probe of
+ * the identity key hash index against matching name, mobile and date of birth
+ * column by column, which no index serves and so scans {@code patients}.
+ * Setup also runs the dedupe job's backfill over the whole table.
+ * <p>
+ * Needs a running database, e.g. the docker-compose {@code postgres}; set
+ * {@code DB_HOST}, {@code DB_PORT}, {@code DB_NAME}, {@code DB_USER} and
+ * {@code DB_PASSWORD} as for the service. Data goes into a throwaway
+ * {@code jmh_dedupe} schema that is dropped afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DuplicatePatientCheckBenchmark {
+
+	private static final String SCHEMA = "jmh_dedupe";
+	private static final int PATIENTS = 1_000_000;
+	private static final int PROBES = 1_000;
+	private static final String[] SYLLABLES = { "ka", "ra", "vi", "an", "su", "mi", "de", "lo", "ne", "sha", "ti",
+			"ja", "ro", "pa", "me", "ni", "ha", "li", "go", "ya", "ve", "ku", "da", "si", "mo", "re", "ba", "ta", "ch", "el" };
+
+	private JdbcTemplate jdbcTemplate;
+	private DuplicatePatientDetector detector;
+	private List<PatientSearchResultDTO> probes;
+
+	@Setup
+	public void setUp() throws IOException {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:postgresql://" + env("DB_HOST", "localhost")
+				+ ":" + env("DB_PORT", "5432") + "/" + env("DB_NAME", "hospital_patient_db") + "?currentSchema=" + SCHEMA + ",public",
+				env("DB_USER", "postgres"), env("DB_PASSWORD", "postgres"));
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+
+		this.jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+		this.jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+		this.jdbcTemplate.execute("""
+				CREATE TABLE patients (
+				    hospital_patient_id BIGINT PRIMARY KEY,
+				    id VARCHAR(50) NOT NULL,
+				    first_name VARCHAR(50) NOT NULL,
+				    last_name VARCHAR(50) NOT NULL,
+				    date_of_birth DATE NOT NULL,
+				    gender VARCHAR(10) NOT NULL,
+				    mobile VARCHAR(15) NOT NULL,
+				    identity_key BIGINT,
+				    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+				    created_on TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+				)
+				""");
+
+		// Rows arrive without identity keys, as on a database that predates them
+		String syllables = "ARRAY['" + String.join("','", SYLLABLES) + "']";
+		int n = SYLLABLES.length;
+		this.jdbcTemplate.execute("INSERT INTO patients (hospital_patient_id, id, first_name, last_name, date_of_birth,"
+				+ " gender, mobile)"
+				+ " SELECT g, 'P' || g,"
+				+ " initcap(s[1 + g % " + n + "] || s[1 + (g / 7) % " + n + "]),"
+				+ " initcap(s[1 + (g / 3) % " + n + "] || s[1 + (g / 11) % " + n + "] || s[1 + (g / 101) % " + n + "]),"
+				+ " date '1950-01-01' + (g % 25000), CASE WHEN g % 2 = 0 THEN 'FEMALE' ELSE 'MALE' END,"
+				+ " (9000000000 + (g::bigint * 7919) % 1000000000)::text"
+				+ " FROM generate_series(1, " + PATIENTS + ") g, (SELECT " + syllables + " AS s) syllables");
+
+		PatientIdentityDao identityDao = new PatientIdentityDao(this.jdbcTemplate);
+		new PatientDedupeJob(identityDao, 5_000).backfillIdentityKeys();
+
+		try (InputStream script = getClass().getResourceAsStream("/db/patient-indexes.sql")) {
+			for (String statement : new String(script.readAllBytes(), StandardCharsets.UTF_8).split(";;")) {
+				if (!statement.replaceAll("(?m)^\\s*--.*$", "").isBlank()) {
+					this.jdbcTemplate.execute(statement);
+				}
+			}
+		}
+		this.jdbcTemplate.execute("ANALYZE patients");
+
+		this.detector = new DuplicatePatientDetector(identityDao);
+		this.probes = this.jdbcTemplate.query("SELECT * FROM patients TABLESAMPLE SYSTEM (1) LIMIT " + PROBES,
+				(rs, rowNum) -> new PatientSearchResultDTO(rs.getLong("hospital_patient_id"), rs.getString("first_name"),
+						rs.getString("last_name"), rs.getObject("date_of_birth", LocalDate.class), rs.getString("gender"),
+						rs.getString("mobile"), null));
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+	}
+
+	@Benchmark
+	public List<PatientSearchResultDTO> identityKeyProbe() {
+		PatientSearchResultDTO probe = randomProbe();
+		return this.detector.findCandidates(probe.getFirstName(), probe.getLastName(), probe.getDateOfBirth(),
+				probe.getMobile());
+	}
+
+	@Benchmark
+	public List<Long> attributeScan() {
+		PatientSearchResultDTO probe = randomProbe();
+		return this.jdbcTemplate.queryForList("""
+				SELECT hospital_patient_id FROM patients
+				WHERE is_deleted = FALSE AND lower(first_name) = ? AND lower(last_name) = ?
+				    AND mobile = ? AND date_of_birth = ?
+				""", Long.class, probe.getFirstName().toLowerCase(), probe.getLastName().toLowerCase(),
+				probe.getMobile(), probe.getDateOfBirth());
+	}
+
+	private PatientSearchResultDTO randomProbe() {
+		return this.probes.get(ThreadLocalRandom.current().nextInt(this.probes.size()));
+	}
+
+	private static String env(String name, String defaultValue) {
+		String value = System.getenv(name);
+		return value == null || value.isBlank() ? defaultValue : value;
+	}
+}
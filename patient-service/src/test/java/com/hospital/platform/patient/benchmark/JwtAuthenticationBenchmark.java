@@ -0,0 +1,89 @@
+package com.hospital.platform.patient.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.hospital.platform.security.JwtClaimsCache;
+import com.hospital.platform.security.JwtPrincipal;
+import com.hospital.platform.security.JwtTokenProvider;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Per-request authentication cost: the legacy filter path (three parses, key
+ * rebuilt each time) against a single verified parse and a claims-cache hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+	private static final String SECRET = "my-super-secure-jwt-secret-key-256-bit-long!!";
+
+	private String token;
+	private JwtTokenProvider tokenProvider;
+	private JwtClaimsCache claimsCache;
+
+	@Setup
+	public void setUp() {
+		this.token = Jwts.builder()
+				.subject("receptionist-1")
+				.claim("roles", List.of("ROLE_RECEPTIONIST", "ROLE_DOCTOR"))
+				.issuedAt(new Date())
+				.expiration(Date.from(Instant.now().plus(Duration.ofHours(1))))
+				.signWith(legacySigningKey())
+				.compact();
+
+		this.tokenProvider = new JwtTokenProvider(SECRET);
+		this.claimsCache = new JwtClaimsCache(10_000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+		this.claimsCache.getOrVerify(this.token, this.tokenProvider::parseToken);
+	}
+
+	@Benchmark
+	public void legacyTripleParse(Blackhole bh) {
+		bh.consume(Jwts.parser().verifyWith(legacySigningKey()).build().parseSignedClaims(this.token));
+		Claims subjectClaims = Jwts.parser().verifyWith(legacySigningKey()).build().parseSignedClaims(this.token).getPayload();
+		bh.consume(subjectClaims.getSubject());
+		Claims roleClaims = Jwts.parser().verifyWith(legacySigningKey()).build().parseSignedClaims(this.token).getPayload();
+		bh.consume(roleClaims.get("roles", List.class));
+	}
+
+	@Benchmark
+	public Optional<JwtPrincipal> singleParse() {
+		return this.tokenProvider.parseToken(this.token);
+	}
+
+	@Benchmark
+	public Optional<JwtPrincipal> cachedLookup() {
+		return this.claimsCache.getOrVerify(this.token, this.tokenProvider::parseToken);
+	}
+
+	private static SecretKey legacySigningKey() {
+		return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+	}
+}
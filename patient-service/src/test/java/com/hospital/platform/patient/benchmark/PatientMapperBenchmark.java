@@ -0,0 +1,66 @@
+package com.hospital.platform.patient.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hospital.platform.patient.dto.PatientRequestDTO;
+import com.hospital.platform.patient.dto.PatientResponseDTO;
+import com.hospital.platform.patient.entity.PatientEntity;
+import com.hospital.platform.patient.mapper.PatientMapper;
+
+/**
+ * Per-row mapping cost on the registration, bulk import and lookup paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatientMapperBenchmark {
+
+	private PatientMapper mapper;
+	private PatientRequestDTO request;
+	private PatientEntity entity;
+
+	@Setup
+	public void setUp() {
+		this.mapper = new PatientMapper();
+
+		this.request = new PatientRequestDTO();
+		this.request.setFirstName("Mary");
+		this.request.setLastName("O'Neil");
+		this.request.setDateOfBirth(LocalDate.of(1985, 4, 12));
+		this.request.setGender("F");
+		this.request.setMobile("9876543210");
+		this.request.setEmergencyMobile("9123456780");
+		this.request.setEmail("mary@example.org");
+		this.request.setAddress("12 Harbour Road, Pune");
+
+		this.entity = this.mapper.fromRequestDTO(this.request);
+		this.entity.setHospitalPatientId(1001L);
+		this.entity.setCreatedOn(LocalDateTime.now());
+	}
+
+	@Benchmark
+	public PatientEntity entityFromRequest() {
+		return this.mapper.fromRequestDTO(this.request);
+	}
+
+	@Benchmark
+	public PatientResponseDTO responseFromEntity() {
+		return this.mapper.fromPatientEntity(this.entity);
+	}
+}
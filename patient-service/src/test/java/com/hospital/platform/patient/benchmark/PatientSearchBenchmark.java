@@ -0,0 +1,147 @@
+package com.hospital.platform.patient.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.hospital.platform.patient.dao.PatientSearchDao;
+import com.hospital.platform.patient.dto.PatientSearchResultDTO;
+import com.hospital.platform.patient.service.search.PatientSearchService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Patient search over a million generated patients, sampled so the p99 can be
+ * read off directly: mobile and name prefixes, and typo'd single names and
+ * full names that only the trigram fallback finds.
+ * <p>
+ * Needs a running database, e.g. the docker-compose {@code postgres}; set
+ * {@code DB_HOST}, {@code DB_PORT}, {@code DB_NAME}, {@code DB_USER} and
+ * {@code DB_PASSWORD} as for the service. Data goes into a throwaway
+ * {@code jmh_search} schema that is dropped afterwards; the indexes come from
+ * the service's own {@code db/patient-indexes.sql}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PatientSearchBenchmark {
+
+	private static final String SCHEMA = "jmh_search";
+	private static final int PATIENTS = 1_000_000;
+	private static final int LIMIT = 20;
+	private static final String[] SYLLABLES = { "ka", "ra", "vi", "an", "su", "mi", "de", "lo", "ne", "sha", "ti",
+			"ja", "ro", "pa", "me", "ni", "ha", "li", "go", "ya", "ve", "ku", "da", "si", "mo", "re", "ba", "ta", "ch", "el" };
+
+	private JdbcTemplate jdbcTemplate;
+	private PatientSearchService searchService;
+
+	@Setup
+	public void setUp() throws IOException {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:postgresql://" + env("DB_HOST", "localhost")
+				+ ":" + env("DB_PORT", "5432") + "/" + env("DB_NAME", "hospital_patient_db") + "?currentSchema=" + SCHEMA + ",public",
+				env("DB_USER", "postgres"), env("DB_PASSWORD", "postgres"));
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+
+		this.jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+		this.jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+		this.jdbcTemplate.execute("""
+				CREATE TABLE patients (
+				    hospital_patient_id BIGINT PRIMARY KEY,
+				    id VARCHAR(50) NOT NULL,
+				    first_name VARCHAR(50) NOT NULL,
+				    last_name VARCHAR(50) NOT NULL,
+				    date_of_birth DATE NOT NULL,
+				    gender VARCHAR(10) NOT NULL,
+				    mobile VARCHAR(15) NOT NULL,
+				    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+				    created_on TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+				)
+				""");
+
+		// Two-syllable first names and three-syllable last names; every 50th patient is deleted
+		String syllables = "ARRAY['" + String.join("','", SYLLABLES) + "']";
+		int n = SYLLABLES.length;
+		this.jdbcTemplate.execute("INSERT INTO patients (hospital_patient_id, id, first_name, last_name, date_of_birth,"
+				+ " gender, mobile, is_deleted)"
+				+ " SELECT g, 'P' || g,"
+				+ " initcap(s[1 + g % " + n + "] || s[1 + (g / 7) % " + n + "]),"
+				+ " initcap(s[1 + (g / 3) % " + n + "] || s[1 + (g / 11) % " + n + "] || s[1 + (g / 101) % " + n + "]),"
+				+ " date '1950-01-01' + (g % 25000), CASE WHEN g % 2 = 0 THEN 'FEMALE' ELSE 'MALE' END,"
+				+ " (9000000000 + (g::bigint * 7919) % 1000000000)::text, g % 50 = 0"
+				+ " FROM generate_series(1, " + PATIENTS + ") g, (SELECT " + syllables + " AS s) syllables");
+
+		try (InputStream script = getClass().getResourceAsStream("/db/patient-indexes.sql")) {
+			for (String statement : new String(script.readAllBytes(), StandardCharsets.UTF_8).split(";;")) {
+				if (!statement.replaceAll("(?m)^\\s*--.*$", "").isBlank()) {
+					this.jdbcTemplate.execute(statement);
+				}
+			}
+		}
+		this.jdbcTemplate.execute("ANALYZE patients");
+
+		this.searchService = new PatientSearchService(new PatientSearchDao(this.jdbcTemplate), true, new SimpleMeterRegistry());
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+	}
+
+	@Benchmark
+	public List<PatientSearchResultDTO> mobilePrefix() {
+		return this.searchService.search("9" + (100 + ThreadLocalRandom.current().nextInt(900)), LIMIT);
+	}
+
+	@Benchmark
+	public List<PatientSearchResultDTO> namePrefix() {
+		return this.searchService.search(randomSyllable() + randomSyllable().charAt(0), LIMIT);
+	}
+
+	@Benchmark
+	public List<PatientSearchResultDTO> fullNamePrefix() {
+		return this.searchService.search(randomSyllable() + randomSyllable() + " " + randomSyllable(), LIMIT);
+	}
+
+	@Benchmark
+	public List<PatientSearchResultDTO> singleNameTypo() {
+		// A doubled letter is a typo no stored name has, so only the fuzzy stage can answer
+		String syllable = randomSyllable();
+		return this.searchService.search(syllable + syllable.charAt(syllable.length() - 1) + randomSyllable(), LIMIT);
+	}
+
+	@Benchmark
+	public List<PatientSearchResultDTO> fullNameTypo() {
+		String first = randomSyllable() + randomSyllable();
+		String last = randomSyllable() + randomSyllable() + randomSyllable();
+		return this.searchService.search(first + " " + last.charAt(0) + last, LIMIT);
+	}
+
+	private static String randomSyllable() {
+		return SYLLABLES[ThreadLocalRandom.current().nextInt(SYLLABLES.length)];
+	}
+
+	private static String env(String name, String defaultValue) {
+		String value = System.getenv(name);
+		return value == null || value.isBlank() ? defaultValue : value;
+	}
+}
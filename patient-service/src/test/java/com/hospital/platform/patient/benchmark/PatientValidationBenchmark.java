@@ -0,0 +1,111 @@
+package com.hospital.platform.patient.benchmark;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hospital.platform.patient.dto.PatientRequestDTO;
+import com.hospital.platform.patient.service.validator.PatientValidationService;
+
+/**
+ * Registration validation cost per request: the previous {@code String.matches}
+ * rules (pattern compiled on every call) against the character scanners, for a
+ * valid request and for one breaking every rule.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatientValidationBenchmark {
+
+	private static final String NAME_REGEX = "^[A-Za-z .'-]{2,50}$";
+	private static final String MOBILE_REGEX = "^[1-9][0-9]{9,14}$";
+
+	private PatientValidationService validationService;
+	private PatientRequestDTO valid;
+	private PatientRequestDTO invalid;
+
+	@Setup
+	public void setUp() {
+		this.validationService = new PatientValidationService();
+		this.valid = request("Mary-Jane", "O'Neil", "9876543210", "9123456780", "mary@example.org");
+		this.invalid = request("M", "0'Neil", "0123", "0123", "mary@");
+
+		if (!this.validationService.collectErrors(this.valid).isEmpty() || legacyErrorCount(this.valid) != 0) {
+			throw new IllegalStateException("Valid fixture rejected");
+		}
+		if (this.validationService.collectErrors(this.invalid).size() != legacyErrorCount(this.invalid)) {
+			throw new IllegalStateException("Scanner and regex rules disagree");
+		}
+	}
+
+	@Benchmark
+	public int legacyRegexValid() {
+		return legacyErrorCount(this.valid);
+	}
+
+	@Benchmark
+	public Map<String, String> scannerValid() {
+		return this.validationService.collectErrors(this.valid);
+	}
+
+	@Benchmark
+	public int legacyRegexInvalid() {
+		return legacyErrorCount(this.invalid);
+	}
+
+	@Benchmark
+	public Map<String, String> scannerInvalid() {
+		return this.validationService.collectErrors(this.invalid);
+	}
+
+	private static int legacyErrorCount(PatientRequestDTO request) {
+		int errors = 0;
+		if (request.getDateOfBirth().isAfter(LocalDate.now())) {
+			errors++;
+		}
+		if (!request.getMobile().matches(MOBILE_REGEX)) {
+			errors++;
+		}
+		if (request.getEmergencyMobile() != null && (!request.getEmergencyMobile().matches(MOBILE_REGEX)
+				|| request.getEmergencyMobile().equals(request.getMobile()))) {
+			errors++;
+		}
+		if (!request.getFirstName().matches(NAME_REGEX)) {
+			errors++;
+		}
+		if (!request.getLastName().matches(NAME_REGEX)) {
+			errors++;
+		}
+		if (request.getEmail() != null && (!request.getEmail().contains("@") || request.getEmail().endsWith("@"))) {
+			errors++;
+		}
+		return errors;
+	}
+
+	private static PatientRequestDTO request(String firstName, String lastName, String mobile,
+			String emergencyMobile, String email) {
+		PatientRequestDTO request = new PatientRequestDTO();
+		request.setFirstName(firstName);
+		request.setLastName(lastName);
+		request.setDateOfBirth(LocalDate.of(1985, 4, 12));
+		request.setGender("F");
+		request.setMobile(mobile);
+		request.setEmergencyMobile(emergencyMobile);
+		request.setEmail(email);
+		return request;
+	}
+}
@@ -0,0 +1,136 @@
+package com.hospital.platform.patient.service.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.hospital.platform.patient.dto.PatientRequestDTO;
+import com.hospital.platform.patient.exception.ApplicationException;
+import com.hospital.platform.patient.exception.ErrorCode;
+
+class CsvPatientRowReaderTest {
+
+	@Test
+	void splitsPlainFields() {
+		assertThat(CsvPatientRowReader.split("Asha,Rao,,9876543210")).containsExactly("Asha", "Rao", "", "9876543210");
+	}
+
+	@Test
+	void quotedFieldsMayContainCommas() {
+		assertThat(CsvPatientRowReader.split("Asha,\"12, MG Road, Pune\",F"))
+				.containsExactly("Asha", "12, MG Road, Pune", "F");
+	}
+
+	@Test
+	void doubledQuotesAreAnEscapedQuote() {
+		assertThat(CsvPatientRowReader.split("\"Flat 4 \"\"B\"\"\",\"\"\"\"")).containsExactly("Flat 4 \"B\"", "\"");
+	}
+
+	@Test
+	void emptyQuotedFieldIsEmpty() {
+		assertThat(CsvPatientRowReader.split("\"\",x,")).containsExactly("", "x", "");
+	}
+
+	@Test
+	void unterminatedQuoteIsRejected() {
+		assertThat(CsvPatientRowReader.split("Asha,\"Rao")).isNull();
+	}
+
+	@Test
+	void readsRowsByHeaderNameInAnyOrder() throws IOException {
+		CsvPatientRowReader reader = reader("""
+				Mobile,LASTNAME,firstName,dateOfBirth,address
+				9876543210,Rao,Asha,1990-04-12,"12, MG Road"
+				""");
+
+		ParsedPatientRow row = reader.next();
+
+		assertThat(row.parseError()).isNull();
+		assertThat(row.line()).isEqualTo(2);
+		PatientRequestDTO request = row.request();
+		assertThat(request.getFirstName()).isEqualTo("Asha");
+		assertThat(request.getLastName()).isEqualTo("Rao");
+		assertThat(request.getMobile()).isEqualTo("9876543210");
+		assertThat(request.getDateOfBirth()).isEqualTo(LocalDate.of(1990, 4, 12));
+		assertThat(request.getAddress()).isEqualTo("12, MG Road");
+		assertThat(request.getEmail()).isNull();
+		assertThat(reader.next()).isNull();
+	}
+
+	@Test
+	void byteOrderMarkBeforeTheHeaderIsIgnored() throws IOException {
+		CsvPatientRowReader reader = reader("\uFEFFfirstName,lastName\nAsha,Rao\n");
+
+		ParsedPatientRow row = reader.next();
+
+		assertThat(row.parseError()).isNull();
+		assertThat(row.request().getFirstName()).isEqualTo("Asha");
+	}
+
+	@Test
+	void columnCountMismatchRejectsOnlyThatRow() throws IOException {
+		CsvPatientRowReader reader = reader("""
+				firstName,lastName,mobile
+				Asha,Rao
+				Ravi,Kumar,9876543210,extra
+				Meera,Iyer,9123456780
+				""");
+
+		ParsedPatientRow tooFew = reader.next();
+		ParsedPatientRow tooMany = reader.next();
+		ParsedPatientRow valid = reader.next();
+
+		assertThat(tooFew.line()).isEqualTo(2);
+		assertThat(tooFew.parseError()).isEqualTo("Expected 3 columns but found 2");
+		assertThat(tooMany.parseError()).isEqualTo("Expected 3 columns but found 4");
+		assertThat(valid.parseError()).isNull();
+		assertThat(valid.request().getMobile()).isEqualTo("9123456780");
+	}
+
+	@Test
+	void blankLinesAreSkippedButCounted() throws IOException {
+		CsvPatientRowReader reader = reader("firstName\n\n   \nAsha\n");
+
+		assertThat(reader.next().line()).isEqualTo(4);
+	}
+
+	@Test
+	void unterminatedQuoteAndBadDateRejectTheRow() throws IOException {
+		CsvPatientRowReader reader = reader("""
+				firstName,dateOfBirth
+				"Asha,1990-04-12
+				Ravi,12/04/1990
+				""");
+
+		assertThat(reader.next().parseError()).isEqualTo("Unterminated quoted field");
+		assertThat(reader.next().parseError()).isEqualTo("dateOfBirth must be yyyy-MM-dd");
+	}
+
+	@Test
+	void unknownHeaderColumnFailsTheUpload() {
+		CsvPatientRowReader reader = reader("firstName,nickname\nAsha,Ash\n");
+
+		assertThatThrownBy(reader::next)
+				.isInstanceOf(ApplicationException.class)
+				.hasMessage("Unknown CSV column: nickname")
+				.extracting(ex -> ((ApplicationException) ex).getErrorCode())
+				.isEqualTo(ErrorCode.VALIDATION_ERROR);
+	}
+
+	@Test
+	void missingHeaderFailsTheUpload() {
+		assertThatThrownBy(reader("")::next)
+				.isInstanceOf(ApplicationException.class)
+				.hasMessage("CSV header row is missing");
+	}
+
+	private static CsvPatientRowReader reader(String csv) {
+		return new CsvPatientRowReader(new BufferedReader(new StringReader(csv)));
+	}
+}
@@ -0,0 +1,91 @@
+package com.hospital.platform.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded cache of verified principals keyed by the SHA-256 digest of the raw
+ * token, so repeat tokens skip signature verification. Entries never outlive
+ * the token's own expiry. Hit, miss and eviction counts are published as
+ * {@code cache_*} meters tagged {@code cache=jwt_claims}.
+ * <p>
+ * Not a component: each service registers it with {@code @Import} on its
+ * security configuration.
+ */
+public class JwtClaimsCache {
+
+	private final Cache<String, JwtPrincipal> cache;
+
+	public JwtClaimsCache(
+			@Value("${jwt.cache.max-size:10000}") long maxSize,
+			@Value("${jwt.cache.max-ttl:PT5M}") Duration maxTtl,
+			MeterRegistry meterRegistry) {
+
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfter(new TokenExpiry(maxTtl))
+				.recordStats()
+				.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "jwt_claims");
+	}
+
+	public Optional<JwtPrincipal> getOrVerify(String token, Function<String, Optional<JwtPrincipal>> verifier) {
+		String key = digest(token);
+
+		JwtPrincipal cached = this.cache.getIfPresent(key);
+		if (cached != null && !cached.isExpired(Instant.now())) {
+			return Optional.of(cached);
+		}
+
+		Optional<JwtPrincipal> verified = verifier.apply(token);
+		verified.ifPresent(principal -> this.cache.put(key, principal));
+		return verified;
+	}
+
+	private static String digest(String token) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(hash);
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not available", ex);
+		}
+	}
+
+	private record TokenExpiry(Duration maxTtl) implements Expiry<String, JwtPrincipal> {
+
+		@Override
+		public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+			if (principal.expiresAt() == null) {
+				return this.maxTtl.toNanos();
+			}
+			Duration remaining = Duration.between(Instant.now(), principal.expiresAt());
+			return Math.max(0, Math.min(remaining.toNanos(), this.maxTtl.toNanos()));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, principal, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
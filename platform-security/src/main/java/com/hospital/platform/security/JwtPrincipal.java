@@ -0,0 +1,31 @@
+package com.hospital.platform.security;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Verified identity extracted from a JWT in a single parse. Authorities are
+ * resolved once so cached principals can be reused without re-mapping roles.
+ */
+public record JwtPrincipal(String username, List<SimpleGrantedAuthority> authorities, Instant expiresAt) {
+
+	@SuppressWarnings("unchecked")
+	static JwtPrincipal fromClaims(Claims claims) {
+		List<String> roles = claims.get("roles", List.class);
+		List<SimpleGrantedAuthority> authorities = roles == null ? List.of()
+				: roles.stream().map(SimpleGrantedAuthority::new).toList();
+
+		return new JwtPrincipal(
+				claims.getSubject(),
+				authorities,
+				claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+	}
+
+	public boolean isExpired(Instant now) {
+		return this.expiresAt != null && !this.expiresAt.isAfter(now);
+	}
+}
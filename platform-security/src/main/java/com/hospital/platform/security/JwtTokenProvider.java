@@ -0,0 +1,39 @@
+package com.hospital.platform.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class JwtTokenProvider {
+
+	private final JwtParser jwtParser;
+
+	public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret) {
+		// The key and parser are immutable and thread-safe, so build them once instead of per call
+		this.jwtParser = Jwts.parser()
+				.verifyWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+				.build();
+	}
+
+	/**
+	 * Verifies the signature and expiry of the token and extracts the principal
+	 * in one parse. Returns empty when the token is invalid.
+	 */
+	public Optional<JwtPrincipal> parseToken(String token) {
+		try {
+			return Optional.of(JwtPrincipal.fromClaims(
+					this.jwtParser.parseSignedClaims(token).getPayload()));
+		} catch (JwtException | IllegalArgumentException ex) {
+			log.error("JWT validation error: {}", ex.getMessage());
+		}
+		return Optional.empty();
+	}
+}